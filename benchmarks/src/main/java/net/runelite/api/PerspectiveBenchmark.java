@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Polygon;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.coords.LocalPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks projecting points in front of the camera onto the canvas, over
+ * a scene of random tile heights. The client is a dynamic proxy returning
+ * fixed camera state, so the scores include its dispatch overhead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerspectiveBenchmark
+{
+	private static final int POINTS = 256; // must be a power of 2
+
+	private Client client;
+	private LocalPoint[] points;
+	private int next;
+
+	@Setup
+	public void setup()
+	{
+		final Random random = new Random(42L);
+
+		final int[][][] tileHeights = new int[Constants.MAX_Z][Constants.SCENE_SIZE + 1][Constants.SCENE_SIZE + 1];
+		for (int x = 0; x <= Constants.SCENE_SIZE; ++x)
+		{
+			for (int y = 0; y <= Constants.SCENE_SIZE; ++y)
+			{
+				tileHeights[0][x][y] = -random.nextInt(240);
+			}
+		}
+
+		final byte[][][] tileSettings = new byte[Constants.MAX_Z][Constants.SCENE_SIZE][Constants.SCENE_SIZE];
+		client = createClient(tileHeights, tileSettings);
+
+		// points up to 8 tiles either side of and 15 tiles in front of the camera
+		points = new LocalPoint[POINTS];
+		for (int i = 0; i < POINTS; ++i)
+		{
+			points[i] = new LocalPoint(6656 - 1024 + random.nextInt(2048), 5120 + 128 + random.nextInt(1920));
+		}
+	}
+
+	@Benchmark
+	public Point localToCanvas()
+	{
+		return Perspective.localToCanvas(client, points[next++ & (POINTS - 1)], 0);
+	}
+
+	@Benchmark
+	public Polygon getCanvasTilePoly()
+	{
+		return Perspective.getCanvasTilePoly(client, points[next++ & (POINTS - 1)]);
+	}
+
+	private static Client createClient(int[][][] tileHeights, byte[][][] tileSettings)
+	{
+		return (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getTileHeights":
+					return tileHeights;
+				case "getTileSettings":
+					return tileSettings;
+				case "getPlane":
+					return 0;
+				case "getCameraX":
+					return 6656;
+				case "getCameraY":
+					return 5120;
+				case "getCameraZ":
+					return -1000;
+				case "getCameraPitch":
+					return 256;
+				case "getCameraYaw":
+					return 0;
+				case "getViewportWidth":
+					return 512;
+				case "getViewportHeight":
+					return 334;
+				case "getViewportXOffset":
+				case "getViewportYOffset":
+					return 4;
+				case "getScale":
+					return 512;
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+}
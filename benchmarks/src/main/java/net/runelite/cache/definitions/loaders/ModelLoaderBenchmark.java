@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.loaders;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.definitions.ModelDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks decoding a synthetic untextured model, a grid of the given size
+ * with two triangles per cell.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelLoaderBenchmark
+{
+	private static final int TILE = 64;
+
+	@Param({"8", "32"})
+	public int gridSize;
+
+	private final ModelLoader loader = new ModelLoader();
+	private byte[] model;
+
+	@Setup
+	public void setup()
+	{
+		model = encodeGrid(gridSize);
+	}
+
+	@Benchmark
+	public ModelDefinition load()
+	{
+		return loader.load(0, model);
+	}
+
+	/**
+	 * Encodes a grid in the old model format, with no textures, skins, alphas or
+	 * per face priorities.
+	 */
+	static byte[] encodeGrid(int size)
+	{
+		final int rowLength = size + 1;
+		final int vertexCount = rowLength * rowLength;
+		final int faceCount = size * size * 2;
+
+		final ByteArrayOutputStream vertexFlags = new ByteArrayOutputStream();
+		final ByteArrayOutputStream vertexX = new ByteArrayOutputStream();
+		final ByteArrayOutputStream vertexY = new ByteArrayOutputStream();
+		final ByteArrayOutputStream vertexZ = new ByteArrayOutputStream();
+
+		int lastX = 0, lastY = 0, lastZ = 0;
+		for (int i = 0; i < rowLength; ++i)
+		{
+			for (int j = 0; j < rowLength; ++j)
+			{
+				final int x = j * TILE;
+				final int y = -((i * j) % 7) * 8;
+				final int z = i * TILE;
+
+				vertexFlags.write(7);
+				writeShortSmart(vertexX, x - lastX);
+				writeShortSmart(vertexY, y - lastY);
+				writeShortSmart(vertexZ, z - lastZ);
+
+				lastX = x;
+				lastY = y;
+				lastZ = z;
+			}
+		}
+
+		final ByteArrayOutputStream faceTypes = new ByteArrayOutputStream();
+		final ByteArrayOutputStream faceIndices = new ByteArrayOutputStream();
+		final ByteArrayOutputStream faceColors = new ByteArrayOutputStream();
+
+		int last = 0;
+		for (int i = 0; i < size; ++i)
+		{
+			for (int j = 0; j < size; ++j)
+			{
+				final int a = i * rowLength + j;
+				final int b = a + 1;
+				final int c = a + rowLength;
+				final int d = c + 1;
+
+				for (int[] face : new int[][]{{a, b, c}, {b, d, c}})
+				{
+					// type 1 faces encode all three vertices as deltas
+					faceTypes.write(1);
+					writeShortSmart(faceIndices, face[0] - last);
+					writeShortSmart(faceIndices, face[1] - face[0]);
+					writeShortSmart(faceIndices, face[2] - face[1]);
+					last = face[2];
+
+					final int color = (i * 31 + j * 17) & 0xffff;
+					faceColors.write(color >> 8);
+					faceColors.write(color);
+				}
+			}
+		}
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(out, vertexFlags);
+		write(out, faceTypes);
+		write(out, faceIndices);
+		write(out, faceColors);
+		write(out, vertexX);
+		write(out, vertexY);
+		write(out, vertexZ);
+
+		// footer
+		writeShort(out, vertexCount);
+		writeShort(out, faceCount);
+		out.write(0); // texture triangles
+		out.write(0); // face render types
+		out.write(0); // model priority
+		out.write(0); // face alphas
+		out.write(0); // face skins
+		out.write(0); // vertex skins
+		writeShort(out, vertexX.size());
+		writeShort(out, vertexY.size());
+		writeShort(out, vertexZ.size());
+		writeShort(out, faceIndices.size());
+		return out.toByteArray();
+	}
+
+	private static void write(ByteArrayOutputStream out, ByteArrayOutputStream section)
+	{
+		final byte[] b = section.toByteArray();
+		out.write(b, 0, b.length);
+	}
+
+	private static void writeShort(ByteArrayOutputStream out, int value)
+	{
+		out.write(value >> 8);
+		out.write(value);
+	}
+
+	private static void writeShortSmart(ByteArrayOutputStream out, int value)
+	{
+		if (value >= -64 && value < 64)
+		{
+			out.write(value + 64);
+		}
+		else
+		{
+			writeShort(out, value + 0xc000);
+		}
+	}
+}
@@ -27,6 +27,7 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorageCompactor;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -45,6 +46,7 @@ public class Cache
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "compact", true, "directory to write a compacted copy of the cache to");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -61,6 +63,15 @@ public class Cache
 
 		String cache = cmd.getOptionValue("cache");
 
+		if (cmd.hasOption("compact"))
+		{
+			String compactdir = cmd.getOptionValue("compact");
+
+			System.out.println("Compacting cache to " + compactdir);
+			DiskStorageCompactor.compact(new File(cache), new File(compactdir));
+			return;
+		}
+
 		Store store = loadStore(cache);
 
 		if (cmd.hasOption("items"))
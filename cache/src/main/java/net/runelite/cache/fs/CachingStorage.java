@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import lombok.Value;
+
+/**
+ * Storage which caches the decoded files of archives, so an archive used by
+ * multiple managers is only decompressed and split once. Entries are keyed by
+ * the archive crc, so rewritten archives are never served stale.
+ * <p>
+ * The cached {@link ArchiveFiles} are shared between every caller loading the
+ * same archive, and are read-only. Callers which need to modify the files of
+ * an archive must load and split it themselves with {@link #loadArchive(Archive)}.
+ */
+public class CachingStorage implements Storage
+{
+	/**
+	 * Default maximum size of the cached file contents, in bytes
+	 */
+	private static final long DEFAULT_MAXIMUM_WEIGHT = 64 * 1024 * 1024;
+
+	@Value
+	private static class ArchiveKey
+	{
+		private final int index;
+		private final int archive;
+		private final int crc;
+	}
+
+	private final Storage storage;
+	private final Cache<ArchiveKey, ArchiveFiles> cache;
+
+	public CachingStorage(Storage storage)
+	{
+		this(storage, DEFAULT_MAXIMUM_WEIGHT);
+	}
+
+	/**
+	 * @param storage storage to load archives from
+	 * @param maximumWeight maximum size of the cached file contents, in bytes
+	 */
+	public CachingStorage(Storage storage, long maximumWeight)
+	{
+		this.storage = storage;
+		this.cache = CacheBuilder.newBuilder()
+			// a single segment, otherwise the weight is split between segments and large archives are never cached
+			.concurrencyLevel(1)
+			.maximumWeight(maximumWeight)
+			.weigher((ArchiveKey key, ArchiveFiles files) -> weigh(files))
+			.recordStats()
+			.build();
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		storage.init(store);
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		cache.invalidateAll();
+		storage.close();
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		storage.load(store);
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		storage.save(store);
+	}
+
+	@Override
+	public byte[] loadArchive(Archive archive) throws IOException
+	{
+		return storage.loadArchive(archive);
+	}
+
+	@Override
+	public void saveArchive(Archive archive, byte[] data) throws IOException
+	{
+		storage.saveArchive(archive, data);
+	}
+
+	@Override
+	public ArchiveFiles loadArchiveFiles(Archive archive) throws IOException
+	{
+		ArchiveKey key = new ArchiveKey(archive.getIndex().getId(), archive.getArchiveId(), archive.getCrc());
+		try
+		{
+			return cache.get(key, () -> storage.loadArchiveFiles(archive));
+		}
+		catch (ExecutionException | UncheckedExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			Throwables.throwIfInstanceOf(cause, IOException.class);
+			Throwables.throwIfUnchecked(cause);
+			throw new IOException(cause);
+		}
+	}
+
+	public CacheStats getStats()
+	{
+		return cache.stats();
+	}
+
+	private static int weigh(ArchiveFiles files)
+	{
+		int weight = 0;
+		for (FSFile file : files.getFiles())
+		{
+			byte[] contents = file.getContents();
+			if (contents != null)
+			{
+				weight += contents.length;
+			}
+		}
+		return weight;
+	}
+}
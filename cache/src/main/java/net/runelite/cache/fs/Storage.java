@@ -39,5 +39,20 @@ public interface Storage extends AutoCloseable
 
 	byte[] loadArchive(Archive archive) throws IOException;
 
+	/**
+	 * Loads an archive and splits it into its files. The archive must not be
+	 * encrypted. The returned files may be shared with other callers, such as
+	 * by {@link CachingStorage}, so they are read-only and must not be modified.
+	 *
+	 * @param archive archive to load
+	 * @return the files of the archive
+	 * @throws IOException
+	 */
+	default ArchiveFiles loadArchiveFiles(Archive archive) throws IOException
+	{
+		byte[] archiveData = loadArchive(archive);
+		return archive.getFiles(archiveData);
+	}
+
 	void saveArchive(Archive archive, byte[] data) throws IOException;
 }
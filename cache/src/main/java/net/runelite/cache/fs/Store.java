@@ -43,9 +43,16 @@ public final class Store implements Closeable
 	private final Storage storage;
 	private final List<Index> indexes = new ArrayList<>();
 
+	/**
+	 * Opens the disk cache in the given folder. The decoded files of archives are
+	 * cached, as the cache tools load the same config archives from several managers.
+	 *
+	 * @param folder cache folder
+	 * @throws IOException
+	 */
 	public Store(File folder) throws IOException
 	{
-		storage = new DiskStorage(folder);
+		storage = new CachingStorage(new DiskStorage(folder));
 		storage.init(this);
 	}
 
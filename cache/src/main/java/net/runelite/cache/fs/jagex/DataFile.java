@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Collection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +43,12 @@ public class DataFile implements Closeable
 
 	private final RandomAccessFile dat;
 
+	/**
+	 * Sectors not in use by any archive, or null if the map hasn't been built,
+	 * in which case all writes are appended to the end of the file
+	 */
+	private BitSet freeSectors;
+
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
@@ -52,9 +60,13 @@ public class DataFile implements Closeable
 		dat.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
 		dat.setLength(0L);
+		if (freeSectors != null)
+		{
+			freeSectors.clear();
+		}
 	}
 
 	/**
@@ -169,47 +181,33 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
-	public DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
+	/**
+	 * Writes an archive to a run of contiguous sectors. If the free sector map has
+	 * been built, the first run of free sectors large enough is reused, otherwise
+	 * the archive is appended to the end of the file.
+	 *
+	 * @param indexId index of the archive
+	 * @param archiveId archive id
+	 * @param compressedData archive data
+	 * @return the start sector and length of the written data
+	 * @throws IOException
+	 */
+	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
-		int sector;
-		int startSector;
+		final int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		final int blockSize = SECTOR_SIZE - headerSize;
 
 		byte[] writeBuffer = new byte[SECTOR_SIZE];
 		ByteBuffer data = ByteBuffer.wrap(compressedData);
 
-		sector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
-		if (sector == 0)
-		{
-			sector = 1;
-		}
-		startSector = sector;
+		int startSector = allocate((compressedData.length + blockSize - 1) / blockSize);
 
-		for (int part = 0; data.hasRemaining(); ++part)
+		for (int part = 0, sector = startSector; data.hasRemaining(); ++part, ++sector)
 		{
-			int nextSector = 0;
-			int dataToWrite;
+			int nextSector = data.remaining() <= blockSize ? 0 : sector + 1;
 
-			if (nextSector == 0)
+			if (headerSize == 10)
 			{
-				nextSector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
-				if (nextSector == 0)
-				{
-					++nextSector;
-				}
-
-				if (nextSector == sector)
-				{
-					++nextSector;
-				}
-			}
-
-			if (0xFFFF < archiveId)
-			{
-				if (data.remaining() <= 510)
-				{
-					nextSector = 0;
-				}
-
 				writeBuffer[0] = (byte) (archiveId >> 24);
 				writeBuffer[1] = (byte) (archiveId >> 16);
 				writeBuffer[2] = (byte) (archiveId >> 8);
@@ -220,22 +218,9 @@ public class DataFile implements Closeable
 				writeBuffer[7] = (byte) (nextSector >> 8);
 				writeBuffer[8] = (byte) nextSector;
 				writeBuffer[9] = (byte) indexId;
-				dat.seek(SECTOR_SIZE * sector);
-				dat.write(writeBuffer, 0, 10);
-
-				dataToWrite = data.remaining();
-				if (dataToWrite > 510)
-				{
-					dataToWrite = 510;
-				}
 			}
 			else
 			{
-				if (data.remaining() <= 512)
-				{
-					nextSector = 0;
-				}
-
 				writeBuffer[0] = (byte) (archiveId >> 8);
 				writeBuffer[1] = (byte) archiveId;
 				writeBuffer[2] = (byte) (part >> 8);
@@ -244,19 +229,13 @@ public class DataFile implements Closeable
 				writeBuffer[5] = (byte) (nextSector >> 8);
 				writeBuffer[6] = (byte) nextSector;
 				writeBuffer[7] = (byte) indexId;
-				dat.seek(SECTOR_SIZE * sector);
-				dat.write(writeBuffer, 0, 8);
-
-				dataToWrite = data.remaining();
-				if (dataToWrite > 512)
-				{
-					dataToWrite = 512;
-				}
 			}
 
-			data.get(writeBuffer, 0, dataToWrite);
-			dat.write(writeBuffer, 0, dataToWrite);
-			sector = nextSector;
+			int dataToWrite = Math.min(data.remaining(), blockSize);
+			data.get(writeBuffer, headerSize, dataToWrite);
+
+			dat.seek((long) SECTOR_SIZE * sector);
+			dat.write(writeBuffer, 0, headerSize + dataToWrite);
 		}
 
 		DataFileWriteResult res = new DataFileWriteResult();
@@ -264,4 +243,189 @@ public class DataFile implements Closeable
 		res.compressedLength = compressedData.length;
 		return res;
 	}
+
+	/**
+	 * Builds the free sector map from the archives referenced by the given
+	 * index files. Sectors not belonging to any archive are reused by later
+	 * writes, as are the sectors of archives released with
+	 * {@link #free(int, int, int, int)}.
+	 *
+	 * @param indexFiles all index files of the cache, including the reference table index
+	 * @throws IOException
+	 */
+	public synchronized void buildFreeSectors(Collection<IndexFile> indexFiles) throws IOException
+	{
+		final int sectors = getSectorCount();
+		BitSet used = new BitSet(sectors);
+
+		for (IndexFile indexFile : indexFiles)
+		{
+			for (int id = 0; id < indexFile.getIndexCount(); ++id)
+			{
+				IndexEntry entry = indexFile.read(id);
+				if (entry == null)
+				{
+					continue;
+				}
+
+				int[] chain = getSectors(indexFile.getIndexFileId(), id, entry.getSector(), entry.getLength());
+				if (chain == null)
+				{
+					logger.debug("Unable to follow sectors of {}/{}", indexFile.getIndexFileId(), id);
+					continue;
+				}
+
+				for (int sector : chain)
+				{
+					used.set(sector);
+				}
+			}
+		}
+
+		freeSectors = new BitSet(sectors);
+		if (sectors > 1)
+		{
+			// sector 0 is never used
+			freeSectors.set(1, sectors);
+		}
+		freeSectors.andNot(used);
+
+		logger.debug("{} of {} sectors are free", freeSectors.cardinality(), sectors);
+	}
+
+	/**
+	 * Releases the sectors of an archive which is no longer referenced, so they
+	 * can be reused. Has no effect if the free sector map hasn't been built.
+	 *
+	 * @param indexId index of the archive
+	 * @param archiveId archive id
+	 * @param sector first sector of the archive
+	 * @param size size of the archive
+	 * @throws IOException
+	 */
+	public synchronized void free(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (freeSectors == null)
+		{
+			return;
+		}
+
+		int[] chain = getSectors(indexId, archiveId, sector, size);
+		if (chain == null)
+		{
+			logger.debug("Unable to free sectors of {}/{} at {}", indexId, archiveId, sector);
+			return;
+		}
+
+		for (int s : chain)
+		{
+			freeSectors.set(s);
+		}
+	}
+
+	/**
+	 * @return the number of free sectors, or 0 if the free sector map hasn't been built
+	 */
+	public synchronized int getFreeSectorCount()
+	{
+		return freeSectors == null ? 0 : freeSectors.cardinality();
+	}
+
+	/**
+	 * Follows the sector chain of an archive, reading only the sector headers.
+	 *
+	 * @return the sectors of the archive, or null if the chain is invalid
+	 */
+	int[] getSectors(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		final int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		final int blockSize = SECTOR_SIZE - headerSize;
+		final long length = dat.length();
+		final byte[] header = new byte[headerSize];
+		final int[] sectors = new int[(size + blockSize - 1) / blockSize];
+
+		for (int part = 0; part < sectors.length; ++part)
+		{
+			if (sector <= 0 || (long) SECTOR_SIZE * sector + headerSize > length)
+			{
+				return null;
+			}
+
+			dat.seek((long) SECTOR_SIZE * sector);
+			dat.readFully(header);
+
+			int currentArchive;
+			int currentPart;
+			int nextSector;
+			int currentIndex;
+			if (headerSize == 10)
+			{
+				currentArchive = ((header[0] & 0xFF) << 24)
+					| ((header[1] & 0xFF) << 16)
+					| ((header[2] & 0xFF) << 8)
+					| (header[3] & 0xFF);
+				currentPart = ((header[4] & 0xFF) << 8) + (header[5] & 0xFF);
+				nextSector = ((header[6] & 0xFF) << 16)
+					| ((header[7] & 0xFF) << 8)
+					| (header[8] & 0xFF);
+				currentIndex = header[9] & 0xFF;
+			}
+			else
+			{
+				currentArchive = ((header[0] & 0xFF) << 8)
+					| (header[1] & 0xFF);
+				currentPart = ((header[2] & 0xFF) << 8)
+					| (header[3] & 0xFF);
+				nextSector = ((header[4] & 0xFF) << 16)
+					| ((header[5] & 0xFF) << 8)
+					| (header[6] & 0xFF);
+				currentIndex = header[7] & 0xFF;
+			}
+
+			if (archiveId != currentArchive || (part & 0xFFFF) != currentPart || indexId != currentIndex)
+			{
+				return null;
+			}
+
+			sectors[part] = sector;
+			sector = nextSector;
+		}
+
+		return sectors;
+	}
+
+	/**
+	 * Finds a run of contiguous sectors to write to, which is either the first
+	 * run of free sectors which fits, a run of free sectors at the end of the
+	 * file, or the end of the file.
+	 */
+	private int allocate(int count) throws IOException
+	{
+		final int end = Math.max(1, getSectorCount());
+		int start = end;
+
+		if (freeSectors != null)
+		{
+			for (int s = freeSectors.nextSetBit(1); s != -1; )
+			{
+				int e = freeSectors.nextClearBit(s);
+				if (e - s >= count || e >= end)
+				{
+					start = s;
+					break;
+				}
+
+				s = freeSectors.nextSetBit(e);
+			}
+
+			freeSectors.clear(start, start + count);
+		}
+
+		return start;
+	}
+
+	private int getSectorCount() throws IOException
+	{
+		return (int) ((dat.length() + SECTOR_SIZE - 1) / SECTOR_SIZE);
+	}
 }
@@ -45,8 +45,8 @@ public class DiskStorage implements Storage
 {
 	private static final Logger logger = LoggerFactory.getLogger(DiskStorage.class);
 
-	private static final String MAIN_FILE_CACHE_DAT = "main_file_cache.dat2";
-	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
+	static final String MAIN_FILE_CACHE_DAT = "main_file_cache.dat2";
+	static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
 
 	private final File folder;
 
@@ -54,6 +54,8 @@ public class DiskStorage implements Storage
 	private final IndexFile index255;
 	private final List<IndexFile> indexFiles = new ArrayList<>();
 
+	private boolean freeSectorsBuilt;
+
 	public DiskStorage(File folder) throws IOException
 	{
 		this.folder = folder;
@@ -100,6 +102,28 @@ public class DiskStorage implements Storage
 		return indexFile;
 	}
 
+	/**
+	 * Builds the free sector map of the data file prior to the first write, so
+	 * rewritten archives reuse the space of the archives they replace
+	 */
+	private synchronized void buildFreeSectors() throws IOException
+	{
+		if (freeSectorsBuilt)
+		{
+			return;
+		}
+
+		for (int i = 0; i < index255.getIndexCount(); ++i)
+		{
+			getIndex(i);
+		}
+
+		List<IndexFile> files = new ArrayList<>(indexFiles);
+		files.add(index255);
+		data.buildFreeSectors(files);
+		freeSectorsBuilt = true;
+	}
+
 	@Override
 	public void load(Store store) throws IOException
 	{
@@ -190,10 +214,20 @@ public class DiskStorage implements Storage
 		Container container = new Container(index.getCompression(), -1); // index data revision is always -1
 		container.compress(data, null);
 		byte[] compressedData = container.data;
+
+		buildFreeSectors();
+
+		IndexEntry old = index255.read(index.getId());
 		DataFileWriteResult res = this.data.write(index255.getIndexFileId(), index.getId(), compressedData);
 
 		index255.write(new IndexEntry(index255, index.getId(), res.sector, res.compressedLength));
 
+		if (old != null)
+		{
+			// the new data never overlaps the old, so the old sectors are only released once unreferenced
+			this.data.free(index255.getIndexFileId(), old.getId(), old.getSector(), old.getLength());
+		}
+
 		Crc32 crc = new Crc32();
 		crc.update(compressedData, 0, compressedData.length);
 		index.setCrc(crc.getHash());
@@ -206,9 +240,17 @@ public class DiskStorage implements Storage
 		IndexFile indexFile = getIndex(index.getId());
 		assert indexFile.getIndexFileId() == index.getId();
 
+		buildFreeSectors();
+
+		IndexEntry old = indexFile.read(a.getArchiveId());
 		DataFileWriteResult res = data.write(index.getId(), a.getArchiveId(), archiveData);
 		indexFile.write(new IndexEntry(indexFile, a.getArchiveId(), res.sector, res.compressedLength));
 
+		if (old != null)
+		{
+			data.free(index.getId(), old.getId(), old.getSector(), old.getLength());
+		}
+
 		byte compression = archiveData[0];
 		int compressedSize = Ints.fromBytes(archiveData[1], archiveData[2],
 			archiveData[3], archiveData[4]);
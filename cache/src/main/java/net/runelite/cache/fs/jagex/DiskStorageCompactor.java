@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import static net.runelite.cache.fs.jagex.DiskStorage.MAIN_FILE_CACHE_DAT;
+import static net.runelite.cache.fs.jagex.DiskStorage.MAIN_FILE_CACHE_IDX;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rewrites a disk cache so that the sectors of each archive are contiguous,
+ * with the reference tables first followed by each index in order of archive
+ * id. Sectors which are no longer referenced are dropped.
+ */
+public class DiskStorageCompactor
+{
+	private static final Logger logger = LoggerFactory.getLogger(DiskStorageCompactor.class);
+
+	/**
+	 * Writes a compacted copy of a cache. The cache must not be in use while
+	 * it is being compacted.
+	 *
+	 * @param from cache folder to read
+	 * @param to folder to write the compacted cache to, which must differ from the source
+	 * @throws IOException
+	 */
+	public static void compact(File from, File to) throws IOException
+	{
+		File dat = new File(from, MAIN_FILE_CACHE_DAT);
+		File idx255 = new File(from, MAIN_FILE_CACHE_IDX + 255);
+		if (!dat.exists() || !idx255.exists())
+		{
+			throw new FileNotFoundException("No cache in " + from);
+		}
+
+		if (from.getCanonicalFile().equals(to.getCanonicalFile()))
+		{
+			throw new IllegalArgumentException("Unable to compact a cache into itself");
+		}
+
+		to.mkdirs();
+
+		try (DataFile in = new DataFile(dat);
+			IndexFile inIndex255 = new IndexFile(255, idx255);
+			DataFile out = new DataFile(new File(to, MAIN_FILE_CACHE_DAT));
+			IndexFile outIndex255 = new IndexFile(255, new File(to, MAIN_FILE_CACHE_IDX + 255)))
+		{
+			out.clear();
+			copy(in, inIndex255, out, outIndex255);
+
+			for (int i = 0; i < inIndex255.getIndexCount(); ++i)
+			{
+				try (IndexFile inIndex = new IndexFile(i, new File(from, MAIN_FILE_CACHE_IDX + i));
+					IndexFile outIndex = new IndexFile(i, new File(to, MAIN_FILE_CACHE_IDX + i)))
+				{
+					copy(in, inIndex, out, outIndex);
+				}
+			}
+
+			logger.info("Compacted cache from {} to {} bytes", dat.length(), new File(to, MAIN_FILE_CACHE_DAT).length());
+		}
+	}
+
+	private static void copy(DataFile in, IndexFile inIndex, DataFile out, IndexFile outIndex) throws IOException
+	{
+		outIndex.clear();
+
+		final int count = inIndex.getIndexCount();
+		for (int id = 0; id < count; ++id)
+		{
+			IndexEntry entry = inIndex.read(id);
+			if (entry == null)
+			{
+				continue;
+			}
+
+			byte[] data = in.read(inIndex.getIndexFileId(), id, entry.getSector(), entry.getLength());
+			if (data == null)
+			{
+				logger.warn("Unable to read archive {}/{}, skipping", inIndex.getIndexFileId(), id);
+				continue;
+			}
+
+			DataFileWriteResult res = out.write(outIndex.getIndexFileId(), id, data);
+			outIndex.write(new IndexEntry(outIndex, id, res.sector, res.compressedLength));
+		}
+
+		if (count > 0 && outIndex.getIndexCount() < count)
+		{
+			// keep the number of entries, as the size of the reference table index is the number of indexes
+			outIndex.write(new IndexEntry(outIndex, count - 1, 0, 0));
+		}
+	}
+}
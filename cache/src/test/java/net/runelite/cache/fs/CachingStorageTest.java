@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CachingStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testLoadArchiveFiles() throws IOException
+	{
+		CachingStorage storage = new CachingStorage(new DiskStorage(folder.getRoot()));
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			Archive archive = index.addArchive(0);
+			archive.setFileData(new FileData[1]);
+			archive.getFileData()[0] = new FileData();
+
+			save(storage, archive, "test".getBytes());
+
+			ArchiveFiles files = storage.loadArchiveFiles(archive);
+			assertArrayEquals("test".getBytes(), files.getFiles().get(0).getContents());
+			assertSame(files, storage.loadArchiveFiles(archive));
+			assertEquals(1, storage.getStats().hitCount());
+
+			// rewriting the archive changes its crc
+			save(storage, archive, "test2".getBytes());
+
+			ArchiveFiles files2 = storage.loadArchiveFiles(archive);
+			assertNotSame(files, files2);
+			assertArrayEquals("test2".getBytes(), files2.getFiles().get(0).getContents());
+		}
+	}
+
+	@Test
+	public void testEviction() throws IOException
+	{
+		CachingStorage storage = new CachingStorage(new DiskStorage(folder.getRoot()), 1024);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 4; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[1]);
+				archive.getFileData()[0] = new FileData();
+
+				save(storage, archive, new byte[512]);
+				storage.loadArchiveFiles(archive);
+			}
+
+			assertEquals(4, storage.getStats().missCount());
+			assertEquals(2, storage.getStats().evictionCount());
+		}
+	}
+
+	@Test
+	public void testStoreFolder() throws IOException
+	{
+		try (Store store = new Store(folder.getRoot()))
+		{
+			assertTrue(store.getStorage() instanceof CachingStorage);
+		}
+	}
+
+	private static void save(Storage storage, Archive archive, byte[] data) throws IOException
+	{
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(data, null);
+		storage.saveArchive(archive, container.data);
+	}
+}
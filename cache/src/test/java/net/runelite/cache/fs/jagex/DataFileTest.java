@@ -26,6 +26,7 @@ package net.runelite.cache.fs.jagex;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Container;
 import org.junit.Assert;
@@ -167,4 +168,40 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testFreeSectors() throws IOException
+	{
+		DataFile df = new DataFile(folder.newFile());
+		IndexFile index = new IndexFile(42, folder.newFile());
+
+		byte[] large = new byte[1500];
+		byte[] small = "test".getBytes();
+
+		DataFileWriteResult res = df.write(42, 3, large);
+		index.write(new IndexEntry(index, 3, res.sector, res.compressedLength));
+		Assert.assertEquals(1, res.sector);
+
+		res = df.write(42, 4, small);
+		index.write(new IndexEntry(index, 4, res.sector, res.compressedLength));
+		Assert.assertEquals(4, res.sector);
+
+		df.buildFreeSectors(Collections.singletonList(index));
+		Assert.assertEquals(0, df.getFreeSectorCount());
+
+		// rewriting an archive can't reuse its own sectors
+		IndexEntry old = index.read(3);
+		res = df.write(42, 3, small);
+		index.write(new IndexEntry(index, 3, res.sector, res.compressedLength));
+		Assert.assertEquals(5, res.sector);
+
+		df.free(42, 3, old.getSector(), old.getLength());
+		Assert.assertEquals(3, df.getFreeSectorCount());
+
+		res = df.write(42, 5, large);
+		Assert.assertEquals(1, res.sector);
+		Assert.assertEquals(0, df.getFreeSectorCount());
+		Assert.assertArrayEquals(large, df.read(42, 5, res.sector, res.compressedLength));
+		Assert.assertArrayEquals(small, df.read(42, 4, 4, small.length));
+	}
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiskStorageCompactorTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testCompact() throws Exception
+	{
+		File from = folder.newFolder();
+		File to = folder.newFolder();
+
+		try (Store store = new Store(from))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 4; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				FileData[] fileData = new FileData[1];
+				fileData[0] = new FileData();
+				archive.setFileData(fileData);
+
+				save(store, archive, new byte[1024 * (i + 1)]);
+			}
+
+			store.save();
+
+			// rewrite archives so the data file has garbage in it
+			save(store, index.getArchive(1), "test".getBytes());
+			save(store, index.getArchive(2), "test2".getBytes());
+			store.save();
+		}
+
+		DiskStorageCompactor.compact(from, to);
+
+		File fromDat = new File(from, DiskStorage.MAIN_FILE_CACHE_DAT);
+		File toDat = new File(to, DiskStorage.MAIN_FILE_CACHE_DAT);
+		assertTrue(toDat.length() < fromDat.length());
+
+		try (Store store = new Store(to))
+		{
+			store.load();
+
+			Index index = store.findIndex(0);
+			assertEquals(4, index.getArchives().size());
+
+			Storage storage = store.getStorage();
+			assertArrayEquals(new byte[1024], load(storage, index.getArchive(0)));
+			assertArrayEquals("test".getBytes(), load(storage, index.getArchive(1)));
+			assertArrayEquals("test2".getBytes(), load(storage, index.getArchive(2)));
+			assertArrayEquals(new byte[4096], load(storage, index.getArchive(3)));
+		}
+	}
+
+	private static void save(Store store, Archive archive, byte[] data) throws Exception
+	{
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(data, null);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	private static byte[] load(Storage storage, Archive archive) throws Exception
+	{
+		return archive.decompress(storage.loadArchive(archive));
+	}
+}
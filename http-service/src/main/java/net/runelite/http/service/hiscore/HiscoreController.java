@@ -24,6 +24,8 @@
  */
 package net.runelite.http.service.hiscore;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import net.runelite.http.api.hiscore.HiscoreEndpoint;
 import net.runelite.http.api.hiscore.HiscoreResult;
@@ -44,6 +46,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/hiscore")
 public class HiscoreController
 {
+	private static final int MAX_BULK_LOOKUP = 100;
+
 	@Autowired
 	private HiscoreService hiscoreService;
 
@@ -68,6 +72,28 @@ public class HiscoreController
 		return result;
 	}
 
+	@RequestMapping("/{endpoint}/bulk")
+	public Map<String, HiscoreResult> bulkLookup(@PathVariable HiscoreEndpoint endpoint, @RequestParam("username") String[] usernames)
+	{
+		if (usernames.length > MAX_BULK_LOOKUP)
+		{
+			usernames = Arrays.copyOf(usernames, MAX_BULK_LOOKUP);
+		}
+
+		Map<String, HiscoreResult> results = hiscoreService.lookupUsernames(Arrays.asList(usernames), endpoint);
+
+		switch (endpoint)
+		{
+			case NORMAL:
+			case IRONMAN:
+			case ULTIMATE_IRONMAN:
+			case HARDCORE_IRONMAN:
+				results.forEach(xpTrackerService::update);
+		}
+
+		return results;
+	}
+
 	@RequestMapping("/{endpoint}/{skillName}")
 	public SingleHiscoreSkillResult singleSkillLookup(@PathVariable HiscoreEndpoint endpoint, @PathVariable String skillName, @RequestParam String username) throws ExecutionException
 	{
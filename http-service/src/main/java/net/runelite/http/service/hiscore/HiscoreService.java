@@ -25,11 +25,22 @@
 package net.runelite.http.service.hiscore;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.http.api.hiscore.HiscoreClient;
@@ -42,19 +53,56 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class HiscoreService
 {
+	// maximum number of concurrent requests to the hiscores
+	private static final int MAX_UPSTREAM = 8;
+
 	private final HiscoreClient hiscoreClient = new HiscoreClient();
-	private final LoadingCache<HiscoreKey, HiscoreResult> hiscoreCache = CacheBuilder.newBuilder()
-		.maximumSize(128)
-		.expireAfterWrite(1, TimeUnit.MINUTES)
-		.build(
-			new CacheLoader<HiscoreKey, HiscoreResult>()
-			{
-				@Override
-				public HiscoreResult load(HiscoreKey key) throws IOException
+	@VisibleForTesting
+	final Semaphore upstream = new Semaphore(MAX_UPSTREAM);
+	private final ExecutorService executor;
+	private final LoadingCache<HiscoreKey, HiscoreResult> hiscoreCache;
+
+	public HiscoreService()
+	{
+		this(Ticker.systemTicker(), Executors.newFixedThreadPool(MAX_UPSTREAM, new ThreadFactoryBuilder()
+			.setNameFormat("hiscore-%d")
+			.setDaemon(true)
+			.build()));
+	}
+
+	@VisibleForTesting
+	HiscoreService(Ticker ticker, ExecutorService executor)
+	{
+		this.executor = executor;
+
+		/*
+		 * Concurrent lookups of the same key wait on a single load. After a minute
+		 * entries are refreshed in the background on the next lookup, with the
+		 * stale result served until the refresh completes.
+		 */
+		hiscoreCache = CacheBuilder.newBuilder()
+			.maximumSize(1024)
+			.refreshAfterWrite(1, TimeUnit.MINUTES)
+			.expireAfterWrite(10, TimeUnit.MINUTES)
+			.ticker(ticker)
+			.build(CacheLoader.asyncReloading(
+				new CacheLoader<HiscoreKey, HiscoreResult>()
 				{
-					return hiscoreClient.lookup(key.getUsername(), key.getEndpoint());
-				}
-			});
+					@Override
+					public HiscoreResult load(HiscoreKey key) throws IOException, InterruptedException
+					{
+						upstream.acquire();
+						try
+						{
+							return lookupUsername(key.getUsername(), key.getEndpoint().getHiscoreURL());
+						}
+						finally
+						{
+							upstream.release();
+						}
+					}
+				}, executor));
+	}
 
 	@VisibleForTesting
 	HiscoreResult lookupUsername(String username, HttpUrl httpUrl) throws IOException
@@ -66,4 +114,60 @@ public class HiscoreService
 	{
 		return hiscoreCache.get(new HiscoreKey(username, endpoint));
 	}
+
+	/**
+	 * Look up many usernames in parallel. Usernames which can not be looked
+	 * up are omitted from the result.
+	 *
+	 * @param usernames
+	 * @param endpoint
+	 * @return map of username to hiscore result, in request order
+	 */
+	public Map<String, HiscoreResult> lookupUsernames(List<String> usernames, HiscoreEndpoint endpoint)
+	{
+		List<String> names = new ArrayList<>(new LinkedHashSet<>(usernames));
+		List<CompletableFuture<HiscoreResult>> futures = new ArrayList<>(names.size());
+
+		for (String username : names)
+		{
+			HiscoreKey key = new HiscoreKey(username, endpoint);
+			if (hiscoreCache.asMap().containsKey(key))
+			{
+				// get() rather than getIfPresent() so stale entries are refreshed
+				try
+				{
+					futures.add(CompletableFuture.completedFuture(hiscoreCache.get(key)));
+					continue;
+				}
+				catch (ExecutionException ex)
+				{
+					// entry was evicted concurrently and failed to reload
+				}
+			}
+
+			futures.add(CompletableFuture.supplyAsync(() ->
+			{
+				try
+				{
+					return hiscoreCache.get(key);
+				}
+				catch (ExecutionException | RuntimeException ex)
+				{
+					log.debug("unable to look up {}", username, ex);
+					return null;
+				}
+			}, executor));
+		}
+
+		Map<String, HiscoreResult> results = new LinkedHashMap<>();
+		for (int i = 0; i < names.size(); ++i)
+		{
+			HiscoreResult result = futures.get(i).join();
+			if (result != null)
+			{
+				results.put(names.get(i), result);
+			}
+		}
+		return results;
+	}
 }
@@ -24,18 +24,21 @@
  */
 package net.runelite.http.service.item;
 
+import com.google.common.util.concurrent.RateLimiter;
 import com.google.gson.JsonParseException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.http.api.RuneLiteAPI;
@@ -46,20 +49,19 @@ import okhttp3.Request;
 import okhttp3.Response;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.sql2o.Connection;
 import org.sql2o.Query;
 import org.sql2o.Sql2o;
+import org.sql2o.Sql2oException;
 
 @Service
 @Slf4j
 public class ItemService
 {
-	private static final String BASE = "https://services.runescape.com/m=itemdb_oldschool";
-	private static final HttpUrl RS_ITEM_URL = HttpUrl.parse(BASE + "/api/catalogue/detail.json");
-	private static final HttpUrl RS_PRICE_URL = HttpUrl.parse(BASE + "/api/graph");
-	private static final HttpUrl RS_SEARCH_URL = HttpUrl.parse(BASE + "/api/catalogue/items.json?category=1");
+	private static final String DEFAULT_BASE = "https://services.runescape.com/m=itemdb_oldschool";
 
 	private static final String CREATE_ITEMS = "CREATE TABLE IF NOT EXISTS `items` (\n"
 		+ "  `id` int(11) NOT NULL,\n"
@@ -83,20 +85,38 @@ public class ItemService
 		+ ") ENGINE=InnoDB";
 
 	private static final int MAX_PENDING = 512;
+	// only crawl prices when the pipeline has room for user lookups
+	private static final int MAX_CRAWL_PENDING = MAX_PENDING / 4;
+	private static final int MAX_BATCH_WRITE = 4096;
 
 	private final Sql2o sql2o;
 	private final CacheService cacheService;
-
-	private final ConcurrentLinkedQueue<PendingLookup> pendingLookups = new ConcurrentLinkedQueue<PendingLookup>();
+	private final HttpUrl rsItemUrl;
+	private final HttpUrl rsPriceUrl;
+	private final HttpUrl rsSearchUrl;
+	// acquired once per upstream request, a single item lookup makes several
+	private final RateLimiter rateLimiter;
+	private final LookupPipeline lookupPipeline;
+
+	private final ConcurrentLinkedQueue<ItemEntry> pendingItems = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<PriceEntry> pendingPrices = new ConcurrentLinkedQueue<>();
 	private int[] tradeableItems;
-	private final Random random = new Random();
+	private int crawlIdx;
 
 	@Autowired
 	public ItemService(@Qualifier("Runelite SQL2O") Sql2o sql2o,
-		CacheService cacheService)
+		CacheService cacheService,
+		@Value("${runelite.item.url:" + DEFAULT_BASE + "}") String base,
+		@Value("${runelite.item.lookup.rate:2}") double lookupRate,
+		@Value("${runelite.item.lookup.concurrency:4}") int lookupConcurrency)
 	{
 		this.sql2o = sql2o;
 		this.cacheService = cacheService;
+		this.rsItemUrl = HttpUrl.parse(base + "/api/catalogue/detail.json");
+		this.rsPriceUrl = HttpUrl.parse(base + "/api/graph");
+		this.rsSearchUrl = HttpUrl.parse(base + "/api/catalogue/items.json?category=1");
+		this.rateLimiter = RateLimiter.create(lookupRate);
+		this.lookupPipeline = new LookupPipeline(lookupConcurrency, MAX_PENDING, this::lookup);
 
 		try (Connection con = sql2o.open())
 		{
@@ -211,20 +231,6 @@ public class ItemService
 				log.warn("error fetching image", ex);
 			}
 
-			try (Connection con = sql2o.open())
-			{
-				con.createQuery("insert into items (id, name, description, type, icon, icon_large) values (:id,"
-					+ " :name, :description, :type, :icon, :icon_large) ON DUPLICATE KEY UPDATE name = :name,"
-					+ " description = :description, type = :type, icon = :icon, icon_large = :icon_large")
-					.addParameter("id", rsItem.getId())
-					.addParameter("name", rsItem.getName())
-					.addParameter("description", rsItem.getDescription())
-					.addParameter("type", rsItem.getType())
-					.addParameter("icon", icon)
-					.addParameter("icon_large", iconLarge)
-					.executeUpdate();
-			}
-
 			ItemEntry item = new ItemEntry();
 			item.setId(itemId);
 			item.setName(rsItem.getName());
@@ -232,6 +238,9 @@ public class ItemService
 			item.setType(ItemType.of(rsItem.getType()));
 			item.setIcon(icon);
 			item.setIcon_large(iconLarge);
+
+			// written out by flush()
+			pendingItems.add(item);
 			return item;
 		}
 		catch (IOException ex)
@@ -254,41 +263,27 @@ public class ItemService
 			return null;
 		}
 
-		try (Connection con = sql2o.beginTransaction())
-		{
-			List<PriceEntry> entries = new ArrayList<>();
-			Instant now = Instant.now();
-
-			Query query = con.createQuery("insert into prices (item, price, time, fetched_time) values (:item, :price, :time, :fetched_time) "
-				+ "ON DUPLICATE KEY UPDATE price = VALUES(price), fetched_time = VALUES(fetched_time)");
+		List<PriceEntry> entries = new ArrayList<>();
+		Instant now = Instant.now();
 
-			for (Map.Entry<Long, Integer> entry : rsprice.getDaily().entrySet())
-			{
-				long ts = entry.getKey(); // ms since epoch
-				int price = entry.getValue(); // gp
-
-				Instant time = Instant.ofEpochMilli(ts);
-
-				PriceEntry priceEntry = new PriceEntry();
-				priceEntry.setItem(itemId);
-				priceEntry.setPrice(price);
-				priceEntry.setTime(time);
-				priceEntry.setFetched_time(now);
-				entries.add(priceEntry);
-
-				query
-					.addParameter("item", itemId)
-					.addParameter("price", price)
-					.addParameter("time", time)
-					.addParameter("fetched_time", now)
-					.addToBatch();
-			}
+		for (Map.Entry<Long, Integer> entry : rsprice.getDaily().entrySet())
+		{
+			long ts = entry.getKey(); // ms since epoch
+			int price = entry.getValue(); // gp
 
-			query.executeBatch();
-			con.commit(false);
+			Instant time = Instant.ofEpochMilli(ts);
 
-			return entries;
+			PriceEntry priceEntry = new PriceEntry();
+			priceEntry.setItem(itemId);
+			priceEntry.setPrice(price);
+			priceEntry.setTime(time);
+			priceEntry.setFetched_time(now);
+			entries.add(priceEntry);
 		}
+
+		// written out by flush()
+		pendingPrices.addAll(entries);
+		return entries;
 	}
 
 	public List<PriceEntry> fetchPrices()
@@ -304,7 +299,7 @@ public class ItemService
 
 	private RSItem fetchRSItem(int itemId) throws IOException
 	{
-		HttpUrl itemUrl = RS_ITEM_URL
+		HttpUrl itemUrl = rsItemUrl
 			.newBuilder()
 			.addQueryParameter("item", "" + itemId)
 			.build();
@@ -320,7 +315,7 @@ public class ItemService
 
 	private RSPrices fetchRSPrices(int itemId) throws IOException
 	{
-		HttpUrl priceUrl = RS_PRICE_URL
+		HttpUrl priceUrl = rsPriceUrl
 			.newBuilder()
 			.addPathSegment(itemId + ".json")
 			.build();
@@ -337,7 +332,7 @@ public class ItemService
 		// rs api seems to require lowercase
 		query = query.toLowerCase();
 
-		HttpUrl searchUrl = RS_SEARCH_URL
+		HttpUrl searchUrl = rsSearchUrl
 			.newBuilder()
 			.addQueryParameter("alpha", query)
 			.build();
@@ -373,6 +368,8 @@ public class ItemService
 
 	private <T> T fetchJson(Request request, Class<T> clazz) throws IOException
 	{
+		rateLimiter.acquire();
+
 		try (Response response = RuneLiteAPI.CLIENT.newCall(request).execute())
 		{
 			if (!response.isSuccessful())
@@ -397,6 +394,8 @@ public class ItemService
 			.url(httpUrl)
 			.build();
 
+		rateLimiter.acquire();
+
 		try (Response response = RuneLiteAPI.CLIENT.newCall(request).execute())
 		{
 			if (!response.isSuccessful())
@@ -410,11 +409,7 @@ public class ItemService
 
 	public void queueSearch(String search)
 	{
-		if (pendingLookups.size() < MAX_PENDING)
-		{
-			pendingLookups.add(new PendingLookup(search, PendingLookup.Type.SEARCH));
-		}
-		else
+		if (!lookupPipeline.submit(new PendingLookup(search, PendingLookup.Type.SEARCH)))
 		{
 			log.debug("Dropping pending search for {}", search);
 		}
@@ -422,25 +417,14 @@ public class ItemService
 
 	public void queueItem(int itemId)
 	{
-		if (pendingLookups.size() < MAX_PENDING)
-		{
-			pendingLookups.add(new PendingLookup(itemId, PendingLookup.Type.ITEM));
-		}
-		else
+		if (!lookupPipeline.submit(new PendingLookup(itemId, PendingLookup.Type.ITEM)))
 		{
 			log.debug("Dropping pending item lookup for {}", itemId);
 		}
 	}
 
-	@Scheduled(fixedDelay = 5000)
-	public void check()
+	private void lookup(PendingLookup pendingLookup)
 	{
-		PendingLookup pendingLookup = pendingLookups.poll();
-		if (pendingLookup == null)
-		{
-			return;
-		}
-
 		switch (pendingLookup.getType())
 		{
 			case SEARCH:
@@ -458,34 +442,150 @@ public class ItemService
 			case ITEM:
 				fetchItem(pendingLookup.getItemId());
 				break;
+			case PRICE:
+				log.debug("Fetching price for {}", pendingLookup.getItemId());
+				fetchPrice(pendingLookup.getItemId());
+				break;
 		}
 	}
 
-	@Scheduled(fixedDelay = 20_000)
-	public void crawlPrices()
+	@Scheduled(fixedDelay = 1000)
+	public void flush()
 	{
-		if (tradeableItems == null || tradeableItems.length == 0)
+		List<ItemEntry> items = drain(pendingItems);
+		if (!items.isEmpty())
 		{
-			return;
+			try
+			{
+				writeItems(items);
+			}
+			catch (Sql2oException ex)
+			{
+				// retried on the next flush
+				log.warn("unable to write {} items", items.size(), ex);
+				pendingItems.addAll(items);
+			}
+		}
+
+		List<PriceEntry> prices = drain(pendingPrices);
+		if (!prices.isEmpty())
+		{
+			try
+			{
+				writePrices(prices);
+				log.debug("Wrote {} prices", prices.size());
+			}
+			catch (Sql2oException ex)
+			{
+				log.warn("unable to write {} prices", prices.size(), ex);
+				pendingPrices.addAll(prices);
+			}
 		}
+	}
 
-		int idx = random.nextInt(tradeableItems.length);
-		int id = tradeableItems[idx];
+	private void writeItems(List<ItemEntry> items)
+	{
+		try (Connection con = sql2o.beginTransaction())
+		{
+			Query query = con.createQuery("insert into items (id, name, description, type, icon, icon_large) values (:id,"
+				+ " :name, :description, :type, :icon, :icon_large) ON DUPLICATE KEY UPDATE name = VALUES(name),"
+				+ " description = VALUES(description), type = VALUES(type), icon = VALUES(icon), icon_large = VALUES(icon_large)");
 
-		log.debug("Fetching price for {}", id);
+			for (ItemEntry item : items)
+			{
+				query
+					.addParameter("id", item.getId())
+					.addParameter("name", item.getName())
+					.addParameter("description", item.getDescription())
+					.addParameter("type", item.getType().name())
+					.addParameter("icon", item.getIcon())
+					.addParameter("icon_large", item.getIcon_large())
+					.addToBatch();
+			}
 
-		fetchPrice(id);
+			query.executeBatch();
+			con.commit(false);
+		}
+	}
+
+	private void writePrices(List<PriceEntry> prices)
+	{
+		try (Connection con = sql2o.beginTransaction())
+		{
+			Query query = con.createQuery("insert into prices (item, price, time, fetched_time) values (:item, :price, :time, :fetched_time) "
+				+ "ON DUPLICATE KEY UPDATE price = VALUES(price), fetched_time = VALUES(fetched_time)");
+
+			for (PriceEntry price : prices)
+			{
+				query
+					.addParameter("item", price.getItem())
+					.addParameter("price", price.getPrice())
+					.addParameter("time", price.getTime())
+					.addParameter("fetched_time", price.getFetched_time())
+					.addToBatch();
+			}
+
+			query.executeBatch();
+			con.commit(false);
+		}
+	}
+
+	private static <T> List<T> drain(ConcurrentLinkedQueue<T> queue)
+	{
+		List<T> list = new ArrayList<>();
+		T t;
+		while (list.size() < MAX_BATCH_WRITE && (t = queue.poll()) != null)
+		{
+			list.add(t);
+		}
+		return list;
+	}
+
+	@Scheduled(fixedDelayString = "${runelite.item.crawl.delay:1000}")
+	public void crawlPrices()
+	{
+		int[] items = tradeableItems;
+		if (items == null || items.length == 0)
+		{
+			return;
+		}
+
+		// Sweep the tradeable items in order, keeping the pipeline topped up with crawl
+		// lookups. The upstream requests are paced by the rate limiter, and user lookups
+		// are taken ahead of these.
+		for (int i = 0; i < items.length && lookupPipeline.size() < MAX_CRAWL_PENDING; ++i)
+		{
+			int id = items[crawlIdx++ % items.length];
+			lookupPipeline.submit(new PendingLookup(id, PendingLookup.Type.PRICE));
+			if (crawlIdx % items.length == 0)
+			{
+				log.debug("Completed price sweep of {} items", items.length);
+			}
+		}
 	}
 
 	@Scheduled(fixedDelay = 1_8000_000) // 30 minutes
 	public void reloadItems() throws IOException
 	{
 		List<ItemDefinition> items = cacheService.getItems();
-		tradeableItems = items.stream()
+		List<Integer> tradeable = new ArrayList<>();
+		items.stream()
 			.filter(item -> item.isTradeable)
-			.mapToInt(item -> item.id)
+			.forEach(item -> tradeable.add(item.id));
+		// spread the sweep over the whole item range
+		Collections.shuffle(tradeable);
+		tradeableItems = tradeable.stream()
+			.mapToInt(Integer::intValue)
 			.toArray();
+		crawlIdx = 0;
 		log.debug("Loaded {} tradeable items", tradeableItems.length);
 	}
 
+	@PreDestroy
+	public void shutdown() throws InterruptedException
+	{
+		lookupPipeline.shutdown();
+		lookupPipeline.awaitTermination(5, TimeUnit.SECONDS);
+		flush();
+	}
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Concurrent pipeline for upstream lookups. Duplicate lookups
+ * which are already queued or in flight are coalesced, and user triggered
+ * lookups are always taken ahead of background ones.
+ */
+@Slf4j
+class LookupPipeline
+{
+	@RequiredArgsConstructor
+	private static class Task
+	{
+		private final PendingLookup lookup;
+		private final long seq;
+	}
+
+	private static final Comparator<Task> ORDER = Comparator
+		.comparing((Task t) -> !t.lookup.isUserTriggered())
+		.thenComparingLong(t -> t.seq);
+
+	private final int maxPending;
+	private final Consumer<PendingLookup> handler;
+	private final ExecutorService executor;
+
+	private final PriorityBlockingQueue<Task> queue = new PriorityBlockingQueue<>(64, ORDER);
+	private final Set<PendingLookup> pending = ConcurrentHashMap.newKeySet();
+	private final AtomicLong seq = new AtomicLong();
+	private volatile boolean running = true;
+
+	/**
+	 * @param concurrency number of lookups which may be in flight at once
+	 * @param maxPending  maximum number of queued and in flight lookups
+	 * @param handler     performs the lookup, rate limiting its own upstream requests
+	 */
+	LookupPipeline(int concurrency, int maxPending, Consumer<PendingLookup> handler)
+	{
+		this.maxPending = maxPending;
+		this.handler = handler;
+		this.executor = Executors.newFixedThreadPool(concurrency, new ThreadFactoryBuilder()
+			.setNameFormat("item-lookup-%d")
+			.setDaemon(true)
+			.build());
+
+		for (int i = 0; i < concurrency; ++i)
+		{
+			executor.execute(this::run);
+		}
+	}
+
+	/**
+	 * Queue a lookup
+	 *
+	 * @param lookup
+	 * @return false if the lookup was dropped, either because an identical
+	 * lookup is already pending or because the pipeline is full
+	 */
+	boolean submit(PendingLookup lookup)
+	{
+		if (pending.size() >= maxPending)
+		{
+			return false;
+		}
+
+		if (!pending.add(lookup))
+		{
+			return false;
+		}
+
+		queue.add(new Task(lookup, seq.getAndIncrement()));
+		return true;
+	}
+
+	/**
+	 * @return number of lookups which are queued or in flight
+	 */
+	int size()
+	{
+		return pending.size();
+	}
+
+	void shutdown()
+	{
+		running = false;
+		executor.shutdownNow();
+	}
+
+	boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		return executor.awaitTermination(timeout, unit);
+	}
+
+	private void run()
+	{
+		while (running)
+		{
+			Task task;
+			try
+			{
+				task = queue.take();
+			}
+			catch (InterruptedException ex)
+			{
+				return;
+			}
+
+			try
+			{
+				handler.accept(task.lookup);
+			}
+			catch (Exception ex)
+			{
+				log.warn("error performing lookup {}", task.lookup, ex);
+			}
+			finally
+			{
+				pending.remove(task.lookup);
+			}
+		}
+	}
+}
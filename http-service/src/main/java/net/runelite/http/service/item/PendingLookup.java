@@ -32,7 +32,8 @@ class PendingLookup
 	enum Type
 	{
 		SEARCH,
-		ITEM;
+		ITEM,
+		PRICE;
 	}
 
 	private final int itemId;
@@ -52,4 +53,13 @@ class PendingLookup
 		this.search = search;
 		this.type = type;
 	}
+
+	/**
+	 * Whether this lookup was triggered by a user request, as opposed to
+	 * background crawling. User lookups are always served first.
+	 */
+	boolean isUserTriggered()
+	{
+		return type != Type.PRICE;
+	}
 }
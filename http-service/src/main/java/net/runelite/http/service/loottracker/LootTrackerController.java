@@ -27,9 +27,11 @@ package net.runelite.http.service.loottracker;
 
 import com.google.api.client.http.HttpStatusCodes;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import net.runelite.http.api.loottracker.LootAggregate;
 import net.runelite.http.api.loottracker.LootRecord;
 import net.runelite.http.service.account.AuthFilter;
 import net.runelite.http.service.account.beans.SessionEntry;
@@ -45,6 +47,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/loottracker")
 public class LootTrackerController
 {
+	private static final int MAX_BULK_RECORDS = 512;
+
 	@Autowired
 	private LootTrackerService service;
 
@@ -65,6 +69,39 @@ public class LootTrackerController
 		response.setStatus(HttpStatusCodes.STATUS_CODE_OK);
 	}
 
+	@RequestMapping(path = "/bulk", method = RequestMethod.POST)
+	public void storeLootRecords(HttpServletRequest request, HttpServletResponse response, @RequestBody LootRecord[] records) throws IOException
+	{
+		SessionEntry e = auth.handle(request, response);
+		if (e == null)
+		{
+			response.setStatus(HttpStatusCodes.STATUS_CODE_UNAUTHORIZED);
+			return;
+		}
+
+		if (records.length > MAX_BULK_RECORDS)
+		{
+			response.setStatus(HttpStatusCodes.STATUS_CODE_BAD_REQUEST);
+			return;
+		}
+
+		service.store(Arrays.asList(records), e.getUser());
+		response.setStatus(HttpStatusCodes.STATUS_CODE_OK);
+	}
+
+	@RequestMapping("/summary")
+	public Collection<LootAggregate> getLootSummary(HttpServletRequest request, HttpServletResponse response) throws IOException
+	{
+		SessionEntry e = auth.handle(request, response);
+		if (e == null)
+		{
+			response.setStatus(HttpStatusCodes.STATUS_CODE_UNAUTHORIZED);
+			return null;
+		}
+
+		return service.getSummary(e.getUser());
+	}
+
 	@RequestMapping
 	public Collection<LootRecord> getLootRecords(HttpServletRequest request, HttpServletResponse response, @RequestParam(value = "count", defaultValue = "1024") int count) throws IOException
 	{
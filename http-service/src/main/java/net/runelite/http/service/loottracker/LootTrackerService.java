@@ -27,9 +27,16 @@ package net.runelite.http.service.loottracker;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import lombok.Value;
 import net.runelite.http.api.loottracker.GameItem;
+import net.runelite.http.api.loottracker.LootAggregate;
 import net.runelite.http.api.loottracker.LootRecord;
+import net.runelite.http.api.loottracker.LootRecordType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -62,14 +69,51 @@ public class LootTrackerService
 		+ "  FOREIGN KEY (killId) REFERENCES kills(id) ON DELETE CASCADE\n"
 		+ ") ENGINE=InnoDB";
 
+	// Table for storing the number of kills per account and event. Unlike kills, these are not expired.
+	private static final String CREATE_KILLS_SUMMARY = "CREATE TABLE IF NOT EXISTS `kills_summary` (\n"
+		+ "  `accountId` INT NOT NULL,\n"
+		+ "  `type` enum('NPC', 'PLAYER', 'EVENT', 'UNKNOWN') NOT NULL,\n"
+		+ "  `eventId` VARCHAR(255) NOT NULL,\n"
+		+ "  `kills` INT NOT NULL,\n"
+		+ "  PRIMARY KEY (accountId, type, eventId),\n"
+		+ "  FOREIGN KEY (accountId) REFERENCES sessions(user) ON DELETE CASCADE\n"
+		+ ") ENGINE=InnoDB";
+
+	// Table for storing the summed quantity of each item received per account and event
+	private static final String CREATE_DROPS_SUMMARY = "CREATE TABLE IF NOT EXISTS `drops_summary` (\n"
+		+ "  `accountId` INT NOT NULL,\n"
+		+ "  `type` enum('NPC', 'PLAYER', 'EVENT', 'UNKNOWN') NOT NULL,\n"
+		+ "  `eventId` VARCHAR(255) NOT NULL,\n"
+		+ "  `itemId` INT NOT NULL,\n"
+		+ "  `itemQuantity` BIGINT NOT NULL,\n"
+		+ "  PRIMARY KEY (accountId, type, eventId, itemId),\n"
+		+ "  FOREIGN KEY (accountId) REFERENCES sessions(user) ON DELETE CASCADE\n"
+		+ ") ENGINE=InnoDB";
+
 	// Queries for inserting kills
-	private static final String INSERT_KILL_QUERY = "INSERT INTO kills (accountId, type, eventId) VALUES (:accountId, :type, :eventId)";
-	private static final String INSERT_DROP_QUERY = "INSERT INTO drops (killId, itemId, itemQuantity) VALUES (LAST_INSERT_ID(), :itemId, :itemQuantity)";
+	private static final String INSERT_DROP_QUERY = "INSERT INTO drops (killId, itemId, itemQuantity) VALUES (:killId, :itemId, :itemQuantity)";
+	private static final String UPSERT_KILLS_SUMMARY_QUERY = "INSERT INTO kills_summary (accountId, type, eventId, kills) VALUES (:accountId, :type, :eventId, :kills)"
+		+ " ON DUPLICATE KEY UPDATE kills = kills + VALUES(kills)";
+	private static final String UPSERT_DROPS_SUMMARY_QUERY = "INSERT INTO drops_summary (accountId, type, eventId, itemId, itemQuantity) VALUES (:accountId, :type, :eventId, :itemId, :itemQuantity)"
+		+ " ON DUPLICATE KEY UPDATE itemQuantity = itemQuantity + VALUES(itemQuantity)";
 
 	private static final String SELECT_LOOT_QUERY = "SELECT killId,time,type,eventId,itemId,itemQuantity FROM kills JOIN drops ON drops.killId = kills.id WHERE accountId = :accountId ORDER BY TIME DESC LIMIT :limit";
+	private static final String SELECT_KILLS_SUMMARY_QUERY = "SELECT type,eventId,kills FROM kills_summary WHERE accountId = :accountId";
+	private static final String SELECT_DROPS_SUMMARY_QUERY = "SELECT type,eventId,itemId,LEAST(itemQuantity, 2147483647) AS itemQuantity FROM drops_summary WHERE accountId = :accountId";
 
 	private static final String DELETE_LOOT_ACCOUNT = "DELETE FROM kills WHERE accountId = :accountId";
 	private static final String DELETE_LOOT_ACCOUNT_EVENTID = "DELETE FROM kills WHERE accountId = :accountId AND eventId = :eventId";
+	private static final String DELETE_KILLS_SUMMARY_ACCOUNT = "DELETE FROM kills_summary WHERE accountId = :accountId";
+	private static final String DELETE_KILLS_SUMMARY_ACCOUNT_EVENTID = "DELETE FROM kills_summary WHERE accountId = :accountId AND eventId = :eventId";
+	private static final String DELETE_DROPS_SUMMARY_ACCOUNT = "DELETE FROM drops_summary WHERE accountId = :accountId";
+	private static final String DELETE_DROPS_SUMMARY_ACCOUNT_EVENTID = "DELETE FROM drops_summary WHERE accountId = :accountId AND eventId = :eventId";
+
+	@Value
+	private static class EventKey
+	{
+		LootRecordType type;
+		String eventId;
+	}
 
 	private final Sql2o sql2o;
 
@@ -83,6 +127,8 @@ public class LootTrackerService
 		{
 			con.createQuery(CREATE_KILLS).executeUpdate();
 			con.createQuery(CREATE_DROPS).executeUpdate();
+			con.createQuery(CREATE_KILLS_SUMMARY).executeUpdate();
+			con.createQuery(CREATE_DROPS_SUMMARY).executeUpdate();
 		}
 	}
 
@@ -94,27 +140,108 @@ public class LootTrackerService
 	 */
 	public void store(LootRecord record, int accountId)
 	{
+		store(Collections.singletonList(record), accountId);
+	}
+
+	/**
+	 * Store many LootRecords in a single transaction, and add them to the
+	 * account's loot summary
+	 *
+	 * @param records   LootRecords to store
+	 * @param accountId runelite account id to tie data too
+	 */
+	public void store(Collection<LootRecord> records, int accountId)
+	{
+		if (records.isEmpty())
+		{
+			return;
+		}
+
+		// Build one multi-row insert for all of the kills
+		StringBuilder sb = new StringBuilder("INSERT INTO kills (accountId, type, eventId) VALUES ");
+		for (int i = 0; i < records.size(); ++i)
+		{
+			if (i > 0)
+			{
+				sb.append(',');
+			}
+			sb.append("(:accountId, :type").append(i).append(", :eventId").append(i).append(')');
+		}
+
+		Map<EventKey, Integer> kills = new LinkedHashMap<>();
+		Map<EventKey, Map<Integer, Long>> drops = new LinkedHashMap<>();
+
 		try (Connection con = sql2o.beginTransaction())
 		{
-			// Kill Entry Query
-			con.createQuery(INSERT_KILL_QUERY, true)
-				.addParameter("accountId", accountId)
-				.addParameter("type", record.getType())
-				.addParameter("eventId", record.getEventId())
-				.executeUpdate();
+			Query insertKills = con.createQuery(sb.toString(), true)
+				.addParameter("accountId", accountId);
+
+			int i = 0;
+			for (LootRecord record : records)
+			{
+				insertKills
+					.addParameter("type" + i, record.getType())
+					.addParameter("eventId" + i, record.getEventId());
+				++i;
+			}
+
+			List<Integer> killIds = insertKills.executeUpdate()
+				.getKeys(Integer.class);
 
 			Query insertDrop = con.createQuery(INSERT_DROP_QUERY);
 
-			// Append all queries for inserting drops
-			for (GameItem drop : record.getDrops())
+			i = 0;
+			for (LootRecord record : records)
 			{
-				insertDrop
-					.addParameter("itemId", drop.getId())
-					.addParameter("itemQuantity", drop.getQty())
-					.addToBatch();
+				int killId = killIds.get(i++);
+				EventKey key = new EventKey(record.getType(), record.getEventId());
+				Map<Integer, Long> eventDrops = drops.computeIfAbsent(key, k -> new HashMap<>());
+
+				kills.merge(key, 1, Integer::sum);
+
+				// Append all queries for inserting drops
+				for (GameItem drop : record.getDrops())
+				{
+					insertDrop
+						.addParameter("killId", killId)
+						.addParameter("itemId", drop.getId())
+						.addParameter("itemQuantity", drop.getQty())
+						.addToBatch();
+
+					eventDrops.merge(drop.getId(), (long) drop.getQty(), Long::sum);
+				}
 			}
 
 			insertDrop.executeBatch();
+
+			Query upsertKills = con.createQuery(UPSERT_KILLS_SUMMARY_QUERY);
+			for (Map.Entry<EventKey, Integer> entry : kills.entrySet())
+			{
+				upsertKills
+					.addParameter("accountId", accountId)
+					.addParameter("type", entry.getKey().getType())
+					.addParameter("eventId", entry.getKey().getEventId())
+					.addParameter("kills", entry.getValue())
+					.addToBatch();
+			}
+			upsertKills.executeBatch();
+
+			Query upsertDrops = con.createQuery(UPSERT_DROPS_SUMMARY_QUERY);
+			for (Map.Entry<EventKey, Map<Integer, Long>> entry : drops.entrySet())
+			{
+				for (Map.Entry<Integer, Long> drop : entry.getValue().entrySet())
+				{
+					upsertDrops
+						.addParameter("accountId", accountId)
+						.addParameter("type", entry.getKey().getType())
+						.addParameter("eventId", entry.getKey().getEventId())
+						.addParameter("itemId", drop.getKey())
+						.addParameter("itemQuantity", drop.getValue())
+						.addToBatch();
+				}
+			}
+			upsertDrops.executeBatch();
+
 			con.commit(false);
 		}
 	}
@@ -163,15 +290,63 @@ public class LootTrackerService
 		return lootRecords;
 	}
 
-	public void delete(int accountId, String eventId)
+	/**
+	 * Get the loot summary of an account, with the number of kills and
+	 * total quantity of each item received per event
+	 *
+	 * @param accountId runelite account id
+	 * @return loot summary
+	 */
+	public Collection<LootAggregate> getSummary(int accountId)
 	{
+		List<LootSummaryResult> killResults;
+		List<LootSummaryResult> dropResults;
+
 		try (Connection con = sql2o.open())
+		{
+			killResults = con.createQuery(SELECT_KILLS_SUMMARY_QUERY)
+				.addParameter("accountId", accountId)
+				.executeAndFetch(LootSummaryResult.class);
+
+			dropResults = con.createQuery(SELECT_DROPS_SUMMARY_QUERY)
+				.addParameter("accountId", accountId)
+				.executeAndFetch(LootSummaryResult.class);
+		}
+
+		Map<EventKey, LootAggregate> aggregates = new LinkedHashMap<>();
+		for (LootSummaryResult result : killResults)
+		{
+			aggregates.put(new EventKey(result.getType(), result.getEventId()),
+				new LootAggregate(result.getEventId(), result.getType(), result.getKills(), new ArrayList<>()));
+		}
+
+		for (LootSummaryResult result : dropResults)
+		{
+			LootAggregate aggregate = aggregates.get(new EventKey(result.getType(), result.getEventId()));
+			if (aggregate != null)
+			{
+				aggregate.getDrops().add(new GameItem(result.getItemId(), result.getItemQuantity()));
+			}
+		}
+
+		return aggregates.values();
+	}
+
+	public void delete(int accountId, String eventId)
+	{
+		try (Connection con = sql2o.beginTransaction())
 		{
 			if (eventId == null)
 			{
 				con.createQuery(DELETE_LOOT_ACCOUNT)
 					.addParameter("accountId", accountId)
 					.executeUpdate();
+				con.createQuery(DELETE_KILLS_SUMMARY_ACCOUNT)
+					.addParameter("accountId", accountId)
+					.executeUpdate();
+				con.createQuery(DELETE_DROPS_SUMMARY_ACCOUNT)
+					.addParameter("accountId", accountId)
+					.executeUpdate();
 			}
 			else
 			{
@@ -179,7 +354,17 @@ public class LootTrackerService
 					.addParameter("accountId", accountId)
 					.addParameter("eventId", eventId)
 					.executeUpdate();
+				con.createQuery(DELETE_KILLS_SUMMARY_ACCOUNT_EVENTID)
+					.addParameter("accountId", accountId)
+					.addParameter("eventId", eventId)
+					.executeUpdate();
+				con.createQuery(DELETE_DROPS_SUMMARY_ACCOUNT_EVENTID)
+					.addParameter("accountId", accountId)
+					.addParameter("eventId", eventId)
+					.executeUpdate();
 			}
+
+			con.commit(false);
 		}
 	}
 
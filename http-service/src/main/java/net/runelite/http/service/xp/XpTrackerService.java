@@ -29,10 +29,21 @@ import com.google.common.hash.Funnels;
 import java.nio.charset.Charset;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.http.api.hiscore.HiscoreEndpoint;
 import net.runelite.http.api.hiscore.HiscoreResult;
+import net.runelite.http.api.hiscore.HiscoreSkill;
+import net.runelite.http.api.hiscore.Skill;
 import net.runelite.http.api.xp.XpData;
 import net.runelite.http.service.hiscore.HiscoreService;
 import net.runelite.http.service.xp.beans.PlayerEntity;
@@ -42,6 +53,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.sql2o.Connection;
+import org.sql2o.Query;
 import org.sql2o.Sql2o;
 
 @Service
@@ -49,6 +61,25 @@ import org.sql2o.Sql2o;
 public class XpTrackerService
 {
 	private static final Duration UPDATE_TIME = Duration.ofMinutes(5);
+	private static final int MAX_PENDING_UPDATES = 4096;
+	private static final int MAX_PENDING_LOOKUPS = 512;
+	private static final int MAX_BATCH = 256;
+	private static final int LOOKUPS_PER_TICK = 4;
+	// failed writes of an update before it is dropped
+	private static final int MAX_WRITE_ATTEMPTS = 3;
+
+	/**
+	 * Skills with xp and rank columns in the xp table
+	 */
+	private static final HiscoreSkill[] SKILLS = {
+		HiscoreSkill.ATTACK, HiscoreSkill.DEFENCE, HiscoreSkill.STRENGTH, HiscoreSkill.HITPOINTS, HiscoreSkill.RANGED,
+		HiscoreSkill.PRAYER, HiscoreSkill.MAGIC, HiscoreSkill.COOKING, HiscoreSkill.WOODCUTTING, HiscoreSkill.FLETCHING,
+		HiscoreSkill.FISHING, HiscoreSkill.FIREMAKING, HiscoreSkill.CRAFTING, HiscoreSkill.SMITHING, HiscoreSkill.MINING,
+		HiscoreSkill.HERBLORE, HiscoreSkill.AGILITY, HiscoreSkill.THIEVING, HiscoreSkill.SLAYER, HiscoreSkill.FARMING,
+		HiscoreSkill.RUNECRAFT, HiscoreSkill.HUNTER, HiscoreSkill.CONSTRUCTION
+	};
+
+	private static final String XP_COLUMNS = xpColumns();
 
 	@Autowired
 	@Qualifier("Runelite XP Tracker SQL2O")
@@ -58,7 +89,11 @@ public class XpTrackerService
 	private HiscoreService hiscoreService;
 
 	private BloomFilter<String> usernameFilter = createFilter();
-	private String nextUsername;
+	private final BlockingQueue<String> pendingLookups = new LinkedBlockingQueue<>(MAX_PENDING_LOOKUPS);
+	// latest hiscore result per player waiting to be written
+	private final Map<String, HiscoreResult> pendingUpdates = new ConcurrentHashMap<>();
+	// failed writes by player, only accessed from flush()
+	private final Map<String, Integer> writeAttempts = new HashMap<>();
 
 	public void update(String username) throws ExecutionException
 	{
@@ -68,127 +103,366 @@ public class XpTrackerService
 
 	public void tryUpdate(String username)
 	{
-		if (nextUsername != null || usernameFilter.mightContain(username))
+		if (usernameFilter.mightContain(username))
 		{
 			return;
 		}
 
-		nextUsername = username;
-		usernameFilter.put(username);
+		if (pendingLookups.offer(username))
+		{
+			usernameFilter.put(username);
+		}
 	}
 
+	/**
+	 * Queue a hiscore result to be written to the tracker. Results are
+	 * written out in batches by {@link #flush()}, and a newer result for
+	 * the same player replaces one which has not been written yet.
+	 *
+	 * @param username
+	 * @param hiscoreResult
+	 */
 	public void update(String username, HiscoreResult hiscoreResult)
 	{
-		try (Connection con = sql2o.open())
+		if (pendingUpdates.size() >= MAX_PENDING_UPDATES && !pendingUpdates.containsKey(username))
+		{
+			log.debug("Dropping xp update for {}", username);
+			return;
+		}
+
+		pendingUpdates.put(username, hiscoreResult);
+	}
+
+	@Scheduled(fixedDelay = 1000)
+	public void flush()
+	{
+		Iterator<Map.Entry<String, HiscoreResult>> it = pendingUpdates.entrySet().iterator();
+		while (it.hasNext())
+		{
+			Map<String, HiscoreResult> batch = new HashMap<>();
+			while (it.hasNext() && batch.size() < MAX_BATCH)
+			{
+				Map.Entry<String, HiscoreResult> entry = it.next();
+				batch.put(entry.getKey(), entry.getValue());
+			}
+
+			if (!tryWrite(batch) && !bisect(batch))
+			{
+				// the database is likely unavailable, the remaining updates are retried on the next flush
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Write a batch and remove it from the pending updates
+	 *
+	 * @return true if the batch was written
+	 */
+	private boolean tryWrite(Map<String, HiscoreResult> batch)
+	{
+		try
+		{
+			write(batch);
+		}
+		catch (RuntimeException ex)
+		{
+			log.warn("Unable to write {} xp updates", batch.size(), ex);
+			return false;
+		}
+
+		for (Map.Entry<String, HiscoreResult> entry : batch.entrySet())
+		{
+			// keeps a newer result which was queued while the batch was being written
+			pendingUpdates.remove(entry.getKey(), entry.getValue());
+			writeAttempts.remove(entry.getKey());
+		}
+		return true;
+	}
+
+	/**
+	 * Split a batch which failed to write in halves, and write each of them, to
+	 * isolate an update which can't be written. If both halves fail the failure is
+	 * not down to a single update, and the whole batch is counted as failed.
+	 *
+	 * @return false if both halves of a batch failed to write
+	 */
+	private boolean bisect(Map<String, HiscoreResult> batch)
+	{
+		if (batch.size() == 1)
+		{
+			failed(batch);
+			return true;
+		}
+
+		Map<String, HiscoreResult> first = new HashMap<>();
+		Map<String, HiscoreResult> second = new HashMap<>();
+		for (Map.Entry<String, HiscoreResult> entry : batch.entrySet())
 		{
-			PlayerEntity playerEntity = findOrCreatePlayer(con, username);
+			(first.size() < batch.size() / 2 ? first : second).put(entry.getKey(), entry.getValue());
+		}
+
+		boolean firstWritten = tryWrite(first);
+		boolean secondWritten = tryWrite(second);
+		if (!firstWritten && !secondWritten)
+		{
+			failed(batch);
+			return false;
+		}
+
+		if (firstWritten && secondWritten)
+		{
+			// the failure was transient
+			return true;
+		}
+
+		return bisect(firstWritten ? second : first);
+	}
+
+	/**
+	 * Count a failed write of each update in the batch, dropping updates
+	 * which have failed too many times so they don't block the others
+	 */
+	private void failed(Map<String, HiscoreResult> batch)
+	{
+		for (Map.Entry<String, HiscoreResult> entry : batch.entrySet())
+		{
+			String username = entry.getKey();
+			int attempts = writeAttempts.merge(username, 1, Integer::sum);
+			if (attempts >= MAX_WRITE_ATTEMPTS)
+			{
+				log.warn("Dropping xp update for {} after {} failed writes", username, attempts);
+				pendingUpdates.remove(username, entry.getValue());
+				writeAttempts.remove(username);
+			}
+		}
+	}
+
+	private void write(Map<String, HiscoreResult> batch)
+	{
+		try (Connection con = sql2o.beginTransaction())
+		{
+			Map<String, PlayerEntity> players = findOrCreatePlayers(con, new ArrayList<>(batch.keySet()));
+			Map<Integer, XpEntity> currentXp = findLatestXp(con, players.values());
 
 			Instant now = Instant.now();
-			XpEntity currentXp = findXpAtTime(con, username, now);
-			if (currentXp != null)
+			Map<Integer, HiscoreResult> rows = new HashMap<>();
+
+			for (Map.Entry<String, HiscoreResult> entry : batch.entrySet())
 			{
-				XpData hiscoreData = XpMapper.INSTANCE.hiscoreResultToXpData(hiscoreResult);
-				XpData existingData = XpMapper.INSTANCE.xpEntityToXpData(currentXp);
+				String username = entry.getKey();
+				HiscoreResult hiscoreResult = entry.getValue();
+				PlayerEntity playerEntity = players.get(username);
 
-				if (hiscoreData.equals(existingData))
+				if (playerEntity == null)
 				{
-					log.debug("Hiscore for {} already up to date", username);
-					return;
+					log.warn("Unable to find or create player {}", username);
+					continue;
 				}
 
-				Duration difference = Duration.between(currentXp.getTime(), now);
-				if (difference.compareTo(UPDATE_TIME) <= 0)
+				XpEntity current = currentXp.get(playerEntity.getId());
+				if (current != null)
 				{
-					log.debug("Updated {} too recently", username);
-					return;
+					XpData hiscoreData = XpMapper.INSTANCE.hiscoreResultToXpData(hiscoreResult);
+					XpData existingData = XpMapper.INSTANCE.xpEntityToXpData(current);
+
+					if (hiscoreData.equals(existingData))
+					{
+						log.debug("Hiscore for {} already up to date", username);
+						continue;
+					}
+
+					Duration difference = Duration.between(current.getTime(), now);
+					if (difference.compareTo(UPDATE_TIME) <= 0)
+					{
+						log.debug("Updated {} too recently", username);
+						continue;
+					}
 				}
+
+				rows.put(playerEntity.getId(), hiscoreResult);
+			}
+
+			if (!rows.isEmpty())
+			{
+				insertXp(con, rows);
+			}
+
+			con.commit(false);
+			log.debug("Wrote {} xp updates for {} players", rows.size(), batch.size());
+		}
+	}
+
+	private static String xpColumns()
+	{
+		StringBuilder sb = new StringBuilder("player");
+		for (HiscoreSkill skill : SKILLS)
+		{
+			sb.append(',').append(skill.name().toLowerCase()).append("_xp");
+		}
+		for (HiscoreSkill skill : SKILLS)
+		{
+			sb.append(',').append(skill.name().toLowerCase()).append("_rank");
+		}
+		sb.append(",overall_rank");
+		return sb.toString();
+	}
+
+	/**
+	 * Insert the xp of several players with a single multi-row insert
+	 *
+	 * @param con
+	 * @param rows hiscore results by player id
+	 */
+	private static void insertXp(Connection con, Map<Integer, HiscoreResult> rows)
+	{
+		StringBuilder sb = new StringBuilder("insert into xp (").append(XP_COLUMNS).append(") values ");
+		for (int i = 0; i < rows.size(); ++i)
+		{
+			if (i > 0)
+			{
+				sb.append(',');
+			}
+
+			sb.append("(:player").append(i);
+			for (HiscoreSkill skill : SKILLS)
+			{
+				sb.append(",:").append(skill.name().toLowerCase()).append("_xp").append(i);
+			}
+			for (HiscoreSkill skill : SKILLS)
+			{
+				sb.append(",:").append(skill.name().toLowerCase()).append("_rank").append(i);
+			}
+			sb.append(",:overall_rank").append(i).append(')');
+		}
+
+		Query query = con.createQuery(sb.toString());
+		int i = 0;
+		for (Map.Entry<Integer, HiscoreResult> entry : rows.entrySet())
+		{
+			HiscoreResult hiscoreResult = entry.getValue();
+
+			query.addParameter("player" + i, entry.getKey());
+			for (HiscoreSkill skill : SKILLS)
+			{
+				Skill s = hiscoreResult.getSkill(skill);
+				query.addParameter(skill.name().toLowerCase() + "_xp" + i, s.getExperience());
+				query.addParameter(skill.name().toLowerCase() + "_rank" + i, s.getRank());
+			}
+			query.addParameter("overall_rank" + i, hiscoreResult.getOverall().getRank());
+			++i;
+		}
+
+		query.executeUpdate();
+	}
+
+	/**
+	 * Look up the given players, creating any which do not exist. Only the
+	 * missing players are inserted, as an ignored insert still uses up an
+	 * auto increment id. Creation is a single multi-row insert ignore, so it
+	 * is safe for concurrent writers without any locking.
+	 */
+	private static Map<String, PlayerEntity> findOrCreatePlayers(Connection con, List<String> usernames)
+	{
+		Map<String, PlayerEntity> players = findPlayers(con, usernames);
+
+		List<String> missing = new ArrayList<>();
+		for (String username : usernames)
+		{
+			if (!players.containsKey(username))
+			{
+				missing.add(username);
+			}
+		}
+
+		if (missing.isEmpty())
+		{
+			return players;
+		}
+
+		StringBuilder sb = new StringBuilder("insert ignore into player (name, tracked_since) values ");
+		for (int i = 0; i < missing.size(); ++i)
+		{
+			if (i > 0)
+			{
+				sb.append(',');
+			}
+			sb.append("(:name").append(i).append(", :tracked_since)");
+		}
+
+		Query query = con.createQuery(sb.toString())
+			.addParameter("tracked_since", Instant.now());
+		for (int i = 0; i < missing.size(); ++i)
+		{
+			query.addParameter("name" + i, missing.get(i));
+		}
+		query.executeUpdate();
+
+		players.putAll(findPlayers(con, missing));
+		return players;
+	}
+
+	private static Map<String, PlayerEntity> findPlayers(Connection con, List<String> usernames)
+	{
+		StringBuilder sb = new StringBuilder("select * from player where name in (");
+		for (int i = 0; i < usernames.size(); ++i)
+		{
+			if (i > 0)
+			{
+				sb.append(',');
+			}
+			sb.append(":name").append(i);
+		}
+		sb.append(')');
+
+		Query query = con.createQuery(sb.toString());
+		for (int i = 0; i < usernames.size(); ++i)
+		{
+			query.addParameter("name" + i, usernames.get(i));
+		}
+
+		// player names are compared case insensitively by the database
+		Map<String, PlayerEntity> players = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (PlayerEntity playerEntity : query.executeAndFetch(PlayerEntity.class))
+		{
+			players.put(playerEntity.getName(), playerEntity);
+		}
+		return players;
+	}
+
+	private static Map<Integer, XpEntity> findLatestXp(Connection con, Iterable<PlayerEntity> players)
+	{
+		StringBuilder sb = new StringBuilder("select xp.* from xp join (select player, max(time) as time from xp where player in (");
+		List<Integer> ids = new ArrayList<>();
+		for (PlayerEntity playerEntity : players)
+		{
+			if (!ids.isEmpty())
+			{
+				sb.append(',');
 			}
+			sb.append(":player").append(ids.size());
+			ids.add(playerEntity.getId());
+		}
+		sb.append(") group by player) t on xp.player=t.player and xp.time=t.time");
+
+		Map<Integer, XpEntity> xp = new HashMap<>();
+		if (ids.isEmpty())
+		{
+			return xp;
+		}
+
+		Query query = con.createQuery(sb.toString())
+			.throwOnMappingFailure(false);
+		for (int i = 0; i < ids.size(); ++i)
+		{
+			query.addParameter("player" + i, ids.get(i));
+		}
 
-			con.createQuery("insert into xp (player,attack_xp,defence_xp,strength_xp,hitpoints_xp,ranged_xp,prayer_xp,magic_xp,cooking_xp,woodcutting_xp,"
-				+ "fletching_xp,fishing_xp,firemaking_xp,crafting_xp,smithing_xp,mining_xp,herblore_xp,agility_xp,thieving_xp,slayer_xp,farming_xp,"
-				+ "runecraft_xp,hunter_xp,construction_xp,attack_rank,defence_rank,strength_rank,hitpoints_rank,ranged_rank,prayer_rank,magic_rank,"
-				+ "cooking_rank,woodcutting_rank,fletching_rank,fishing_rank,firemaking_rank,crafting_rank,smithing_rank,mining_rank,herblore_rank,"
-				+ "agility_rank,thieving_rank,slayer_rank,farming_rank,runecraft_rank,hunter_rank,construction_rank,overall_rank) values (:player,:attack_xp,:defence_xp,"
-				+ ":strength_xp,:hitpoints_xp,:ranged_xp,:prayer_xp,:magic_xp,:cooking_xp,:woodcutting_xp,:fletching_xp,:fishing_xp,:firemaking_xp,"
-				+ ":crafting_xp,:smithing_xp,:mining_xp,:herblore_xp,:agility_xp,:thieving_xp,:slayer_xp,:farming_xp,:runecraft_xp,:hunter_xp,"
-				+ ":construction_xp,:attack_rank,:defence_rank,:strength_rank,:hitpoints_rank,:ranged_rank,:prayer_rank,:magic_rank,:cooking_rank,"
-				+ ":woodcutting_rank,:fletching_rank,:fishing_rank,:firemaking_rank,:crafting_rank,:smithing_rank,:mining_rank,:herblore_rank,"
-				+ ":agility_rank,:thieving_rank,:slayer_rank,:farming_rank,:runecraft_rank,:hunter_rank,:construction_rank,:overall_rank)")
-				.addParameter("player", playerEntity.getId())
-				.addParameter("attack_xp", hiscoreResult.getAttack().getExperience())
-				.addParameter("defence_xp", hiscoreResult.getDefence().getExperience())
-				.addParameter("strength_xp", hiscoreResult.getStrength().getExperience())
-				.addParameter("hitpoints_xp", hiscoreResult.getHitpoints().getExperience())
-				.addParameter("ranged_xp", hiscoreResult.getRanged().getExperience())
-				.addParameter("prayer_xp", hiscoreResult.getPrayer().getExperience())
-				.addParameter("magic_xp", hiscoreResult.getMagic().getExperience())
-				.addParameter("cooking_xp", hiscoreResult.getCooking().getExperience())
-				.addParameter("woodcutting_xp", hiscoreResult.getWoodcutting().getExperience())
-				.addParameter("fletching_xp", hiscoreResult.getFletching().getExperience())
-				.addParameter("fishing_xp", hiscoreResult.getFishing().getExperience())
-				.addParameter("firemaking_xp", hiscoreResult.getFiremaking().getExperience())
-				.addParameter("crafting_xp", hiscoreResult.getCrafting().getExperience())
-				.addParameter("smithing_xp", hiscoreResult.getSmithing().getExperience())
-				.addParameter("mining_xp", hiscoreResult.getMining().getExperience())
-				.addParameter("herblore_xp", hiscoreResult.getHerblore().getExperience())
-				.addParameter("agility_xp", hiscoreResult.getAgility().getExperience())
-				.addParameter("thieving_xp", hiscoreResult.getThieving().getExperience())
-				.addParameter("slayer_xp", hiscoreResult.getSlayer().getExperience())
-				.addParameter("farming_xp", hiscoreResult.getFarming().getExperience())
-				.addParameter("runecraft_xp", hiscoreResult.getRunecraft().getExperience())
-				.addParameter("hunter_xp", hiscoreResult.getHunter().getExperience())
-				.addParameter("construction_xp", hiscoreResult.getConstruction().getExperience())
-				.addParameter("attack_rank", hiscoreResult.getAttack().getRank())
-				.addParameter("defence_rank", hiscoreResult.getDefence().getRank())
-				.addParameter("strength_rank", hiscoreResult.getStrength().getRank())
-				.addParameter("hitpoints_rank", hiscoreResult.getHitpoints().getRank())
-				.addParameter("ranged_rank", hiscoreResult.getRanged().getRank())
-				.addParameter("prayer_rank", hiscoreResult.getPrayer().getRank())
-				.addParameter("magic_rank", hiscoreResult.getMagic().getRank())
-				.addParameter("cooking_rank", hiscoreResult.getCooking().getRank())
-				.addParameter("woodcutting_rank", hiscoreResult.getWoodcutting().getRank())
-				.addParameter("fletching_rank", hiscoreResult.getFletching().getRank())
-				.addParameter("fishing_rank", hiscoreResult.getFishing().getRank())
-				.addParameter("firemaking_rank", hiscoreResult.getFiremaking().getRank())
-				.addParameter("crafting_rank", hiscoreResult.getCrafting().getRank())
-				.addParameter("smithing_rank", hiscoreResult.getSmithing().getRank())
-				.addParameter("mining_rank", hiscoreResult.getMining().getRank())
-				.addParameter("herblore_rank", hiscoreResult.getHerblore().getRank())
-				.addParameter("agility_rank", hiscoreResult.getAgility().getRank())
-				.addParameter("thieving_rank", hiscoreResult.getThieving().getRank())
-				.addParameter("slayer_rank", hiscoreResult.getSlayer().getRank())
-				.addParameter("farming_rank", hiscoreResult.getFarming().getRank())
-				.addParameter("runecraft_rank", hiscoreResult.getRunecraft().getRank())
-				.addParameter("hunter_rank", hiscoreResult.getHunter().getRank())
-				.addParameter("construction_rank", hiscoreResult.getConstruction().getRank())
-				.addParameter("overall_rank", hiscoreResult.getOverall().getRank())
-				.executeUpdate();
-		}
-	}
-
-	private synchronized PlayerEntity findOrCreatePlayer(Connection con, String username)
-	{
-		PlayerEntity playerEntity = con.createQuery("select * from player where name = :name")
-			.addParameter("name", username)
-			.executeAndFetchFirst(PlayerEntity.class);
-		if (playerEntity != null)
-		{
-			return playerEntity;
-		}
-
-		Instant now = Instant.now();
-
-		int id = con.createQuery("insert into player (name, tracked_since) values (:name, :tracked_since)")
-			.addParameter("name", username)
-			.addParameter("tracked_since", now)
-			.executeUpdate()
-			.getKey(int.class);
-
-		playerEntity = new PlayerEntity();
-		playerEntity.setId(id);
-		playerEntity.setName(username);
-		playerEntity.setTracked_since(now);
-		return playerEntity;
+		for (XpEntity xpEntity : query.executeAndFetch(XpEntity.class))
+		{
+			xp.put(xpEntity.getPlayer(), xpEntity);
+		}
+		return xp;
 	}
 
 	private XpEntity findXpAtTime(Connection con, String username, Instant time)
@@ -211,16 +485,17 @@ public class XpTrackerService
 	@Scheduled(fixedDelay = 1000)
 	public void update() throws ExecutionException
 	{
-		String next = nextUsername;
-		nextUsername = null;
-
-		if (next == null)
+		for (int i = 0; i < LOOKUPS_PER_TICK; ++i)
 		{
-			return;
-		}
+			String next = pendingLookups.poll();
+			if (next == null)
+			{
+				return;
+			}
 
-		HiscoreResult hiscoreResult = hiscoreService.lookupUsername(next, HiscoreEndpoint.NORMAL);
-		update(next, hiscoreResult);
+			HiscoreResult hiscoreResult = hiscoreService.lookupUsername(next, HiscoreEndpoint.NORMAL);
+			update(next, hiscoreResult);
+		}
 	}
 
 	@Scheduled(fixedDelay = 60 * 60 * 1000) // one hour
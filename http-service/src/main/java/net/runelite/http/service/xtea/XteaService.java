@@ -24,10 +24,22 @@
  */
 package net.runelite.http.service.xtea;
 
+import com.google.common.base.Throwables;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.util.Djb2;
@@ -45,6 +57,7 @@ import org.sql2o.Query;
 import org.sql2o.Sql2o;
 
 @Service
+@Slf4j
 public class XteaService
 {
 	private static final String CREATE_SQL = "CREATE TABLE IF NOT EXISTS `xtea` (\n"
@@ -60,13 +73,40 @@ public class XteaService
 		+ "  KEY `region` (`region`,`time`)\n"
 		+ ") ENGINE=InnoDB";
 
+	private static final int VALIDATION_THREADS = 4;
+	// maximum size of the cached region archives, in bytes
+	private static final long MAX_ARCHIVE_CACHE = 64 * 1024 * 1024;
+
 	private final Sql2o sql2o;
 	private final CacheService cacheService;
 
-	private final Cache<Integer, XteaCache> keyCache = CacheBuilder.newBuilder()
-		.maximumSize(1024)
+	/*
+	 * Latest known key for every region. There are only a few thousand map
+	 * regions, so this is bounded by the map itself.
+	 */
+	private final Map<Integer, XteaCache> keyCache = new ConcurrentHashMap<>();
+
+	@Value
+	private static class ArchiveKey
+	{
+		int cacheId;
+		int region;
+	}
+
+	/*
+	 * Encrypted landscape archives, keyed by cache and region. Archives of
+	 * older caches are no longer looked up and are evicted by size.
+	 */
+	private final Cache<ArchiveKey, byte[]> archiveCache = CacheBuilder.newBuilder()
+		.maximumWeight(MAX_ARCHIVE_CACHE)
+		.weigher((ArchiveKey key, byte[] data) -> data.length)
 		.build();
 
+	private final ExecutorService executor = Executors.newFixedThreadPool(VALIDATION_THREADS, new ThreadFactoryBuilder()
+		.setNameFormat("xtea-validation-%d")
+		.setDaemon(true)
+		.build());
+
 	@Autowired
 	public XteaService(
 		@Qualifier("Runelite SQL2O") Sql2o sql2o,
@@ -81,77 +121,68 @@ public class XteaService
 			con.createQuery(CREATE_SQL)
 				.executeUpdate();
 		}
-	}
 
-	private XteaEntry findLatestXtea(Connection con, int region)
-	{
-		return con.createQuery("select region, time, key1, key2, key3, key4 from xtea "
-			+ "where region = :region "
-			+ "order by time desc "
-			+ "limit 1")
-			.addParameter("region", region)
-			.executeAndFetchFirst(XteaEntry.class);
+		for (XteaEntry entry : get())
+		{
+			keyCache.put(entry.getRegion(), new XteaCache(entry.getRegion(), entry.getKey1(), entry.getKey2(), entry.getKey3(), entry.getKey4()));
+		}
+		log.debug("Loaded {} region keys", keyCache.size());
 	}
 
 	public void submit(XteaRequest xteaRequest)
 	{
-		boolean cached = true;
+		List<XteaKey> newKeys = new ArrayList<>();
 		for (XteaKey key : xteaRequest.getKeys())
 		{
 			int region = key.getRegion();
 			int[] keys = key.getKeys();
 
-			XteaCache xteaCache = keyCache.getIfPresent(region);
+			if (keys.length != 4)
+			{
+				throw new IllegalArgumentException("Key length must be 4");
+			}
+
+			// already have these?
+			XteaCache xteaCache = keyCache.get(region);
 			if (xteaCache == null
 				|| xteaCache.getKey1() != keys[0]
 				|| xteaCache.getKey2() != keys[1]
 				|| xteaCache.getKey3() != keys[2]
 				|| xteaCache.getKey4() != keys[3])
 			{
-				cached = false;
-				keyCache.put(region, new XteaCache(region, keys[0], keys[1], keys[2], keys[3]));
+				newKeys.add(key);
 			}
 		}
 
-		if (cached)
+		if (newKeys.isEmpty())
 		{
 			return;
 		}
 
-		try (Connection con = sql2o.beginTransaction())
+		CacheEntry cache = cacheService.findMostRecent();
+
+		if (cache == null)
 		{
-			CacheEntry cache = cacheService.findMostRecent();
+			throw new InternalServerErrorException("No most recent cache");
+		}
 
-			if (cache == null)
-			{
-				throw new InternalServerErrorException("No most recent cache");
-			}
+		List<Future<Boolean>> results = new ArrayList<>(newKeys.size());
+		for (XteaKey key : newKeys)
+		{
+			results.add(executor.submit(() -> checkKeys(cache, key.getRegion(), key.getKeys())));
+		}
 
+		try (Connection con = sql2o.beginTransaction())
+		{
 			Query query = null;
 
-			for (XteaKey key : xteaRequest.getKeys())
+			for (int i = 0; i < newKeys.size(); ++i)
 			{
+				XteaKey key = newKeys.get(i);
 				int region = key.getRegion();
 				int[] keys = key.getKeys();
 
-				XteaEntry xteaEntry = findLatestXtea(con, region);
-
-				if (keys.length != 4)
-				{
-					throw new IllegalArgumentException("Key length must be 4");
-				}
-
-				// already have these?
-				if (xteaEntry != null
-					&& xteaEntry.getKey1() == keys[0]
-					&& xteaEntry.getKey2() == keys[1]
-					&& xteaEntry.getKey3() == keys[2]
-					&& xteaEntry.getKey4() == keys[3])
-				{
-					continue;
-				}
-
-				if (!checkKeys(cache, region, keys))
+				if (!getResult(results.get(i)))
 				{
 					continue;
 				}
@@ -177,6 +208,37 @@ public class XteaService
 				con.commit(false);
 			}
 		}
+
+		for (int i = 0; i < newKeys.size(); ++i)
+		{
+			if (getResult(results.get(i)))
+			{
+				int[] keys = newKeys.get(i).getKeys();
+				int region = newKeys.get(i).getRegion();
+				keyCache.put(region, new XteaCache(region, keys[0], keys[1], keys[2], keys[3]));
+			}
+		}
+	}
+
+	private static boolean getResult(Future<Boolean> future)
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InternalServerErrorException("Interrupted while checking keys");
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new InternalServerErrorException(ex.getCause().getMessage());
+		}
 	}
 
 	public List<XteaEntry> get()
@@ -203,6 +265,30 @@ public class XteaService
 	}
 
 	private boolean checkKeys(CacheEntry cache, int regionId, int[] keys)
+	{
+		byte[] data;
+		try
+		{
+			data = archiveCache.get(new ArchiveKey(cache.getId(), regionId), () -> loadArchive(cache, regionId));
+		}
+		catch (ExecutionException | UncheckedExecutionException ex)
+		{
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new InternalServerErrorException("Unable to get archive data");
+		}
+
+		try
+		{
+			Container.decompress(data, keys);
+			return true;
+		}
+		catch (IOException ex)
+		{
+			return false;
+		}
+	}
+
+	private byte[] loadArchive(CacheEntry cache, int regionId)
 	{
 		int x = regionId >>> 8;
 		int y = regionId & 0xFF;
@@ -227,14 +313,6 @@ public class XteaService
 			throw new InternalServerErrorException("Unable to get archive data");
 		}
 
-		try
-		{
-			Container.decompress(data, keys);
-			return true;
-		}
-		catch (IOException ex)
-		{
-			return false;
-		}
+		return data;
 	}
 }
@@ -24,9 +24,24 @@
  */
 package net.runelite.http.service.hiscore;
 
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import net.runelite.http.api.hiscore.HiscoreEndpoint;
 import net.runelite.http.api.hiscore.HiscoreResult;
+import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.After;
@@ -105,4 +120,116 @@ public class HiscoreServiceTest
 		Assert.assertEquals(-1, result.getLastManStanding().getLevel());
 	}
 
+	@Test
+	public void testCachedLookup() throws Exception
+	{
+		HiscoreTestService hiscores = new HiscoreTestService(server.url("/"));
+
+		HiscoreResult first = hiscores.lookupUsername("zezima", HiscoreEndpoint.NORMAL);
+		HiscoreResult second = hiscores.lookupUsername("zezima", HiscoreEndpoint.NORMAL);
+
+		Assert.assertSame(first, second);
+		Assert.assertEquals(1, server.getRequestCount());
+	}
+
+	@Test
+	public void testBulkLookup() throws Exception
+	{
+		server.enqueue(new MockResponse().setBody(RESPONSE));
+
+		HiscoreTestService hiscores = new HiscoreTestService(server.url("/"));
+
+		Map<String, HiscoreResult> results = hiscores.lookupUsernames(Arrays.asList("zezima", "lynx titan", "zezima"), HiscoreEndpoint.NORMAL);
+
+		Assert.assertEquals(2, results.size());
+		Assert.assertEquals(50, results.get("zezima").getAttack().getLevel());
+		Assert.assertEquals(50, results.get("lynx titan").getAttack().getLevel());
+		Assert.assertEquals(2, server.getRequestCount());
+	}
+
+	@Test
+	public void testRefreshAfterWrite() throws Exception
+	{
+		AtomicLong nanos = new AtomicLong();
+		AtomicInteger lookups = new AtomicInteger();
+		HiscoreService hiscores = new HiscoreService(new Ticker()
+		{
+			@Override
+			public long read()
+			{
+				return nanos.get();
+			}
+		}, MoreExecutors.newDirectExecutorService())
+		{
+			@Override
+			HiscoreResult lookupUsername(String username, HttpUrl httpUrl)
+			{
+				lookups.incrementAndGet();
+				return new HiscoreResult();
+			}
+		};
+
+		HiscoreResult first = hiscores.lookupUsername("zezima", HiscoreEndpoint.NORMAL);
+
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(59));
+		Assert.assertSame(first, hiscores.lookupUsername("zezima", HiscoreEndpoint.NORMAL));
+		Assert.assertEquals(1, lookups.get());
+
+		// the refresh runs on the direct executor, so the lookup sees the new result
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+		Assert.assertNotSame(first, hiscores.lookupUsername("zezima", HiscoreEndpoint.NORMAL));
+		Assert.assertEquals(2, lookups.get());
+	}
+
+	@Test
+	public void testUpstreamLimit() throws Exception
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+		HiscoreService hiscores = new HiscoreService()
+		{
+			@Override
+			HiscoreResult lookupUsername(String username, HttpUrl httpUrl) throws IOException
+			{
+				maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+				try
+				{
+					release.await();
+				}
+				catch (InterruptedException ex)
+				{
+					throw new InterruptedIOException();
+				}
+				finally
+				{
+					active.decrementAndGet();
+				}
+				return new HiscoreResult();
+			}
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(12);
+		List<Future<HiscoreResult>> futures = new ArrayList<>();
+		for (int i = 0; i < 12; ++i)
+		{
+			String username = "player" + i;
+			futures.add(executor.submit(() -> hiscores.lookupUsername(username, HiscoreEndpoint.NORMAL)));
+		}
+
+		// 8 lookups hold the permits and the other 4 wait for one
+		while (active.get() < 8 || hiscores.upstream.getQueueLength() < 4)
+		{
+			Thread.yield();
+		}
+
+		release.countDown();
+		for (Future<HiscoreResult> future : futures)
+		{
+			Assert.assertNotNull(future.get());
+		}
+		Assert.assertEquals(8, maxActive.get());
+
+		executor.shutdown();
+	}
 }
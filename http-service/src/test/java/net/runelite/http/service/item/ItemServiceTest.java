@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.http.api.item.ItemType;
+import net.runelite.http.service.cache.CacheService;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.stubbing.Answer;
+import org.sql2o.Connection;
+import org.sql2o.Query;
+import org.sql2o.Sql2o;
+import org.sql2o.Sql2oException;
+
+public class ItemServiceTest
+{
+	private static final String BASE = "/m=itemdb_oldschool";
+
+	private final MockWebServer server = new MockWebServer();
+	private Query query;
+	private CacheService cacheService;
+	private ItemService itemService;
+
+	@Before
+	public void before() throws IOException
+	{
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request)
+			{
+				switch (request.getPath())
+				{
+					case BASE + "/api/catalogue/detail.json?item=4151":
+						return new MockResponse().setBody("{\"item\":{\"id\":4151,\"name\":\"Abyssal whip\","
+							+ "\"description\":\"A weapon from the abyss.\",\"type\":\"Default\","
+							+ "\"icon\":\"" + server.url("/icon.gif") + "\","
+							+ "\"icon_large\":\"" + server.url("/icon_large.gif") + "\"}}");
+					case "/icon.gif":
+						return new MockResponse().setBody("icon");
+					case "/icon_large.gif":
+						return new MockResponse().setBody("icon_large");
+					case BASE + "/api/graph/4151.json":
+						return new MockResponse().setBody("{\"daily\":{\"1538352000000\":1500000,\"1538438400000\":1510000}}");
+					default:
+						return new MockResponse().setResponseCode(404);
+				}
+			}
+		});
+		server.start();
+
+		// the fluent query builder methods return the query
+		query = mock(Query.class, (Answer<Object>) invocation ->
+			invocation.getMethod().getReturnType().isInstance(invocation.getMock())
+				? invocation.getMock()
+				: RETURNS_DEFAULTS.answer(invocation));
+
+		Connection con = mock(Connection.class);
+		when(con.createQuery(anyString())).thenReturn(query);
+
+		Sql2o sql2o = mock(Sql2o.class);
+		when(sql2o.open()).thenReturn(con);
+		when(sql2o.beginTransaction()).thenReturn(con);
+
+		cacheService = mock(CacheService.class);
+		itemService = new ItemService(sql2o, cacheService, server.url(BASE).toString(), 100, 1);
+	}
+
+	@After
+	public void after() throws Exception
+	{
+		itemService.shutdown();
+		server.shutdown();
+	}
+
+	@Test
+	public void testFetchItem()
+	{
+		ItemEntry item = itemService.fetchItem(4151);
+
+		assertNotNull(item);
+		assertEquals(4151, item.getId());
+		assertEquals("Abyssal whip", item.getName());
+		assertEquals(ItemType.DEFAULT, item.getType());
+		assertArrayEquals("icon".getBytes(), item.getIcon());
+		assertArrayEquals("icon_large".getBytes(), item.getIcon_large());
+		assertEquals(3, server.getRequestCount());
+
+		itemService.flush();
+		verify(query).addToBatch();
+		verify(query).executeBatch();
+	}
+
+	@Test
+	public void testFetchPrice()
+	{
+		List<PriceEntry> prices = itemService.fetchPrice(4151);
+
+		assertEquals(2, prices.size());
+		assertEquals(4151, prices.get(0).getItem());
+
+		itemService.flush();
+		verify(query, times(2)).addToBatch();
+		verify(query).executeBatch();
+
+		// the pending prices were drained by the first flush
+		itemService.flush();
+		verify(query).executeBatch();
+	}
+
+	@Test
+	public void testFlushFailure()
+	{
+		itemService.fetchItem(4151);
+		itemService.fetchPrice(4151);
+
+		// the items batch fails, the prices batch is still written
+		doThrow(new Sql2oException("test")).doReturn(null).when(query).executeBatch();
+		itemService.flush();
+		verify(query, times(2)).executeBatch();
+
+		// and the failed items are retried
+		itemService.flush();
+		verify(query, times(3)).executeBatch();
+		verify(query, times(4)).addToBatch();
+
+		itemService.flush();
+		verify(query, times(3)).executeBatch();
+	}
+
+	@Test
+	public void testCrawlPrices() throws Exception
+	{
+		List<ItemDefinition> items = new ArrayList<>();
+		for (int id = 1; id <= 10; ++id)
+		{
+			ItemDefinition item = new ItemDefinition(id);
+			item.isTradeable = true;
+			items.add(item);
+		}
+		when(cacheService.getItems()).thenReturn(items);
+		itemService.reloadItems();
+
+		// a single crawl run queues a lookup for every item, the pipeline then fetches them one at a time
+		itemService.crawlPrices();
+		for (int i = 0; i < items.size(); ++i)
+		{
+			RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+			assertNotNull(request);
+			assertTrue(request.getPath().startsWith(BASE + "/api/graph/"));
+		}
+	}
+
+	@Test
+	public void testFetchPriceError()
+	{
+		assertNull(itemService.fetchPrice(1));
+
+		itemService.flush();
+		verify(query, never()).executeBatch();
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LookupPipelineTest
+{
+	private final List<PendingLookup> handled = new CopyOnWriteArrayList<>();
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private CountDownLatch done;
+
+	private void handle(PendingLookup lookup)
+	{
+		started.countDown();
+		try
+		{
+			release.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+		}
+		handled.add(lookup);
+		done.countDown();
+	}
+
+	@Test
+	public void testCoalesce() throws Exception
+	{
+		done = new CountDownLatch(2);
+		LookupPipeline pipeline = new LookupPipeline(1, 16, this::handle);
+
+		assertTrue(pipeline.submit(new PendingLookup(4151, PendingLookup.Type.PRICE)));
+		assertFalse(pipeline.submit(new PendingLookup(4151, PendingLookup.Type.PRICE)));
+		assertTrue(pipeline.submit(new PendingLookup(4151, PendingLookup.Type.ITEM)));
+
+		release.countDown();
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		pipeline.shutdown();
+
+		assertEquals(2, handled.size());
+	}
+
+	@Test
+	public void testUserLookupsFirst() throws Exception
+	{
+		done = new CountDownLatch(4);
+		LookupPipeline pipeline = new LookupPipeline(1, 16, this::handle);
+
+		// occupies the only worker until released
+		pipeline.submit(new PendingLookup(1, PendingLookup.Type.PRICE));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		pipeline.submit(new PendingLookup(2, PendingLookup.Type.PRICE));
+		pipeline.submit(new PendingLookup(3, PendingLookup.Type.PRICE));
+		pipeline.submit(new PendingLookup(4, PendingLookup.Type.ITEM));
+
+		release.countDown();
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		pipeline.shutdown();
+
+		assertEquals(4, handled.size());
+		assertEquals(1, handled.get(0).getItemId());
+		assertEquals(4, handled.get(1).getItemId());
+		assertEquals(2, handled.get(2).getItemId());
+		assertEquals(3, handled.get(3).getItemId());
+	}
+
+	@Test
+	public void testMaxPending()
+	{
+		done = new CountDownLatch(2);
+		LookupPipeline pipeline = new LookupPipeline(1, 2, this::handle);
+
+		assertTrue(pipeline.submit(new PendingLookup(1, PendingLookup.Type.PRICE)));
+		assertTrue(pipeline.submit(new PendingLookup(2, PendingLookup.Type.PRICE)));
+		assertFalse(pipeline.submit(new PendingLookup(3, PendingLookup.Type.ITEM)));
+
+		release.countDown();
+		pipeline.shutdown();
+	}
+}
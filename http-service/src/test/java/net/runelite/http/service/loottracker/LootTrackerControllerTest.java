@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.loottracker;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import net.runelite.http.api.loottracker.GameItem;
+import net.runelite.http.api.loottracker.LootAggregate;
+import net.runelite.http.api.loottracker.LootRecord;
+import net.runelite.http.api.loottracker.LootRecordType;
+import net.runelite.http.service.account.AuthFilter;
+import net.runelite.http.service.account.beans.SessionEntry;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LootTrackerControllerTest
+{
+	private static final int USER = 42;
+
+	@Mock
+	private LootTrackerService service;
+
+	@Mock
+	private AuthFilter auth;
+
+	@InjectMocks
+	private LootTrackerController controller;
+
+	@Mock
+	private HttpServletRequest request;
+
+	@Mock
+	private HttpServletResponse response;
+
+	@Test
+	public void testStoreBulk() throws Exception
+	{
+		login();
+
+		LootRecord[] records = {
+			new LootRecord("Goblin", LootRecordType.NPC, Collections.singletonList(new GameItem(526, 1))),
+			new LootRecord("Barrows", LootRecordType.EVENT, Collections.singletonList(new GameItem(4708, 1)))
+		};
+		controller.storeLootRecords(request, response, records);
+
+		verify(service).store(Arrays.asList(records), USER);
+		verify(response).setStatus(200);
+	}
+
+	@Test
+	public void testStoreBulkTooLarge() throws Exception
+	{
+		login();
+
+		LootRecord[] records = new LootRecord[513];
+		Arrays.fill(records, new LootRecord("Goblin", LootRecordType.NPC, Collections.singletonList(new GameItem(526, 1))));
+		controller.storeLootRecords(request, response, records);
+
+		verify(service, never()).store(anyListOf(LootRecord.class), anyInt());
+		verify(response).setStatus(400);
+	}
+
+	@Test
+	public void testStoreBulkUnauthorized() throws Exception
+	{
+		controller.storeLootRecords(request, response, new LootRecord[0]);
+
+		verify(service, never()).store(anyListOf(LootRecord.class), anyInt());
+		verify(response).setStatus(401);
+	}
+
+	@Test
+	public void testSummary() throws Exception
+	{
+		login();
+
+		Collection<LootAggregate> summary = Collections.singletonList(
+			new LootAggregate("Goblin", LootRecordType.NPC, 3, Collections.singletonList(new GameItem(526, 3))));
+		when(service.getSummary(USER)).thenReturn(summary);
+
+		assertSame(summary, controller.getLootSummary(request, response));
+	}
+
+	@Test
+	public void testSummaryUnauthorized() throws Exception
+	{
+		assertNull(controller.getLootSummary(request, response));
+
+		verify(service, never()).getSummary(anyInt());
+		verify(response).setStatus(401);
+	}
+
+	private void login() throws Exception
+	{
+		SessionEntry session = new SessionEntry();
+		session.setUser(USER);
+		when(auth.handle(request, response)).thenReturn(session);
+	}
+}
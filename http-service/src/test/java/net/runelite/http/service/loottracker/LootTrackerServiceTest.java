@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.loottracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import net.runelite.http.api.loottracker.GameItem;
+import net.runelite.http.api.loottracker.LootAggregate;
+import net.runelite.http.api.loottracker.LootRecord;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.startsWith;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.stubbing.Answer;
+import org.sql2o.Connection;
+import org.sql2o.Query;
+import org.sql2o.Sql2o;
+
+public class LootTrackerServiceTest
+{
+	private static final int USER = 42;
+
+	private Connection con;
+	private LootTrackerService service;
+
+	@Before
+	public void before()
+	{
+		Query query = queryMock(new ArrayList<>());
+
+		con = mock(Connection.class);
+		when(con.createQuery(anyString())).thenReturn(query);
+		when(con.createQuery(anyString(), anyBoolean())).thenReturn(query);
+
+		Sql2o sql2o = mock(Sql2o.class);
+		when(sql2o.open()).thenReturn(con);
+		when(sql2o.beginTransaction()).thenReturn(con);
+
+		service = new LootTrackerService(sql2o);
+	}
+
+	@Test
+	public void testStoreBulk()
+	{
+		List<Object[]> kills = new ArrayList<>();
+		List<Object[]> drops = new ArrayList<>();
+		List<Object[]> killsSummary = new ArrayList<>();
+		List<Object[]> dropsSummary = new ArrayList<>();
+		Query insertKills = queryMock(kills);
+		when(con.createQuery(startsWith("INSERT INTO kills ("), anyBoolean())).thenReturn(insertKills);
+		when(con.createQuery(startsWith("INSERT INTO drops "))).thenReturn(queryMock(drops));
+		when(con.createQuery(startsWith("INSERT INTO kills_summary"))).thenReturn(queryMock(killsSummary));
+		when(con.createQuery(startsWith("INSERT INTO drops_summary"))).thenReturn(queryMock(dropsSummary));
+		when(con.getKeys(Integer.class)).thenReturn(Arrays.asList(1, 2, 3));
+
+		service.store(Arrays.asList(
+			new LootRecord("Goblin", LootRecordType.NPC, Arrays.asList(new GameItem(526, 1), new GameItem(995, 10))),
+			new LootRecord("Barrows", LootRecordType.EVENT, Collections.singletonList(new GameItem(4708, 1))),
+			new LootRecord("Goblin", LootRecordType.NPC, Arrays.asList(new GameItem(526, 1), new GameItem(995, 5)))
+		), USER);
+
+		// one statement for all of the kills
+		verify(con).createQuery("INSERT INTO kills (accountId, type, eventId) VALUES "
+			+ "(:accountId, :type0, :eventId0),(:accountId, :type1, :eventId1),(:accountId, :type2, :eventId2)", true);
+		assertEquals(7, kills.size());
+
+		// each drop is tied to the key generated for its kill
+		assertEquals(15, drops.size());
+		assertEquals(1, value(drops, "killId", 0));
+		assertEquals(2, value(drops, "killId", 2));
+		assertEquals(3, value(drops, "killId", 4));
+
+		// the summary has one row per event, and per item of each event
+		assertEquals(8, killsSummary.size());
+		assertEquals(2, value(killsSummary, "kills", 0));
+		assertEquals(1, value(killsSummary, "kills", 1));
+
+		assertEquals(15, dropsSummary.size());
+		assertTrue(findDrop(dropsSummary, "Goblin", 526, 2L));
+		assertTrue(findDrop(dropsSummary, "Goblin", 995, 15L));
+		assertTrue(findDrop(dropsSummary, "Barrows", 4708, 1L));
+	}
+
+	@Test
+	public void testSummary()
+	{
+		Query killsQuery = queryMock(new ArrayList<>());
+		Query dropsQuery = queryMock(new ArrayList<>());
+		when(con.createQuery(startsWith("SELECT type,eventId,kills "))).thenReturn(killsQuery);
+		when(con.createQuery(startsWith("SELECT type,eventId,itemId,"))).thenReturn(dropsQuery);
+		when(killsQuery.executeAndFetch(LootSummaryResult.class)).thenReturn(Arrays.asList(
+			summary(LootRecordType.NPC, "Goblin", 3, 0, 0),
+			summary(LootRecordType.EVENT, "Barrows", 1, 0, 0)
+		));
+		when(dropsQuery.executeAndFetch(LootSummaryResult.class)).thenReturn(Arrays.asList(
+			summary(LootRecordType.NPC, "Goblin", 0, 526, 3),
+			summary(LootRecordType.EVENT, "Barrows", 0, 4708, 1),
+			summary(LootRecordType.NPC, "Goblin", 0, 995, 40),
+			// drops without a kill summary are ignored
+			summary(LootRecordType.PLAYER, "Goblin", 0, 995, 40)
+		));
+
+		Collection<LootAggregate> aggregates = service.getSummary(USER);
+
+		assertEquals(2, aggregates.size());
+		Iterator<LootAggregate> it = aggregates.iterator();
+		assertEquals(new LootAggregate("Goblin", LootRecordType.NPC, 3, Arrays.asList(new GameItem(526, 3), new GameItem(995, 40))), it.next());
+		assertEquals(new LootAggregate("Barrows", LootRecordType.EVENT, 1, Collections.singletonList(new GameItem(4708, 1))), it.next());
+	}
+
+	private Query queryMock(List<Object[]> parameters)
+	{
+		// the fluent query builder methods return the query, and bound parameters are recorded
+		return mock(Query.class, (Answer<Object>) invocation ->
+		{
+			if (invocation.getMethod().getName().equals("addParameter"))
+			{
+				parameters.add(invocation.getArguments());
+			}
+
+			Class<?> returnType = invocation.getMethod().getReturnType();
+			if (returnType.isInstance(invocation.getMock()))
+			{
+				return invocation.getMock();
+			}
+			if (returnType == Connection.class)
+			{
+				return con;
+			}
+			return RETURNS_DEFAULTS.answer(invocation);
+		});
+	}
+
+	private static Object value(List<Object[]> parameters, String name, int index)
+	{
+		int i = 0;
+		for (Object[] parameter : parameters)
+		{
+			if (parameter[0].equals(name) && i++ == index)
+			{
+				return parameter[1];
+			}
+		}
+		return null;
+	}
+
+	private static boolean findDrop(List<Object[]> dropsSummary, String eventId, int itemId, long quantity)
+	{
+		// parameters are bound in order accountId, type, eventId, itemId, itemQuantity
+		for (int i = 0; i + 4 < dropsSummary.size(); i += 5)
+		{
+			if (dropsSummary.get(i + 2)[1].equals(eventId)
+				&& dropsSummary.get(i + 3)[1].equals(itemId)
+				&& dropsSummary.get(i + 4)[1].equals(quantity))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static LootSummaryResult summary(LootRecordType type, String eventId, int kills, int itemId, int itemQuantity)
+	{
+		LootSummaryResult result = new LootSummaryResult();
+		result.setType(type);
+		result.setEventId(eventId);
+		result.setKills(kills);
+		result.setItemId(itemId);
+		result.setItemQuantity(itemQuantity);
+		return result;
+	}
+}
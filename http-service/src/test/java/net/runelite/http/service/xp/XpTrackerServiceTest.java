@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.xp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.runelite.http.api.hiscore.HiscoreResult;
+import net.runelite.http.api.hiscore.Skill;
+import net.runelite.http.service.hiscore.HiscoreService;
+import net.runelite.http.service.xp.beans.PlayerEntity;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.startsWith;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.sql2o.Connection;
+import org.sql2o.Query;
+import org.sql2o.Sql2o;
+import org.sql2o.Sql2oException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class XpTrackerServiceTest
+{
+	@Mock
+	private Sql2o sql2o;
+
+	@Mock
+	private HiscoreService hiscoreService;
+
+	@InjectMocks
+	private XpTrackerService xpTrackerService;
+
+	// attack xp which can't be written
+	private static final long POISON = -13L;
+
+	private Connection con;
+	private Query insertXp;
+	private final List<String> names = new ArrayList<>();
+	private final Map<String, Integer> playerIds = new HashMap<>();
+	// players which only exist once they have been inserted
+	private final Set<String> newPlayers = new HashSet<>();
+	private final List<String> insertedPlayers = new ArrayList<>();
+	private final List<Long> boundXp = new ArrayList<>();
+	private final List<Long> attackXp = new ArrayList<>();
+	private int failedWrites;
+
+	@Before
+	public void before()
+	{
+		// player names bound to the player lookup, returned as the players which exist
+		Query selectPlayers = mock(Query.class, (Answer<Object>) invocation ->
+		{
+			if (invocation.getMethod().getName().equals("addParameter"))
+			{
+				names.add((String) invocation.getArguments()[1]);
+				return invocation.getMock();
+			}
+			if (invocation.getMethod().getName().equals("executeAndFetch"))
+			{
+				List<PlayerEntity> players = new ArrayList<>();
+				for (String name : names)
+				{
+					if (newPlayers.contains(name) && !insertedPlayers.contains(name))
+					{
+						continue;
+					}
+
+					PlayerEntity playerEntity = new PlayerEntity();
+					playerEntity.setId(playerIds.computeIfAbsent(name, k -> playerIds.size()));
+					playerEntity.setName(name);
+					players.add(playerEntity);
+				}
+				names.clear();
+				return players;
+			}
+			return RETURNS_DEFAULTS.answer(invocation);
+		});
+
+		// player names bound to the player insert
+		Query insertPlayers = mock(Query.class, (Answer<Object>) invocation ->
+		{
+			Object[] arguments = invocation.getArguments();
+			if (invocation.getMethod().getName().equals("addParameter") && ((String) arguments[0]).startsWith("name"))
+			{
+				insertedPlayers.add((String) arguments[1]);
+			}
+			return invocation.getMethod().getReturnType().isInstance(invocation.getMock())
+				? invocation.getMock()
+				: RETURNS_DEFAULTS.answer(invocation);
+		});
+
+		// attack xp bound to the xp insert, one per row, kept once the insert succeeds
+		insertXp = mock(Query.class, (Answer<Object>) invocation ->
+		{
+			Object[] arguments = invocation.getArguments();
+			if (invocation.getMethod().getName().equals("addParameter") && ((String) arguments[0]).startsWith("attack_xp"))
+			{
+				boundXp.add(((Number) arguments[1]).longValue());
+			}
+			else if (invocation.getMethod().getName().equals("executeUpdate"))
+			{
+				boolean poisoned = boundXp.contains(POISON);
+				if (!poisoned)
+				{
+					attackXp.addAll(boundXp);
+				}
+				boundXp.clear();
+
+				if (poisoned)
+				{
+					++failedWrites;
+					throw new Sql2oException("Data truncation");
+				}
+			}
+			return invocation.getMethod().getReturnType().isInstance(invocation.getMock())
+				? invocation.getMock()
+				: RETURNS_DEFAULTS.answer(invocation);
+		});
+
+		Query query = queryMock();
+
+		con = mock(Connection.class);
+		when(con.createQuery(anyString())).thenReturn(query);
+		when(con.createQuery(startsWith("select * from player"))).thenReturn(selectPlayers);
+		when(con.createQuery(startsWith("insert ignore into player"))).thenReturn(insertPlayers);
+		when(con.createQuery(startsWith("insert into xp"))).thenReturn(insertXp);
+
+		when(sql2o.beginTransaction()).thenReturn(con);
+	}
+
+	@Test
+	public void testDeduplicate()
+	{
+		xpTrackerService.update("zezima", hiscoreResult(1000));
+		xpTrackerService.update("zezima", hiscoreResult(2000));
+		xpTrackerService.flush();
+
+		verify(con).createQuery(startsWith("insert into xp"));
+		verify(insertXp).executeUpdate();
+		assertEquals(Collections.singletonList(2000L), attackXp);
+
+		// the update was drained by the first flush
+		xpTrackerService.flush();
+		verify(insertXp).executeUpdate();
+	}
+
+	@Test
+	public void testBatch()
+	{
+		for (int i = 0; i < 300; ++i)
+		{
+			xpTrackerService.update("player" + i, hiscoreResult(i));
+		}
+		xpTrackerService.flush();
+
+		// 300 players is two batches of at most 256, with one insert each
+		verify(sql2o, times(2)).beginTransaction();
+		verify(insertXp, times(2)).executeUpdate();
+		assertEquals(300, attackXp.size());
+	}
+
+	@Test
+	public void testPendingLimit()
+	{
+		for (int i = 0; i < 4096; ++i)
+		{
+			xpTrackerService.update("player" + i, hiscoreResult(i));
+		}
+
+		// the pending map is full, so new players are dropped but queued players are still updated
+		xpTrackerService.update("dropped", hiscoreResult(-1));
+		xpTrackerService.update("player0", hiscoreResult(-2));
+		xpTrackerService.flush();
+
+		verify(insertXp, times(4096 / 256)).executeUpdate();
+		assertEquals(4096, attackXp.size());
+		assertFalse(attackXp.contains(-1L));
+		assertTrue(attackXp.contains(-2L));
+		assertFalse(attackXp.contains(0L));
+	}
+
+	@Test
+	public void testWriteFailure()
+	{
+		when(sql2o.beginTransaction())
+			.thenThrow(new Sql2oException("connection refused"))
+			.thenReturn(con);
+
+		xpTrackerService.update("zezima", hiscoreResult(1000));
+		xpTrackerService.flush();
+		verify(insertXp, never()).executeUpdate();
+
+		// the failed update is retried by the next flush
+		xpTrackerService.flush();
+		verify(insertXp).executeUpdate();
+		assertEquals(Collections.singletonList(1000L), attackXp);
+	}
+
+	@Test
+	public void testPoisonUpdate()
+	{
+		for (int i = 0; i < 300; ++i)
+		{
+			xpTrackerService.update("player" + i, hiscoreResult(i));
+		}
+		xpTrackerService.update("poison", hiscoreResult(POISON));
+		xpTrackerService.flush();
+
+		// the batch holding the bad update is split up, and every other update is written
+		assertEquals(300, attackXp.size());
+		assertFalse(attackXp.contains(POISON));
+
+		// the bad update is retried until it has failed too many times, then dropped
+		xpTrackerService.flush();
+		xpTrackerService.flush();
+		int failed = failedWrites;
+		xpTrackerService.flush();
+		assertEquals(failed, failedWrites);
+		assertEquals(300, attackXp.size());
+
+		xpTrackerService.update("zezima", hiscoreResult(1000));
+		xpTrackerService.flush();
+		assertEquals(301, attackXp.size());
+	}
+
+	@Test
+	public void testCreatePlayers()
+	{
+		newPlayers.add("lynx titan");
+
+		xpTrackerService.update("zezima", hiscoreResult(1000));
+		xpTrackerService.update("lynx titan", hiscoreResult(2000));
+		xpTrackerService.flush();
+
+		// only the missing player is inserted
+		assertEquals(Collections.singletonList("lynx titan"), insertedPlayers);
+		assertEquals(2, attackXp.size());
+
+		// known players aren't inserted again
+		xpTrackerService.update("zezima", hiscoreResult(3000));
+		xpTrackerService.update("lynx titan", hiscoreResult(4000));
+		xpTrackerService.flush();
+		assertEquals(Collections.singletonList("lynx titan"), insertedPlayers);
+		verify(con).createQuery(startsWith("insert ignore into player"));
+	}
+
+	private static Query queryMock()
+	{
+		// the fluent query builder methods return the query
+		return mock(Query.class, (Answer<Object>) invocation ->
+			invocation.getMethod().getReturnType().isInstance(invocation.getMock())
+				? invocation.getMock()
+				: RETURNS_DEFAULTS.answer(invocation));
+	}
+
+	private static HiscoreResult hiscoreResult(long xp)
+	{
+		Skill skill = new Skill(1, 1, xp);
+		HiscoreResult hiscoreResult = new HiscoreResult();
+		hiscoreResult.setOverall(skill);
+		hiscoreResult.setAttack(skill);
+		hiscoreResult.setDefence(skill);
+		hiscoreResult.setStrength(skill);
+		hiscoreResult.setHitpoints(skill);
+		hiscoreResult.setRanged(skill);
+		hiscoreResult.setPrayer(skill);
+		hiscoreResult.setMagic(skill);
+		hiscoreResult.setCooking(skill);
+		hiscoreResult.setWoodcutting(skill);
+		hiscoreResult.setFletching(skill);
+		hiscoreResult.setFishing(skill);
+		hiscoreResult.setFiremaking(skill);
+		hiscoreResult.setCrafting(skill);
+		hiscoreResult.setSmithing(skill);
+		hiscoreResult.setMining(skill);
+		hiscoreResult.setHerblore(skill);
+		hiscoreResult.setAgility(skill);
+		hiscoreResult.setThieving(skill);
+		hiscoreResult.setSlayer(skill);
+		hiscoreResult.setFarming(skill);
+		hiscoreResult.setRunecraft(skill);
+		hiscoreResult.setHunter(skill);
+		hiscoreResult.setConstruction(skill);
+		return hiscoreResult;
+	}
+}
@@ -35,6 +35,7 @@ import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.hooks.Callbacks;
 import net.runelite.api.hooks.DrawCallbacks;
+import net.runelite.api.hooks.ScriptProfiler;
 import net.runelite.api.vars.AccountType;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
@@ -366,6 +367,16 @@ public interface Client extends GameEngine
 	 */
 	IndexDataBase getIndexScripts();
 
+	/**
+	 * Gets the config index.
+	 */
+	IndexDataBase getIndexConfig();
+
+	/**
+	 * Gets the model index.
+	 */
+	IndexDataBase getIndexModels();
+
 	/**
 	 * Returns the x-axis base coordinate.
 	 * <p>
@@ -554,6 +565,98 @@ public interface Client extends GameEngine
 	 */
 	void setMenuEntries(MenuEntry[] entries);
 
+	/**
+	 * Gets the number of open menu entries.
+	 * <p>
+	 * The indexed menu accessors below operate directly on the client's
+	 * menu arrays and do not allocate {@link MenuEntry} objects, making them
+	 * suitable for use from {@link net.runelite.api.events.MenuEntryAdded}.
+	 *
+	 * @return the menu entry count
+	 */
+	int getMenuEntryCount();
+
+	/**
+	 * Gets the option of the menu entry at the given index.
+	 *
+	 * @param idx the menu entry index
+	 * @return the menu option
+	 */
+	String getMenuEntryOption(int idx);
+
+	/**
+	 * Sets the option of the menu entry at the given index.
+	 *
+	 * @param idx the menu entry index
+	 * @param option the new menu option
+	 */
+	void setMenuEntryOption(int idx, String option);
+
+	/**
+	 * Gets the target of the menu entry at the given index.
+	 *
+	 * @param idx the menu entry index
+	 * @return the menu target
+	 */
+	String getMenuEntryTarget(int idx);
+
+	/**
+	 * Sets the target of the menu entry at the given index.
+	 *
+	 * @param idx the menu entry index
+	 * @param target the new menu target
+	 */
+	void setMenuEntryTarget(int idx, String target);
+
+	/**
+	 * Gets the identifier of the menu entry at the given index.
+	 *
+	 * @param idx the menu entry index
+	 * @return the menu identifier
+	 */
+	int getMenuEntryIdentifier(int idx);
+
+	/**
+	 * Gets the type of the menu entry at the given index.
+	 *
+	 * @param idx the menu entry index
+	 * @return the menu type
+	 * @see MenuAction
+	 */
+	int getMenuEntryType(int idx);
+
+	/**
+	 * Gets the first action parameter of the menu entry at the given index.
+	 *
+	 * @param idx the menu entry index
+	 * @return the first action parameter
+	 */
+	int getMenuEntryParam0(int idx);
+
+	/**
+	 * Gets the second action parameter of the menu entry at the given index.
+	 *
+	 * @param idx the menu entry index
+	 * @return the second action parameter
+	 */
+	int getMenuEntryParam1(int idx);
+
+	/**
+	 * Swaps the two menu entries at the given indexes in place.
+	 *
+	 * @param i the first menu entry index
+	 * @param j the second menu entry index
+	 */
+	void swapMenuEntries(int i, int j);
+
+	/**
+	 * Removes the menu entry at the given index, shifting the entries
+	 * above it down by one.
+	 *
+	 * @param idx the menu entry index
+	 */
+	void removeMenuEntry(int idx);
+
 	/**
 	 * Checks whether a right-click menu is currently open.
 	 *
@@ -711,6 +814,17 @@ public interface Client extends GameEngine
 	@VisibleForDevtools
 	int getVarbitValue(int[] varps, int varbitId);
 
+	/**
+	 * Gets the index of the VarPlayer a variable is stored in.
+	 *
+	 * @param varbitId the variable ID
+	 * @return the VarPlayer index
+	 * @throws IndexOutOfBoundsException if the variable does not exist
+	 * @see Varbits#id
+	 */
+	@VisibleForDevtools
+	int getVarbitVarpIndex(int varbitId);
+
 	/**
 	 * Gets the value of a given VarPlayer.
 	 *
@@ -1223,6 +1337,14 @@ public interface Client extends GameEngine
 	 */
 	void runScript(int id, Object... args);
 
+	/**
+	 * Sets the profiler client script executions are recorded to.
+	 *
+	 * @param profiler the profiler, or null to disable profiling
+	 */
+	@VisibleForDevtools
+	void setScriptProfiler(ScriptProfiler profiler);
+
 	/**
 	 * Checks whether or not there is any active hint arrow.
 	 *
@@ -33,4 +33,10 @@ public interface IndexDataBase
 	 * Returns true if any cache overlay in this index is outdated due to hash mismatch
 	 */
 	boolean isOverlayOutdated();
+
+	/**
+	 * Gets the crc of this index's reference table, which changes whenever
+	 * any archive in the index is updated
+	 */
+	int getCrc();
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.events;
+
+import lombok.Value;
+import net.runelite.api.DecorativeObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.GroundObject;
+import net.runelite.api.Item;
+import net.runelite.api.Tile;
+import net.runelite.api.WallObject;
+
+/**
+ * Posted once after the client finishes loading a scene, with every tile
+ * object and ground item in the new scene.
+ * <p>
+ * The per-object spawn events are still posted while the scene loads.
+ * Subscribers to this event which want to index the scene in a single
+ * pass should opt their spawn subscribers out of scene loads, so the
+ * spawn events are only built for subscribers which need them.
+ * <p>
+ * Each tile array is parallel to the object array that follows it, with
+ * the tile at index {@code i} holding the object at index {@code i}.
+ */
+@Value
+public class SceneObjectsLoaded
+{
+	private final Tile[] gameObjectTiles;
+	private final GameObject[] gameObjects;
+	private final Tile[] wallObjectTiles;
+	private final WallObject[] wallObjects;
+	private final Tile[] decorativeObjectTiles;
+	private final DecorativeObject[] decorativeObjects;
+	private final Tile[] groundObjectTiles;
+	private final GroundObject[] groundObjects;
+	private final Tile[] itemTiles;
+	private final Item[] items;
+}
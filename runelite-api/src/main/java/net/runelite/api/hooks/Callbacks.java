@@ -29,6 +29,7 @@ import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
 import net.runelite.api.MainBufferProvider;
+import net.runelite.api.events.ScriptCallbackEvent;
 
 /**
  * Interface of callbacks the injected client uses to send events
@@ -37,6 +38,9 @@ public interface Callbacks
 {
 	/**
 	 * Post an event. See the events in net.runelite.api.events.
+	 * <p>
+	 * Events posted while the game state is {@link net.runelite.api.GameState#LOADING}
+	 * are not delivered to subscribers which have opted out of scene loads.
 	 *
 	 * @param event the event
 	 */
@@ -49,6 +53,33 @@ public interface Callbacks
 	 */
 	void postDeferred(Object event);
 
+	/**
+	 * Checks whether anything is subscribed to an event type. Posters of high
+	 * frequency events can use this to avoid creating events nobody will receive.
+	 *
+	 * @param eventClass the event type
+	 * @return true if at least one subscriber is registered for the type, not
+	 * counting subscribers which have opted out of scene loads while one is loading
+	 */
+	boolean hasSubscribers(Class<?> eventClass);
+
+	/**
+	 * Gets the id of a script callback name. Ids are assigned on first use
+	 * and don't change, so the script VM can cache them per instruction.
+	 *
+	 * @param name the callback name
+	 * @return the callback id
+	 */
+	int getScriptCallbackId(String name);
+
+	/**
+	 * Dispatches a script callback to the handlers registered for its name.
+	 *
+	 * @param id the callback id, from {@link #getScriptCallbackId(String)}
+	 * @param event the event
+	 */
+	void scriptCallback(int id, ScriptCallbackEvent event);
+
 	/**
 	 * Called each client cycle.
 	 */
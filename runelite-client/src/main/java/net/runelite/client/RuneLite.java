@@ -53,6 +53,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ClanManager;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.LootManager;
+import net.runelite.client.game.VarbitManager;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
@@ -142,6 +143,9 @@ public class RuneLite
 	@Inject
 	private Provider<ChatboxPanelManager> chatboxPanelManager;
 
+	@Inject
+	private Provider<VarbitManager> varbitManager;
+
 	@Inject
 	@Nullable
 	private Client client;
@@ -277,6 +281,7 @@ public class RuneLite
 			eventBus.register(commandManager.get());
 			eventBus.register(lootManager.get());
 			eventBus.register(chatboxPanelManager.get());
+			eventBus.register(varbitManager.get());
 
 			// Add core overlays
 			WidgetOverlay.createOverlays(client).forEach(overlayManager::add);
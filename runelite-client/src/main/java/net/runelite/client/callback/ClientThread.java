@@ -24,11 +24,21 @@
  */
 package net.runelite.client.callback;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
-import java.util.Iterator;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 
@@ -36,18 +46,101 @@ import net.runelite.api.Client;
 @Slf4j
 public class ClientThread
 {
-	private ConcurrentLinkedQueue<BooleanSupplier> invokes = new ConcurrentLinkedQueue<>();
+	public enum Priority
+	{
+		/**
+		 * Ran every frame, regardless of the frame budget
+		 */
+		HIGH,
+		NORMAL,
+		/**
+		 * Ran only when higher priority tasks leave some of the frame budget
+		 */
+		LOW
+	}
+
+	private static final Priority[] PRIORITIES = Priority.values();
+
+	/**
+	 * Default time per frame spent running NORMAL and LOW priority tasks
+	 */
+	private static final long DEFAULT_FRAME_BUDGET = TimeUnit.MILLISECONDS.toNanos(4);
+
+	/**
+	 * Tasks taking longer than this are logged
+	 */
+	private static final long SLOW_TASK = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static class Task
+	{
+		private final BooleanSupplier supplier;
+		private final Priority priority;
+		/**
+		 * Number of game ticks to wait for, or -1
+		 */
+		private int ticks = -1;
+		private boolean timed;
+		private long due;
+
+		Task(BooleanSupplier supplier, Priority priority)
+		{
+			this.supplier = supplier;
+			this.priority = priority;
+		}
+	}
+
+	@Getter
+	public static class TaskStats
+	{
+		private long count;
+		private long totalNanos;
+		private long maxNanos;
+
+		private void record(long nanos)
+		{
+			++count;
+			totalNanos += nanos;
+			maxNanos = Math.max(maxNanos, nanos);
+		}
+	}
+
+	/**
+	 * Tasks submitted from any thread, moved into the lanes at the start of each frame
+	 */
+	private final ConcurrentLinkedQueue<Task> invokes = new ConcurrentLinkedQueue<>();
+
+	// The following are only accessed from the client thread
+	private final ArrayDeque<Task>[] lanes;
+	private final PriorityQueue<Task> delayed = new PriorityQueue<>(Comparator.comparingLong((Task t) -> t.due));
+	private final PriorityQueue<Task> tickDelayed = new PriorityQueue<>(Comparator.comparingLong((Task t) -> t.due));
+
+	private final Map<Class<?>, TaskStats> taskStats = new ConcurrentHashMap<>();
+
+	@Setter(AccessLevel.PACKAGE)
+	private long frameBudget = DEFAULT_FRAME_BUDGET;
+
+	/**
+	 * Time spent running tasks in the last frame, in nanoseconds
+	 */
+	@Getter
+	private volatile long lastFrameNanos;
 
 	@Inject
 	private Client client;
 
-	public void invoke(Runnable r)
+	@SuppressWarnings("unchecked")
+	public ClientThread()
 	{
-		invoke(() ->
+		lanes = new ArrayDeque[PRIORITIES.length];
+		for (int i = 0; i < lanes.length; ++i)
 		{
-			r.run();
-			return true;
-		});
+			lanes[i] = new ArrayDeque<>();
+		}
+	}
+
+	public void invoke(Runnable r)
+	{
+		invoke(wrap(r));
 	}
 
 	/**
@@ -55,17 +148,27 @@ public class ClientThread
 	 * If r returns false, r will be ran again, at a later point
 	 */
 	public void invoke(BooleanSupplier r)
+	{
+		invoke(Priority.NORMAL, r);
+	}
+
+	/**
+	 * Will run r on the game thread, at a unspecified point in the future.
+	 * If called on the game thread r is ran immediately.
+	 * If r returns false, r will be ran again, at a later point, with the given priority
+	 */
+	public void invoke(Priority priority, BooleanSupplier r)
 	{
 		if (client.isClientThread())
 		{
-			if (r.getAsBoolean())
+			if (!run(r))
 			{
-				invokes.add(r);
+				lanes[priority.ordinal()].add(new Task(r, priority));
 			}
 			return;
 		}
 
-		invokeLater(r);
+		invokeLater(priority, r);
 	}
 
 	/**
@@ -74,42 +177,175 @@ public class ClientThread
 	 */
 	public void invokeLater(Runnable r)
 	{
-		invokeLater(() ->
-		{
-			r.run();
-			return true;
-		});
+		invokeLater(wrap(r));
 	}
 
 	public void invokeLater(BooleanSupplier r)
 	{
-		invokes.add(r);
+		invokeLater(Priority.NORMAL, r);
+	}
+
+	public void invokeLater(Priority priority, BooleanSupplier r)
+	{
+		invokes.add(new Task(r, priority));
+	}
+
+	/**
+	 * Will run r on the game thread once the delay has elapsed
+	 * If r returns false, r will be ran again, at a later point
+	 */
+	public void invokeLater(long delay, TimeUnit unit, Priority priority, BooleanSupplier r)
+	{
+		Task task = new Task(r, priority);
+		task.timed = true;
+		task.due = System.nanoTime() + unit.toNanos(delay);
+		invokes.add(task);
 	}
 
+	/**
+	 * Will run r on the game thread once the given number of game ticks have been processed
+	 * If r returns false, r will be ran again, at a later point
+	 */
+	public void invokeAtTick(int ticks, Priority priority, BooleanSupplier r)
+	{
+		Preconditions.checkArgument(ticks >= 0, "ticks must not be negative");
+		Task task = new Task(r, priority);
+		// resolved against the tick count once the task reaches the client thread
+		task.ticks = ticks;
+		invokes.add(task);
+	}
+
+	/**
+	 * Get the time spent running tasks, by the class of the task. The stats are updated
+	 * from the client thread, so may be slightly inconsistent when read from other threads.
+	 */
+	public Map<String, TaskStats> getTaskStats()
+	{
+		ImmutableMap.Builder<String, TaskStats> builder = ImmutableMap.builder();
+		for (Map.Entry<Class<?>, TaskStats> entry : taskStats.entrySet())
+		{
+			builder.put(entry.getKey().getName(), entry.getValue());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Runs pending tasks. HIGH priority tasks are always ran, the remaining lanes are ran
+	 * until the frame budget is spent, with at least one task from each lane being ran so
+	 * no lane is starved. Anything left over is carried over to the next frame.
+	 */
 	void invoke()
 	{
 		assert client.isClientThread();
-		Iterator<BooleanSupplier> ir = invokes.iterator();
-		for (; ir.hasNext(); )
+
+		final long start = System.nanoTime();
+		final int tick = client.getTickCount();
+
+		for (Task task; (task = invokes.poll()) != null; )
 		{
-			BooleanSupplier r = ir.next();
-			boolean remove = true;
-			try
+			if (task.ticks >= 0)
 			{
-				remove = r.getAsBoolean();
+				task.due = (long) tick + task.ticks;
+				tickDelayed.add(task);
 			}
-			catch (ThreadDeath d)
+			else if (task.timed)
 			{
-				throw d;
+				delayed.add(task);
 			}
-			catch (Throwable e)
+			else
 			{
-				log.warn("Exception in invoke", e);
+				lanes[task.priority.ordinal()].add(task);
 			}
-			if (remove)
+		}
+
+		while (!tickDelayed.isEmpty() && tickDelayed.peek().due <= tick)
+		{
+			Task task = tickDelayed.poll();
+			lanes[task.priority.ordinal()].add(task);
+		}
+
+		while (!delayed.isEmpty() && delayed.peek().due - start <= 0)
+		{
+			Task task = delayed.poll();
+			lanes[task.priority.ordinal()].add(task);
+		}
+
+		final long deadline = start + frameBudget;
+
+		for (Priority priority : PRIORITIES)
+		{
+			final ArrayDeque<Task> lane = lanes[priority.ordinal()];
+			// tasks which are retried are added back to the tail, and aren't ran again this frame
+			int pending = lane.size();
+			boolean first = true;
+
+			while (pending-- > 0)
 			{
-				ir.remove();
+				if (priority != Priority.HIGH && !first && System.nanoTime() - deadline >= 0)
+				{
+					break;
+				}
+
+				first = false;
+
+				Task task = lane.poll();
+				if (!run(task.supplier))
+				{
+					lane.add(task);
+				}
 			}
 		}
+
+		lastFrameNanos = System.nanoTime() - start;
+	}
+
+	private boolean run(BooleanSupplier r)
+	{
+		final long start = System.nanoTime();
+		boolean remove = true;
+		try
+		{
+			remove = r.getAsBoolean();
+		}
+		catch (ThreadDeath d)
+		{
+			throw d;
+		}
+		catch (Throwable e)
+		{
+			log.warn("Exception in invoke", e);
+		}
+
+		final long elapsed = System.nanoTime() - start;
+		final Class<?> type = r instanceof RunnableTask ? ((RunnableTask) r).runnable.getClass() : r.getClass();
+		taskStats.computeIfAbsent(type, k -> new TaskStats()).record(elapsed);
+		if (elapsed > SLOW_TASK)
+		{
+			log.debug("Invoke {} took {}ms", type.getName(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+		}
+
+		return remove;
+	}
+
+	private static BooleanSupplier wrap(Runnable r)
+	{
+		return new RunnableTask(r);
+	}
+
+	private static class RunnableTask implements BooleanSupplier
+	{
+		private final Runnable runnable;
+
+		RunnableTask(Runnable runnable)
+		{
+			this.runnable = runnable;
+		}
+
+		@Override
+		public boolean getAsBoolean()
+		{
+			runnable.run();
+			return true;
+		}
 	}
 }
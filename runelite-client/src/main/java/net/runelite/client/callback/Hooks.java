@@ -42,12 +42,14 @@ import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.BufferProvider;
 import net.runelite.api.Client;
+import net.runelite.api.GameState;
 import net.runelite.api.MainBufferProvider;
 import net.runelite.api.RenderOverview;
 import net.runelite.api.Renderable;
 import net.runelite.api.WorldMapManager;
 import net.runelite.api.events.BeforeRender;
 import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ScriptCallbackEvent;
 import net.runelite.api.hooks.Callbacks;
 import net.runelite.api.hooks.DrawCallbacks;
 import net.runelite.api.widgets.Widget;
@@ -108,6 +110,9 @@ public class Hooks implements Callbacks
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private ScriptCallbackManager scriptCallbackManager;
+
 	@Inject
 	private DrawManager drawManager;
 
@@ -127,7 +132,14 @@ public class Hooks implements Callbacks
 	@Override
 	public void post(Object event)
 	{
-		eventBus.post(event);
+		if (client.getGameState() == GameState.LOADING)
+		{
+			eventBus.postSceneLoad(event);
+		}
+		else
+		{
+			eventBus.post(event);
+		}
 	}
 
 	@Override
@@ -136,6 +148,35 @@ public class Hooks implements Callbacks
 		deferredEventBus.post(event);
 	}
 
+	@Override
+	public boolean hasSubscribers(Class<?> eventClass)
+	{
+		if (client.getGameState() == GameState.LOADING)
+		{
+			return eventBus.hasSceneLoadSubscribers(eventClass);
+		}
+
+		return eventBus.hasSubscribers(eventClass);
+	}
+
+	@Override
+	public int getScriptCallbackId(String name)
+	{
+		return scriptCallbackManager.getId(name);
+	}
+
+	@Override
+	public void scriptCallback(int id, ScriptCallbackEvent event)
+	{
+		scriptCallbackManager.dispatch(id, event);
+
+		// Subscribers to the event still receive every callback
+		if (eventBus.hasSubscribers(ScriptCallbackEvent.class))
+		{
+			eventBus.post(event);
+		}
+	}
+
 	@Override
 	public void clientMainLoop()
 	{
@@ -155,6 +196,16 @@ public class Hooks implements Callbacks
 
 		clientThread.invoke();
 
+		try
+		{
+			// run scheduled tasks which are due
+			scheduler.tick();
+		}
+		catch (Exception ex)
+		{
+			log.warn("error running scheduled tasks", ex);
+		}
+
 		long now = System.currentTimeMillis();
 
 		if (now - lastCheck < CHECK)
@@ -166,9 +217,6 @@ public class Hooks implements Callbacks
 
 		try
 		{
-			// tick pending scheduled tasks
-			scheduler.tick();
-
 			// cull infoboxes
 			infoBoxManager.cull();
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.events.ScriptCallbackEvent;
+
+/**
+ * Dispatches script callbacks to the handlers registered for their name. Callback names
+ * are assigned integer ids, which the script VM caches per instruction, so dispatching a
+ * callback is an array lookup.
+ */
+@Singleton
+@Slf4j
+public class ScriptCallbackManager
+{
+	private static final Handler[] NO_HANDLERS = new Handler[0];
+
+	@Value
+	private static class Handler
+	{
+		private final Object subscriber;
+		private final Consumer<ScriptCallbackEvent> consumer;
+	}
+
+	private final Map<String, Integer> ids = new HashMap<>();
+
+	/**
+	 * Handlers indexed by callback id. The arrays are copied on write, so they can be
+	 * read on the client thread without locking.
+	 */
+	private volatile Handler[][] handlers = new Handler[0][];
+
+	/**
+	 * Registers a handler to be called on the client thread for the script callback with the given name
+	 *
+	 * @param subscriber owner of the handler, used to unregister it
+	 * @param name callback name
+	 * @param handler the handler
+	 */
+	public synchronized void register(Object subscriber, String name, Consumer<ScriptCallbackEvent> handler)
+	{
+		final int id = getId(name);
+		final Handler[][] handlers = Arrays.copyOf(this.handlers, Math.max(this.handlers.length, id + 1));
+
+		final Handler[] current = handlers[id] == null ? NO_HANDLERS : handlers[id];
+		final Handler[] updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = new Handler(subscriber, handler);
+		handlers[id] = updated;
+		this.handlers = handlers;
+	}
+
+	/**
+	 * Unregisters all of the handlers of a subscriber
+	 */
+	public synchronized void unregister(Object subscriber)
+	{
+		final Handler[][] handlers = this.handlers.clone();
+		for (int i = 0; i < handlers.length; ++i)
+		{
+			if (handlers[i] == null)
+			{
+				continue;
+			}
+
+			final Handler[] updated = Arrays.stream(handlers[i])
+				.filter(h -> h.getSubscriber() != subscriber)
+				.toArray(Handler[]::new);
+			handlers[i] = updated.length == 0 ? null : updated;
+		}
+		this.handlers = handlers;
+	}
+
+	/**
+	 * Gets the id of a script callback name, assigning one if the name has not been seen before
+	 */
+	public synchronized int getId(String name)
+	{
+		return ids.computeIfAbsent(name, k -> ids.size());
+	}
+
+	void dispatch(int id, ScriptCallbackEvent event)
+	{
+		final Handler[][] handlers = this.handlers;
+		if (id < 0 || id >= handlers.length || handlers[id] == null)
+		{
+			return;
+		}
+
+		for (Handler handler : handlers[id])
+		{
+			try
+			{
+				handler.getConsumer().accept(event);
+			}
+			catch (Exception ex)
+			{
+				log.warn("Uncaught exception in script callback {}", event.getEventName(), ex);
+			}
+		}
+	}
+}
@@ -48,6 +48,7 @@ import net.runelite.api.events.ScriptCallbackEvent;
 import net.runelite.api.events.SetMessage;
 import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.ScriptCallbackManager;
 import net.runelite.client.config.ChatColorConfig;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.ui.JagexColors;
@@ -67,11 +68,17 @@ public class ChatMessageManager
 	private ChatMessageManager(
 		Client client,
 		ChatColorConfig chatColorConfig,
-		ClientThread clientThread)
+		ClientThread clientThread,
+		ScriptCallbackManager scriptCallbackManager)
 	{
 		this.client = client;
 		this.chatColorConfig = chatColorConfig;
 		this.clientThread = clientThread;
+
+		scriptCallbackManager.register(this, "privateChatFrom", this::onPrivateChatName);
+		scriptCallbackManager.register(this, "privateChatTo", this::onPrivateChatName);
+		scriptCallbackManager.register(this, "privateChatSplitFrom", this::onPrivateChatName);
+		scriptCallbackManager.register(this, "privateChatSplitTo", this::onPrivateChatName);
 	}
 
 	@Subscribe
@@ -168,22 +175,8 @@ public class ChatMessageManager
 		}
 	}
 
-	@Subscribe
-	public void onScriptCallbackEvent(ScriptCallbackEvent scriptCallbackEvent)
+	private void onPrivateChatName(ScriptCallbackEvent scriptCallbackEvent)
 	{
-		final String eventName = scriptCallbackEvent.getEventName();
-
-		switch (eventName)
-		{
-			case "privateChatFrom":
-			case "privateChatTo":
-			case "privateChatSplitFrom":
-			case "privateChatSplitTo":
-				break;
-			default:
-				return;
-		}
-
 		boolean isChatboxTransparent = client.isResized() && client.getVar(Varbits.TRANSPARENT_CHATBOX) == 1;
 		Color usernameColor = isChatboxTransparent ? chatColorConfig.transparentPrivateUsernames() : chatColorConfig.opaquePrivateUsernames();
 		if (usernameColor == null)
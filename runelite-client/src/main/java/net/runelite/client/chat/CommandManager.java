@@ -37,8 +37,8 @@ import net.runelite.api.VarClientStr;
 import net.runelite.api.events.CommandExecuted;
 import net.runelite.api.events.ScriptCallbackEvent;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.ScriptCallbackManager;
 import net.runelite.client.eventbus.EventBus;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ChatboxInput;
 import net.runelite.client.events.PrivateMessageInput;
 
@@ -58,11 +58,15 @@ public class CommandManager
 	private final List<ChatboxInputListener> chatboxInputListenerList = new ArrayList<>();
 
 	@Inject
-	private CommandManager(Client client, EventBus eventBus, ClientThread clientThread)
+	private CommandManager(Client client, EventBus eventBus, ClientThread clientThread, ScriptCallbackManager scriptCallbackManager)
 	{
 		this.client = client;
 		this.eventBus = eventBus;
 		this.clientThread = clientThread;
+
+		scriptCallbackManager.register(this, RUNELITE_COMMAND, this::runCommand);
+		scriptCallbackManager.register(this, CHATBOX_INPUT, this::handleInput);
+		scriptCallbackManager.register(this, PRIVMATE_MESSAGE, this::handlePrivateMessage);
 	}
 
 	public void register(ChatboxInputListener chatboxInputListener)
@@ -75,30 +79,13 @@ public class CommandManager
 		chatboxInputListenerList.remove(chatboxInputListener);
 	}
 
-	@Subscribe
-	private void onScriptCallbackEvent(ScriptCallbackEvent event)
+	private void runCommand(ScriptCallbackEvent event)
 	{
 		if (sending)
 		{
 			return;
 		}
 
-		switch (event.getEventName())
-		{
-			case RUNELITE_COMMAND:
-				runCommand();
-				break;
-			case CHATBOX_INPUT:
-				handleInput(event);
-				break;
-			case PRIVMATE_MESSAGE:
-				handlePrivateMessage(event);
-				break;
-		}
-	}
-
-	private void runCommand()
-	{
 		String typedText = client.getVar(VarClientStr.CHATBOX_TYPED_TEXT).substring(2); // strip ::
 
 		log.debug("Command: {}", typedText);
@@ -120,6 +107,11 @@ public class CommandManager
 
 	private void handleInput(ScriptCallbackEvent event)
 	{
+		if (sending)
+		{
+			return;
+		}
+
 		final String[] stringStack = client.getStringStack();
 		final int[] intStack = client.getIntStack();
 		int stringStackCount = client.getStringStackSize();
@@ -159,6 +151,11 @@ public class CommandManager
 
 	private void handlePrivateMessage(ScriptCallbackEvent event)
 	{
+		if (sending)
+		{
+			return;
+		}
+
 		final String[] stringStack = client.getStringStack();
 		final int[] intStack = client.getIntStack();
 		int stringStackCount = client.getStringStackSize();
@@ -26,44 +26,70 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
-import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
-import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.ReflectUtil;
 
 @Slf4j
 @RequiredArgsConstructor
 @ThreadSafe
 public class EventBus
 {
+	private static final long SLOW_SUBSCRIBER = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+	private static final int ASYNC_QUEUE_SIZE = 256;
+
 	@FunctionalInterface
 	public interface SubscriberMethod
 	{
 		void invoke(Object event);
 	}
 
-	@Value
-	private static class Subscriber
+	private class Subscriber
 	{
 		private final Object object;
 		private final Method method;
-		@EqualsAndHashCode.Exclude
 		private final SubscriberMethod lamda;
+		private final int priority;
+		private final SubscriberStats stats;
+		private final AsyncLane lane;
+		private final boolean skipSceneLoad;
+
+		Subscriber(Object object, Method method, SubscriberMethod lamda, int priority, SubscriberStats stats, boolean async, boolean skipSceneLoad)
+		{
+			this.object = object;
+			this.method = method;
+			this.lamda = lamda;
+			this.priority = priority;
+			this.stats = stats;
+			this.lane = async ? new AsyncLane(this) : null;
+			this.skipSceneLoad = skipSceneLoad;
+		}
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -78,8 +104,120 @@ public class EventBus
 		}
 	}
 
+	/**
+	 * Time spent in a subscriber method. Subscribers may be invoked from several threads at
+	 * once, and async subscribers from executor threads, so the counters are all atomic.
+	 */
+	public static class SubscriberStats
+	{
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+		private final LongAdder dropped = new LongAdder();
+
+		private void record(long nanos)
+		{
+			count.increment();
+			totalNanos.add(nanos);
+
+			long max;
+			while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos))
+			{
+				// retry
+			}
+		}
+
+		public long getCount()
+		{
+			return count.sum();
+		}
+
+		public long getTotalNanos()
+		{
+			return totalNanos.sum();
+		}
+
+		public long getMaxNanos()
+		{
+			return maxNanos.get();
+		}
+
+		/**
+		 * @return events dropped because the queue of an async subscriber was full
+		 */
+		public long getDropped()
+		{
+			return dropped.sum();
+		}
+	}
+
+	/**
+	 * Queue of pending events for an async subscriber. At most one drain task is
+	 * submitted to the executor at a time, so the subscriber is invoked serially.
+	 */
+	@RequiredArgsConstructor
+	private class AsyncLane implements Runnable
+	{
+		private final ArrayBlockingQueue<Object> queue = new ArrayBlockingQueue<>(ASYNC_QUEUE_SIZE);
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+		private final Subscriber subscriber;
+		private volatile boolean closed;
+		private volatile boolean dropping;
+
+		void offer(Object event)
+		{
+			if (!queue.offer(event))
+			{
+				subscriber.stats.dropped.increment();
+				if (!dropping)
+				{
+					dropping = true;
+					log.warn("Async subscriber {} is falling behind, dropping events", subscriber.method);
+				}
+				return;
+			}
+
+			if (scheduled.compareAndSet(false, true))
+			{
+				asyncExecutor.execute(this);
+			}
+		}
+
+		@Override
+		public void run()
+		{
+			Object event;
+			while (!closed && (event = queue.poll()) != null)
+			{
+				invoke(subscriber, event);
+			}
+
+			dropping = false;
+			scheduled.set(false);
+
+			// an event may have been queued after the last poll but before scheduled was cleared
+			if (!closed && !queue.isEmpty() && scheduled.compareAndSet(false, true))
+			{
+				asyncExecutor.execute(this);
+			}
+		}
+
+		void close()
+		{
+			closed = true;
+			queue.clear();
+		}
+	}
+
 	private final Consumer<Throwable> exceptionHandler;
-	private ImmutableMultimap<Class, Subscriber> subscribers = ImmutableMultimap.of();
+	private final Executor asyncExecutor;
+
+	/**
+	 * Subscribers by event type, ordered by priority. The arrays are never modified once
+	 * published, registration replaces the array of each affected event type instead.
+	 */
+	private final Map<Class<?>, Subscriber[]> subscribers = new ConcurrentHashMap<>();
+	private final Map<Method, SubscriberStats> subscriberStats = new ConcurrentHashMap<>();
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -89,6 +227,19 @@ public class EventBus
 		this((e) -> log.warn("Uncaught exception in event subscriber", e));
 	}
 
+	/**
+	 * Instantiates EventBus with a cached thread pool for async subscribers
+	 *
+	 * @param exceptionHandler handler for exceptions thrown by subscribers
+	 */
+	public EventBus(final Consumer<Throwable> exceptionHandler)
+	{
+		this(exceptionHandler, Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+			.setNameFormat("EventBus-async-%d")
+			.setDaemon(true)
+			.build()));
+	}
+
 	/**
 	 * Registers subscriber to EventBus. All methods in subscriber and it's parent classes are checked for
 	 * {@link Subscribe} annotation and then added to map of subscriptions.
@@ -98,12 +249,8 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class, Subscriber> builder = ImmutableMultimap.builder();
-
-		if (subscribers != null)
-		{
-			builder.putAll(subscribers);
-		}
+		final List<Class<?>> types = new ArrayList<>();
+		final List<Subscriber> added = new ArrayList<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -141,7 +288,7 @@ public class EventBus
 
 				try
 				{
-					final MethodHandles.Lookup caller = privateLookupIn(clazz);
+					final MethodHandles.Lookup caller = ReflectUtil.privateLookupIn(clazz);
 					final MethodType subscription = MethodType.methodType(void.class, parameterClazz);
 					final MethodHandle target = caller.findVirtual(clazz, method.getName(), subscription);
 					final CallSite site = LambdaMetafactory.metafactory(
@@ -160,13 +307,35 @@ public class EventBus
 					log.warn("Unable to create lambda for method {}", method, e);
 				}
 
-				final Subscriber subscriber = new Subscriber(object, method, lambda);
-				builder.put(parameterClazz, subscriber);
-				log.debug("Registering {} - {}", parameterClazz, subscriber);
+				final SubscriberStats stats = subscriberStats.computeIfAbsent(method, k -> new SubscriberStats());
+				final Subscriber subscriber = new Subscriber(object, method, lambda, sub.priority(), stats, sub.async(), sub.skipSceneLoad());
+				types.add(parameterClazz);
+				added.add(subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		// Only modify the subscribers once every method has been validated
+		for (int i = 0; i < added.size(); ++i)
+		{
+			final Class<?> type = types.get(i);
+			final Subscriber subscriber = added.get(i);
+			final Subscriber[] current = subscribers.getOrDefault(type, EMPTY);
+
+			// Insert after all subscribers with an equal or higher priority
+			int idx = current.length;
+			while (idx > 0 && current[idx - 1].priority < subscriber.priority)
+			{
+				--idx;
+			}
+
+			final Subscriber[] updated = new Subscriber[current.length + 1];
+			System.arraycopy(current, 0, updated, 0, idx);
+			updated[idx] = subscriber;
+			System.arraycopy(current, idx, updated, idx + 1, current.length - idx);
+			subscribers.put(type, updated);
+
+			log.debug("Registering {} - {}", type, subscriber.method);
+		}
 	}
 
 	/**
@@ -176,74 +345,178 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		if (subscribers == null)
-		{
-			return;
-		}
-
-		final Multimap<Class, Subscriber> map = HashMultimap.create();
-		map.putAll(subscribers);
-
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
 			for (final Method method : clazz.getDeclaredMethods())
 			{
 				final Subscribe sub = method.getAnnotation(Subscribe.class);
 
-				if (sub == null)
+				if (sub == null || method.getParameterCount() != 1)
 				{
 					continue;
 				}
 
 				final Class<?> parameterClazz = method.getParameterTypes()[0];
-				map.remove(parameterClazz, new Subscriber(object, method, null));
+				final Subscriber[] current = subscribers.get(parameterClazz);
+
+				if (current == null)
+				{
+					continue;
+				}
+
+				final Subscriber[] updated = new Subscriber[current.length];
+				int count = 0;
+				for (Subscriber subscriber : current)
+				{
+					if (subscriber.object != object || !subscriber.method.equals(method))
+					{
+						updated[count++] = subscriber;
+					}
+					else if (subscriber.lane != null)
+					{
+						subscriber.lane.close();
+					}
+				}
+
+				if (count == current.length)
+				{
+					continue;
+				}
+
+				if (count == 0)
+				{
+					subscribers.remove(parameterClazz);
+				}
+				else
+				{
+					subscribers.put(parameterClazz, Arrays.copyOf(updated, count));
+				}
 			}
 		}
-
-		subscribers = ImmutableMultimap.copyOf(map);
 	}
 
 	/**
-	 * Posts provided event to all registered subscribers. Subscriber calls are invoked immediately and in order
-	 * in which subscribers were registered.
+	 * Posts provided event to all registered subscribers. Subscriber calls are invoked immediately, in order
+	 * of priority and then in the order in which subscribers were registered. Async subscribers are queued
+	 * instead, and invoked later from a background thread.
 	 *
 	 * @param event event to post
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		post(event, false);
+	}
+
+	/**
+	 * Posts provided event which was generated while a scene is loading. This is the same as
+	 * {@link #post(Object)}, except that subscribers with {@link Subscribe#skipSceneLoad()} set
+	 * are not invoked.
+	 *
+	 * @param event event to post
+	 */
+	public void postSceneLoad(@Nonnull final Object event)
+	{
+		post(event, true);
+	}
+
+	private void post(final Object event, final boolean sceneLoad)
+	{
+		final Subscriber[] subs = subscribers.get(event.getClass());
+
+		if (subs == null)
+		{
+			return;
+		}
+
+		for (final Subscriber subscriber : subs)
 		{
-			try
+			if (sceneLoad && subscriber.skipSceneLoad)
+			{
+				continue;
+			}
+
+			if (subscriber.lane != null)
 			{
-				subscriber.invoke(event);
+				subscriber.lane.offer(event);
 			}
-			catch (Exception e)
+			else
 			{
-				exceptionHandler.accept(e);
+				invoke(subscriber, event);
 			}
 		}
 	}
 
-	private static MethodHandles.Lookup privateLookupIn(Class clazz) throws IllegalAccessException, NoSuchFieldException, InvocationTargetException
+	private void invoke(final Subscriber subscriber, final Object event)
 	{
+		final long start = System.nanoTime();
+
 		try
 		{
-			// Java 9+ has privateLookupIn method on MethodHandles, but since we are shipping and using Java 8
-			// we need to access it via reflection. This is preferred way because it's Java 9+ public api and is
-			// likely to not change
-			final Method privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
-			return (MethodHandles.Lookup) privateLookupIn.invoke(null, clazz, MethodHandles.lookup());
+			subscriber.invoke(event);
 		}
-		catch (NoSuchMethodException e)
+		catch (Exception e)
 		{
-			// In Java 8 we first do standard lookupIn class
-			final MethodHandles.Lookup lookupIn = MethodHandles.lookup().in(clazz);
+			exceptionHandler.accept(e);
+		}
+
+		final long elapsed = System.nanoTime() - start;
+		subscriber.stats.record(elapsed);
+		if (elapsed > SLOW_SUBSCRIBER)
+		{
+			log.debug("Subscriber {} took {}ms", subscriber.method, TimeUnit.NANOSECONDS.toMillis(elapsed));
+		}
+	}
+
+	/**
+	 * Checks whether any subscriber is registered for provided event type.
+	 *
+	 * @param eventClass event type
+	 * @return true if posting an event of this type would invoke at least one subscriber
+	 */
+	public boolean hasSubscribers(@Nonnull final Class<?> eventClass)
+	{
+		return subscribers.containsKey(eventClass);
+	}
 
-			// and then we mark it as trusted for private lookup via reflection on private field
-			final Field modes = MethodHandles.Lookup.class.getDeclaredField("allowedModes");
-			modes.setAccessible(true);
-			modes.setInt(lookupIn, -1); // -1 == TRUSTED
-			return lookupIn;
+	/**
+	 * Checks whether any subscriber which does not skip scene loads is registered for provided event type.
+	 *
+	 * @param eventClass event type
+	 * @return true if posting an event of this type with {@link #postSceneLoad(Object)} would invoke at
+	 * least one subscriber
+	 */
+	public boolean hasSceneLoadSubscribers(@Nonnull final Class<?> eventClass)
+	{
+		final Subscriber[] subs = subscribers.get(eventClass);
+
+		if (subs == null)
+		{
+			return false;
+		}
+
+		for (final Subscriber subscriber : subs)
+		{
+			if (!subscriber.skipSceneLoad)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the time spent in each subscriber method, keyed by the declaring class and method name.
+	 * Stats are kept across registrations. Each counter is read separately, so they may be
+	 * slightly inconsistent with each other while events are being posted.
+	 */
+	public Map<String, SubscriberStats> getSubscriberStats()
+	{
+		final Map<String, SubscriberStats> stats = new HashMap<>();
+		for (Map.Entry<Method, SubscriberStats> entry : subscriberStats.entrySet())
+		{
+			final Method method = entry.getKey();
+			stats.put(method.getDeclaringClass().getName() + "." + method.getName(), entry.getValue());
 		}
+		return ImmutableMap.copyOf(stats);
 	}
 }
@@ -38,4 +38,24 @@ import java.lang.annotation.Target;
 @Documented
 public @interface Subscribe
 {
+	/**
+	 * Subscribers with a higher priority are invoked first. Subscribers with equal
+	 * priority are invoked in the order in which they were registered.
+	 */
+	int priority() default 0;
+
+	/**
+	 * If set, events are queued and the subscriber is invoked on a background thread instead
+	 * of the posting thread. Events are delivered in order, one at a time, and are dropped
+	 * if the subscriber falls too far behind. Async subscribers must not touch client state.
+	 */
+	boolean async() default false;
+
+	/**
+	 * If set, the subscriber is not invoked for events posted while a scene is loading. Subscribers
+	 * to object and item spawn events can set this and index the scene from
+	 * {@link net.runelite.api.events.SceneObjectsLoaded} instead, so the spawn events are not
+	 * built at all during the load when every subscriber skips it.
+	 */
+	boolean skipSceneLoad() default false;
 }
@@ -32,8 +32,7 @@ import net.runelite.api.Client;
 import net.runelite.api.ScriptID;
 import net.runelite.api.events.ScriptCallbackEvent;
 import net.runelite.client.callback.ClientThread;
-import net.runelite.client.eventbus.EventBus;
-import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.callback.ScriptCallbackManager;
 
 @Singleton
 public class ChatboxInputManager
@@ -50,11 +49,11 @@ public class ChatboxInputManager
 	private boolean open = false;
 
 	@Inject
-	public ChatboxInputManager(Client client, ClientThread clientThread, EventBus eventBus)
+	public ChatboxInputManager(Client client, ClientThread clientThread, ScriptCallbackManager scriptCallbackManager)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
-		eventBus.register(this);
+		scriptCallbackManager.register(this, "chatboxInputHandler", this::onChatboxInputHandler);
 	}
 
 	/**
@@ -104,55 +103,51 @@ public class ChatboxInputManager
 		));
 	}
 
-	@Subscribe
-	public void onScriptCallbackEvent(ScriptCallbackEvent ev)
+	private void onChatboxInputHandler(ScriptCallbackEvent ev)
 	{
 		// This replaces script 74 and most of 112
-		if ("chatboxInputHandler".equals(ev.getEventName()))
-		{
-			int intStackSize = client.getIntStackSize();
-			int stringStackSize = client.getStringStackSize();
-			int typedKey = client.getIntStack()[--intStackSize];
-			String str = client.getStringStack()[--stringStackSize];
-			boolean isDone = false;
-
-			switch (typedKey)
-			{
-				case 27: // Escape
-					str = "";
-					// fallthrough
-				case '\n':
-					this.open = false;
-					isDone = true;
-					break;
-				case '\b':
-					if (str.length() > 0)
-					{
-						str = str.substring(0, str.length() - 1);
-					}
-					break;
-				default:
-					// If we wanted to do numbers only, we could add a limit here
-					if (typedKey >= 32 && (str.length() < characterLimit))
-					{
-						str += Character.toString((char) typedKey);
-					}
-			}
+		int intStackSize = client.getIntStackSize();
+		int stringStackSize = client.getStringStackSize();
+		int typedKey = client.getIntStack()[--intStackSize];
+		String str = client.getStringStack()[--stringStackSize];
+		boolean isDone = false;
 
-			if (changed != null)
-			{
-				changed.accept(str);
-			}
+		switch (typedKey)
+		{
+			case 27: // Escape
+				str = "";
+				// fallthrough
+			case '\n':
+				this.open = false;
+				isDone = true;
+				break;
+			case '\b':
+				if (str.length() > 0)
+				{
+					str = str.substring(0, str.length() - 1);
+				}
+				break;
+			default:
+				// If we wanted to do numbers only, we could add a limit here
+				if (typedKey >= 32 && (str.length() < characterLimit))
+				{
+					str += Character.toString((char) typedKey);
+				}
+		}
 
-			if (isDone && done != null)
-			{
-				done.accept(str);
-			}
+		if (changed != null)
+		{
+			changed.accept(str);
+		}
 
-			client.getStringStack()[stringStackSize++] = str;
-			client.getIntStack()[intStackSize++] = isDone ? 1 : 0;
-			client.setIntStackSize(intStackSize);
-			client.setStringStackSize(stringStackSize);
+		if (isDone && done != null)
+		{
+			done.accept(str);
 		}
+
+		client.getStringStack()[stringStackSize++] = str;
+		client.getIntStack()[intStackSize++] = isDone ? 1 : 0;
+		client.setIntStackSize(intStackSize);
+		client.setStringStackSize(stringStackSize);
 	}
 }
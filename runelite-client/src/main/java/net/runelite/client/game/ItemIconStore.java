@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import static net.runelite.client.RuneLite.RUNELITE_DIR;
+
+/**
+ * A persistent store of rendered item icons, kept per cache version.
+ * <p>
+ * The cache version is derived from the crcs of the indexes an icon is
+ * rendered from, so icons are re-rendered as soon as the cache is updated.
+ */
+@Slf4j
+class ItemIconStore
+{
+	private final File iconDir;
+
+	ItemIconStore()
+	{
+		this(new File(RUNELITE_DIR, "item-icons"));
+	}
+
+	@VisibleForTesting
+	ItemIconStore(File iconDir)
+	{
+		this.iconDir = iconDir;
+	}
+
+	/**
+	 * Loads an icon into the given image
+	 *
+	 * @return true if the icon was loaded, false if it needs to be rendered
+	 */
+	boolean load(int cacheVersion, int itemId, int quantity, boolean stackable, BufferedImage img)
+	{
+		final File file = getFile(cacheVersion, itemId, quantity, stackable);
+		if (!file.exists())
+		{
+			return false;
+		}
+
+		try
+		{
+			final BufferedImage icon = ImageIO.read(file);
+			if (icon == null || icon.getWidth() != img.getWidth() || icon.getHeight() != img.getHeight())
+			{
+				return false;
+			}
+
+			final int width = img.getWidth();
+			final int height = img.getHeight();
+			img.setRGB(0, 0, width, height, icon.getRGB(0, 0, width, height, null, 0, width), 0, width);
+			return true;
+		}
+		catch (IOException e)
+		{
+			log.debug("unable to read item icon {}", file, e);
+			return false;
+		}
+	}
+
+	void store(int cacheVersion, int itemId, int quantity, boolean stackable, BufferedImage img)
+	{
+		final File file = getFile(cacheVersion, itemId, quantity, stackable);
+		final File dir = file.getParentFile();
+
+		if (!dir.exists() && !dir.mkdirs())
+		{
+			return;
+		}
+
+		try
+		{
+			// write to a temporary file first so a partially written icon is never read
+			final File tmp = File.createTempFile("icon", ".tmp", dir);
+			try
+			{
+				ImageIO.write(img, "png", tmp);
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally
+			{
+				Files.deleteIfExists(tmp.toPath());
+			}
+		}
+		catch (IOException e)
+		{
+			log.debug("unable to write item icon {}", file, e);
+		}
+	}
+
+	/**
+	 * Deletes the icons of other cache versions
+	 */
+	void prune(int cacheVersion)
+	{
+		final File[] versions = iconDir.listFiles();
+		if (versions == null)
+		{
+			return;
+		}
+
+		final String current = Integer.toHexString(cacheVersion);
+		int deleted = 0;
+
+		for (File dir : versions)
+		{
+			if (dir.getName().equals(current))
+			{
+				continue;
+			}
+
+			final File[] files = dir.listFiles();
+			if (files != null)
+			{
+				for (File file : files)
+				{
+					if (file.delete())
+					{
+						++deleted;
+					}
+				}
+			}
+
+			dir.delete();
+		}
+
+		log.debug("Pruned {} item icons", deleted);
+	}
+
+	private File getFile(int cacheVersion, int itemId, int quantity, boolean stackable)
+	{
+		return new File(new File(iconDir, Integer.toHexString(cacheVersion)),
+			itemId + "_" + quantity + (stackable ? "_s" : "") + ".png");
+	}
+}
@@ -83,7 +83,12 @@ public class ItemManager
 	private final ClientThread clientThread;
 
 	private final ItemClient itemClient = new ItemClient();
+	private final ItemIconStore iconStore = new ItemIconStore();
 	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	/**
+	 * Prices indexed by item id, with the item mappings already applied
+	 */
+	private volatile int[] priceTable = new int[0];
 	private Map<String, ItemStats> itemStats = Collections.emptyMap();
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<Integer, ItemComposition> itemCompositions;
@@ -152,6 +157,9 @@ public class ItemManager
 		put(AGILITY_CAPE_13340, AGILITY_CAPE).
 		build();
 
+	// Memory tier of the item icon cache, in bytes
+	private static final long ITEM_IMAGE_CACHE_WEIGHT = 16L * 1024 * 1024;
+
 	@Inject
 	public ItemManager(Client client, ScheduledExecutorService executor, ClientThread clientThread)
 	{
@@ -162,8 +170,25 @@ public class ItemManager
 		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
 		scheduledExecutorService.submit(this::loadStats);
 
+		if (client != null)
+		{
+			// the index crcs are only known once the cache has loaded
+			clientThread.invokeLater(() ->
+			{
+				if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+				{
+					return false;
+				}
+
+				final int cacheVersion = getCacheVersion();
+				scheduledExecutorService.execute(() -> iconStore.prune(cacheVersion));
+				return true;
+			});
+		}
+
 		itemImages = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+			.maximumWeight(ITEM_IMAGE_CACHE_WEIGHT)
+			.weigher((ImageKey key, AsyncBufferedImage img) -> img.getWidth() * img.getHeight() * 4)
 			.expireAfterAccess(1, TimeUnit.HOURS)
 			.build(new CacheLoader<ImageKey, AsyncBufferedImage>()
 			{
@@ -212,6 +237,7 @@ public class ItemManager
 					map.put(price.getId(), price);
 				}
 				itemPrices = map.build();
+				priceTable = buildPriceTable(itemPrices);
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -263,6 +289,57 @@ public class ItemManager
 	 * @return item price
 	 */
 	public int getItemPrice(int itemID)
+	{
+		final int[] table = priceTable;
+		if (itemID >= 0 && itemID < table.length)
+		{
+			return table[itemID];
+		}
+
+		return computeItemPrice(itemPrices, itemID);
+	}
+
+	/**
+	 * Look up the total price of a set of items, such as the contents of a container
+	 *
+	 * @param itemIDs item ids
+	 * @param quantities item quantities, in the same order as the item ids
+	 * @return total price of the items
+	 */
+	public long getItemPrices(int[] itemIDs, int[] quantities)
+	{
+		final int[] table = priceTable;
+		long total = 0;
+
+		for (int i = 0; i < itemIDs.length; ++i)
+		{
+			final int itemID = itemIDs[i];
+			final int price = itemID >= 0 && itemID < table.length
+				? table[itemID]
+				: computeItemPrice(itemPrices, itemID);
+			total += (long) price * quantities[i];
+		}
+
+		return total;
+	}
+
+	private static int[] buildPriceTable(Map<Integer, ItemPrice> itemPrices)
+	{
+		int maxID = Math.max(ItemID.COINS_995, ItemID.PLATINUM_TOKEN);
+		for (int itemID : itemPrices.keySet())
+		{
+			maxID = Math.max(maxID, itemID);
+		}
+
+		final int[] table = new int[maxID + 1];
+		for (int itemID = 0; itemID < table.length; ++itemID)
+		{
+			table[itemID] = computeItemPrice(itemPrices, itemID);
+		}
+		return table;
+	}
+
+	private static int computeItemPrice(Map<Integer, ItemPrice> itemPrices, int itemID)
 	{
 		if (itemID == ItemID.COINS_995)
 		{
@@ -276,7 +353,7 @@ public class ItemManager
 		UntradeableItemMapping p = UntradeableItemMapping.map(ItemVariationMapping.map(itemID));
 		if (p != null)
 		{
-			return getItemPrice(p.getPriceID()) * p.getQuantity();
+			return computeItemPrice(itemPrices, p.getPriceID()) * p.getQuantity();
 		}
 
 		int price = 0;
@@ -365,7 +442,8 @@ public class ItemManager
 	}
 
 	/**
-	 * Loads item sprite from game, makes transparent, and generates image
+	 * Loads item sprite from the icon store, or from game if it isn't stored, makes transparent,
+	 * and generates image
 	 *
 	 * @param itemId
 	 * @return
@@ -373,6 +451,32 @@ public class ItemManager
 	private AsyncBufferedImage loadImage(int itemId, int quantity, boolean stackable)
 	{
 		AsyncBufferedImage img = new AsyncBufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+
+		if (client.isClientThread() || client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
+		{
+			// callers on the client thread expect the image to be filled in immediately, and
+			// stored icons can't be validated before the cache has loaded
+			renderImage(img, itemId, quantity, stackable);
+			return img;
+		}
+
+		final int cacheVersion = getCacheVersion();
+		scheduledExecutorService.execute(() ->
+		{
+			if (iconStore.load(cacheVersion, itemId, quantity, stackable, img))
+			{
+				img.changed();
+			}
+			else
+			{
+				renderImage(img, itemId, quantity, stackable);
+			}
+		});
+		return img;
+	}
+
+	private void renderImage(AsyncBufferedImage img, int itemId, int quantity, boolean stackable)
+	{
 		clientThread.invoke(() ->
 		{
 			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
@@ -387,9 +491,20 @@ public class ItemManager
 			}
 			sprite.toBufferedImage(img);
 			img.changed();
+
+			final int cacheVersion = getCacheVersion();
+			scheduledExecutorService.execute(() -> iconStore.store(cacheVersion, itemId, quantity, stackable, img));
 			return true;
 		});
-		return img;
+	}
+
+	/**
+	 * Gets the version of the cache item icons are rendered from, which changes
+	 * whenever item definitions or models are updated
+	 */
+	private int getCacheVersion()
+	{
+		return 31 * client.getIndexConfig().getCrc() + client.getIndexModels().getCrc();
 	}
 
 	/**
@@ -25,41 +25,46 @@
 
 package net.runelite.client.game;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 
 /**
  * Converts variation items to it's base item counterparts
  */
 public class ItemVariationMapping
 {
-	private static final Map<Integer, Integer> MAPPINGS = new HashMap<>();
+	/**
+	 * Variation item ids, sorted, and the base item id of each. Compiled from
+	 * item_variations.json at build time.
+	 */
+	private static final int[] VARIATIONS;
+	private static final int[] BASES;
 
 	static
 	{
-		final Gson gson = new Gson();
-		final TypeToken<Map<String, Collection<Integer>>> typeToken = new TypeToken<Map<String, Collection<Integer>>>()
-		{
-		};
-
-		final InputStream geLimitData = ItemVariationMapping.class.getResourceAsStream("/item_variations.json");
-		final Map<String, Collection<Integer>> itemVariations = gson.fromJson(new InputStreamReader(geLimitData), typeToken.getType());
-
-		for (Collection<Integer> value : itemVariations.values())
+		final InputStream variationData = ItemVariationMapping.class.getResourceAsStream("/item_variations.bin");
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(variationData)))
 		{
-			final Iterator<Integer> iterator = value.iterator();
-			final int base = iterator.next();
+			final int count = in.readInt();
+			VARIATIONS = new int[count];
+			BASES = new int[count];
 
-			while (iterator.hasNext())
+			for (int i = 0; i < count; ++i)
 			{
-				MAPPINGS.put(iterator.next(), base);
+				VARIATIONS[i] = in.readInt();
 			}
+			for (int i = 0; i < count; ++i)
+			{
+				BASES[i] = in.readInt();
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
 		}
 	}
 
@@ -71,6 +76,7 @@ public class ItemVariationMapping
 	 */
 	public static int map(int itemId)
 	{
-		return MAPPINGS.getOrDefault(itemId, itemId);
+		final int idx = Arrays.binarySearch(VARIATIONS, itemId);
+		return idx >= 0 ? BASES[idx] : itemId;
 	}
 }
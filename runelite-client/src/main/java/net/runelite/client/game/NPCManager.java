@@ -24,12 +24,12 @@
  */
 package net.runelite.client.game;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -37,18 +37,27 @@ import javax.inject.Singleton;
 @Singleton
 public class NPCManager
 {
-	private final Map<String, Integer> healthMap;
+	/**
+	 * Hashes of npc name and combat level, sorted, and the health of each. Compiled
+	 * from npc_health.json at build time.
+	 */
+	private static class HealthTable
+	{
+		private final long[] keys;
+		private final int[] health;
+
+		HealthTable(long[] keys, int[] health)
+		{
+			this.keys = keys;
+			this.health = health;
+		}
+	}
+
+	private volatile HealthTable healthTable;
 
 	@Inject
 	private NPCManager()
 	{
-		final Gson gson = new Gson();
-		final Type typeToken = new TypeToken<Map<String, Integer>>()
-		{
-		}.getType();
-
-		final InputStream healthFile = getClass().getResourceAsStream("/npc_health.json");
-		healthMap = gson.fromJson(new InputStreamReader(healthFile), typeToken);
 	}
 
 	/**
@@ -60,6 +69,66 @@ public class NPCManager
 	@Nullable
 	public Integer getHealth(final String name, final int combatLevel)
 	{
-		return healthMap.get(name + "_" + combatLevel);
+		if (name == null)
+		{
+			return null;
+		}
+
+		HealthTable table = healthTable;
+		if (table == null)
+		{
+			table = loadHealthTable();
+		}
+
+		final int idx = Arrays.binarySearch(table.keys, hash(name, combatLevel));
+		return idx >= 0 ? table.health[idx] : null;
+	}
+
+	private synchronized HealthTable loadHealthTable()
+	{
+		if (healthTable != null)
+		{
+			return healthTable;
+		}
+
+		final InputStream healthFile = getClass().getResourceAsStream("/npc_health.bin");
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(healthFile)))
+		{
+			final int count = in.readInt();
+			final long[] keys = new long[count];
+			final int[] health = new int[count];
+
+			for (int i = 0; i < count; ++i)
+			{
+				keys[i] = in.readLong();
+			}
+			for (int i = 0; i < count; ++i)
+			{
+				health[i] = in.readInt();
+			}
+
+			return healthTable = new HealthTable(keys, health);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * 64 bit FNV-1a of the name's chars followed by the combat level. This must match
+	 * the hash used by the compile-datasets build step.
+	 */
+	private static long hash(String name, int combatLevel)
+	{
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < name.length(); ++i)
+		{
+			hash ^= name.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= combatLevel;
+		hash *= 0x100000001b3L;
+		return hash;
 	}
 }
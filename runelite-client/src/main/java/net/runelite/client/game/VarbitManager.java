@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.VarPlayer;
+import net.runelite.api.Varbits;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Dispatches varbit and VarPlayer changes to listeners registered for them. Listeners are
+ * indexed by the varp their variable is stored in, so a varp change only costs the
+ * listeners of that varp.
+ */
+@Singleton
+@Slf4j
+public class VarbitManager
+{
+	private static final int[] EMPTY = new int[0];
+
+	private static class Watch
+	{
+		private final int varbitId;
+		private final int varpIndex;
+		private final VarChangeListener listener;
+		private int value;
+
+		Watch(int varbitId, int varpIndex, VarChangeListener listener)
+		{
+			this.varbitId = varbitId;
+			this.varpIndex = varpIndex;
+			this.listener = listener;
+		}
+
+		int read(Client client, int[] varps)
+		{
+			return varbitId == -1 ? varps[varpIndex] : client.getVarbitValue(varps, varbitId);
+		}
+	}
+
+	private final Client client;
+	private final ClientThread clientThread;
+
+	// The following are only accessed from the client thread
+	private final Map<Integer, List<Watch>> watches = new HashMap<>();
+	private int[][] varbitsByVarp;
+
+	@Inject
+	private VarbitManager(Client client, ClientThread clientThread)
+	{
+		this.client = client;
+		this.clientThread = clientThread;
+	}
+
+	/**
+	 * Registers a listener to be called on the client thread when the varbit changes.
+	 * The registration is deferred until the varbit definitions have been loaded.
+	 */
+	public void register(Varbits varbit, VarChangeListener listener)
+	{
+		clientThread.invokeLater(() ->
+		{
+			if (!isCacheLoaded())
+			{
+				return false;
+			}
+
+			final int varbitId = varbit.getId();
+			add(new Watch(varbitId, client.getVarbitVarpIndex(varbitId), listener));
+			return true;
+		});
+	}
+
+	/**
+	 * Registers a listener to be called on the client thread when the VarPlayer changes
+	 */
+	public void register(VarPlayer varPlayer, VarChangeListener listener)
+	{
+		clientThread.invokeLater(() ->
+		{
+			// deferred like varbit registrations, so registrations and unregistrations stay in order
+			if (!isCacheLoaded())
+			{
+				return false;
+			}
+
+			add(new Watch(-1, varPlayer.getId(), listener));
+			return true;
+		});
+	}
+
+	/**
+	 * Unregisters a listener from every variable it was registered for
+	 */
+	public void unregister(VarChangeListener listener)
+	{
+		clientThread.invokeLater(() ->
+		{
+			if (!isCacheLoaded())
+			{
+				return false;
+			}
+
+			for (List<Watch> list : watches.values())
+			{
+				list.removeIf(w -> w.listener == listener);
+			}
+			watches.values().removeIf(List::isEmpty);
+			return true;
+		});
+	}
+
+	/**
+	 * Gets the ids of the varbits which are stored in the given varp. The index is built from
+	 * the varbit definitions the first time it is used, and must be accessed on the client thread.
+	 *
+	 * @param varpIndex varp index
+	 * @return the varbit ids
+	 */
+	public int[] getVarbits(int varpIndex)
+	{
+		assert client.isClientThread();
+
+		if (varbitsByVarp == null)
+		{
+			varbitsByVarp = buildVarbitIndex();
+		}
+
+		return varpIndex >= 0 && varpIndex < varbitsByVarp.length ? varbitsByVarp[varpIndex] : EMPTY;
+	}
+
+	private int[][] buildVarbitIndex()
+	{
+		final int[] varps = client.getVarps();
+		final List<List<Integer>> index = new ArrayList<>(varps.length);
+		for (int i = 0; i < varps.length; ++i)
+		{
+			index.add(new ArrayList<>());
+		}
+
+		int varbitId = 0;
+		try
+		{
+			// There is no varbit count, so read definitions until one doesn't exist
+			for (; ; ++varbitId)
+			{
+				final int varpIndex = client.getVarbitVarpIndex(varbitId);
+				if (varpIndex < varps.length)
+				{
+					index.get(varpIndex).add(varbitId);
+				}
+			}
+		}
+		catch (IndexOutOfBoundsException e)
+		{
+			log.debug("Indexed {} varbits", varbitId);
+		}
+
+		final int[][] varbitsByVarp = new int[varps.length][];
+		for (int i = 0; i < varps.length; ++i)
+		{
+			final List<Integer> varbits = index.get(i);
+			varbitsByVarp[i] = varbits.isEmpty() ? EMPTY : varbits.stream().mapToInt(Integer::intValue).toArray();
+		}
+		return varbitsByVarp;
+	}
+
+	@Subscribe
+	public void onVarbitChanged(VarbitChanged event)
+	{
+		if (watches.isEmpty())
+		{
+			return;
+		}
+
+		final int[] varps = client.getVarps();
+		final int index = event.getIndex();
+
+		if (index != -1)
+		{
+			final List<Watch> list = watches.get(index);
+			if (list != null)
+			{
+				update(list, varps);
+			}
+			return;
+		}
+
+		// It isn't known which varps changed, so check them all
+		for (List<Watch> list : watches.values())
+		{
+			update(list, varps);
+		}
+	}
+
+	private boolean isCacheLoaded()
+	{
+		return client.getGameState().ordinal() >= GameState.LOGIN_SCREEN.ordinal();
+	}
+
+	private void add(Watch watch)
+	{
+		watch.value = watch.read(client, client.getVarps());
+		watches.computeIfAbsent(watch.varpIndex, k -> new ArrayList<>()).add(watch);
+	}
+
+	private void update(List<Watch> list, int[] varps)
+	{
+		// listeners can't modify the list, as registration is deferred with invokeLater
+		for (Watch watch : list)
+		{
+			final int value = watch.read(client, varps);
+			if (value != watch.value)
+			{
+				final int old = watch.value;
+				watch.value = value;
+				try
+				{
+					watch.listener.varChanged(old, value);
+				}
+				catch (RuntimeException ex)
+				{
+					log.warn("Uncaught exception in var listener", ex);
+				}
+			}
+		}
+	}
+}
@@ -40,6 +40,7 @@ import net.runelite.api.widgets.JavaScriptCallback;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.ScriptCallbackManager;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.input.KeyListener;
@@ -67,7 +68,7 @@ public class ChatboxPanelManager
 
 	@Inject
 	private ChatboxPanelManager(EventBus eventBus, Client client, ClientThread clientThread,
-		KeyManager keyManager, MouseManager mouseManager,
+		ScriptCallbackManager scriptCallbackManager, KeyManager keyManager, MouseManager mouseManager,
 		Provider<ChatboxTextMenuInput> chatboxTextMenuInputProvider, Provider<ChatboxTextInput> chatboxTextInputProvider)
 	{
 		this.client = client;
@@ -79,6 +80,8 @@ public class ChatboxPanelManager
 
 		this.chatboxTextMenuInputProvider = chatboxTextMenuInputProvider;
 		this.chatboxTextInputProvider = chatboxTextInputProvider;
+
+		scriptCallbackManager.register(this, "resetChatboxInput", this::onResetChatboxInput);
 	}
 
 	public void close()
@@ -141,10 +144,9 @@ public class ChatboxPanelManager
 			.prompt(prompt);
 	}
 
-	@Subscribe
-	public void onScriptCallbackEvent(ScriptCallbackEvent ev)
+	private void onResetChatboxInput(ScriptCallbackEvent ev)
 	{
-		if (currentInput != null && "resetChatboxInput".equals(ev.getEventName()))
+		if (currentInput != null)
 		{
 			killCurrentPanel();
 		}
@@ -57,6 +57,7 @@ import net.runelite.api.events.GroundObjectDespawned;
 import net.runelite.api.events.GroundObjectSpawned;
 import net.runelite.api.events.ItemDespawned;
 import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.SceneObjectsLoaded;
 import net.runelite.api.events.WallObjectChanged;
 import net.runelite.api.events.WallObjectDespawned;
 import net.runelite.api.events.WallObjectSpawned;
@@ -208,23 +209,50 @@ public class AgilityPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
+	// the whole scene is added by onSceneObjectsLoaded
+	@Subscribe(skipSceneLoad = true)
 	public void onItemSpawned(ItemSpawned itemSpawned)
+	{
+		onItem(itemSpawned.getTile(), itemSpawned.getItem());
+	}
+
+	private void onItem(Tile tile, Item item)
 	{
 		if (obstacles.isEmpty())
 		{
 			return;
 		}
 
-		final Item item = itemSpawned.getItem();
-		final Tile tile = itemSpawned.getTile();
-
 		if (item.getId() == ItemID.MARK_OF_GRACE)
 		{
 			marksOfGrace.add(tile);
 		}
 	}
 
+	@Subscribe
+	public void onSceneObjectsLoaded(SceneObjectsLoaded event)
+	{
+		onTileObjects(event.getGameObjectTiles(), event.getGameObjects());
+		onTileObjects(event.getGroundObjectTiles(), event.getGroundObjects());
+		onTileObjects(event.getWallObjectTiles(), event.getWallObjects());
+		onTileObjects(event.getDecorativeObjectTiles(), event.getDecorativeObjects());
+
+		final Tile[] itemTiles = event.getItemTiles();
+		final Item[] items = event.getItems();
+		for (int i = 0; i < items.length; ++i)
+		{
+			onItem(itemTiles[i], items[i]);
+		}
+	}
+
+	private void onTileObjects(Tile[] tiles, TileObject[] objects)
+	{
+		for (int i = 0; i < objects.length; ++i)
+		{
+			onTileObject(tiles[i], null, objects[i]);
+		}
+	}
+
 	@Subscribe
 	public void onItemDespawned(ItemDespawned itemDespawned)
 	{
@@ -284,7 +312,7 @@ public class AgilityPlugin extends Plugin
 		infoBoxManager.addInfoBox(new AgilityArenaTimer(this, itemManager.getImage(AGILITY_ARENA_TICKET)));
 	}
 
-	@Subscribe
+	@Subscribe(skipSceneLoad = true)
 	public void onGameObjectSpawned(GameObjectSpawned event)
 	{
 		onTileObject(event.getTile(), null, event.getGameObject());
@@ -302,7 +330,7 @@ public class AgilityPlugin extends Plugin
 		onTileObject(event.getTile(), event.getGameObject(), null);
 	}
 
-	@Subscribe
+	@Subscribe(skipSceneLoad = true)
 	public void onGroundObjectSpawned(GroundObjectSpawned event)
 	{
 		onTileObject(event.getTile(), null, event.getGroundObject());
@@ -320,7 +348,7 @@ public class AgilityPlugin extends Plugin
 		onTileObject(event.getTile(), event.getGroundObject(), null);
 	}
 
-	@Subscribe
+	@Subscribe(skipSceneLoad = true)
 	public void onWallObjectSpawned(WallObjectSpawned event)
 	{
 		onTileObject(event.getTile(), null, event.getWallObject());
@@ -338,7 +366,7 @@ public class AgilityPlugin extends Plugin
 		onTileObject(event.getTile(), event.getWallObject(), null);
 	}
 
-	@Subscribe
+	@Subscribe(skipSceneLoad = true)
 	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
 	{
 		onTileObject(event.getTile(), null, event.getDecorativeObject());
@@ -59,6 +59,7 @@ import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetID;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.ScriptCallbackManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.ItemManager;
@@ -107,6 +108,9 @@ public class BankTagsPlugin extends Plugin implements MouseWheelListener, KeyLis
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private ScriptCallbackManager scriptCallbackManager;
+
 	@Inject
 	private ChatboxPanelManager chatboxPanelManager;
 
@@ -141,6 +145,11 @@ public class BankTagsPlugin extends Plugin implements MouseWheelListener, KeyLis
 	{
 		keyManager.registerKeyListener(this);
 		mouseManager.registerMouseWheelListener(this);
+		scriptCallbackManager.register(this, "bankTagsActive", this::onBankTagsActive);
+		scriptCallbackManager.register(this, "setSearchBankInputText", this::onSetSearchBankInputText);
+		scriptCallbackManager.register(this, "setSearchBankInputTextFound", this::onSetSearchBankInputTextFound);
+		scriptCallbackManager.register(this, "bankSearchFilter", this::onBankSearchFilter);
+		scriptCallbackManager.register(this, "getSearchingTagTab", this::onGetSearchingTagTab);
 		clientThread.invokeLater(tabInterface::init);
 		client.getSpriteOverrides().putAll(TabSprites.toMap(client));
 	}
@@ -150,6 +159,7 @@ public class BankTagsPlugin extends Plugin implements MouseWheelListener, KeyLis
 	{
 		keyManager.unregisterKeyListener(this);
 		mouseManager.unregisterMouseWheelListener(this);
+		scriptCallbackManager.unregister(this);
 		clientThread.invokeLater(tabInterface::destroy);
 
 		for (TabSprites value : TabSprites.values())
@@ -160,56 +170,54 @@ public class BankTagsPlugin extends Plugin implements MouseWheelListener, KeyLis
 		shiftPressed = false;
 	}
 
-	@Subscribe
-	public void onScriptCallbackEvent(ScriptCallbackEvent event)
+	private void onBankTagsActive(ScriptCallbackEvent event)
 	{
-		String eventName = event.getEventName();
+		// tell the script the bank tag plugin is active
+		client.getIntStack()[client.getIntStackSize() - 1] = 1;
+	}
 
+	private void onSetSearchBankInputText(ScriptCallbackEvent event)
+	{
+		client.getStringStack()[client.getStringStackSize() - 1] = SEARCH_BANK_INPUT_TEXT;
+	}
+
+	private void onSetSearchBankInputTextFound(ScriptCallbackEvent event)
+	{
+		int matches = client.getIntStack()[client.getIntStackSize() - 1];
+		client.getStringStack()[client.getStringStackSize() - 1] = String.format(SEARCH_BANK_INPUT_TEXT_FOUND, matches);
+	}
+
+	private void onBankSearchFilter(ScriptCallbackEvent event)
+	{
 		int[] intStack = client.getIntStack();
 		String[] stringStack = client.getStringStack();
 		int intStackSize = client.getIntStackSize();
 		int stringStackSize = client.getStringStackSize();
 
-		switch (eventName)
+		int itemId = intStack[intStackSize - 1];
+		String itemName = stringStack[stringStackSize - 2];
+		String search = stringStack[stringStackSize - 1];
+
+		boolean tagSearch = search.startsWith(TAG_SEARCH);
+		if (tagSearch)
 		{
-			case "bankTagsActive":
-				// tell the script the bank tag plugin is active
-				intStack[intStackSize - 1] = 1;
-				break;
-			case "setSearchBankInputText":
-				stringStack[stringStackSize - 1] = SEARCH_BANK_INPUT_TEXT;
-				break;
-			case "setSearchBankInputTextFound":
-			{
-				int matches = intStack[intStackSize - 1];
-				stringStack[stringStackSize - 1] = String.format(SEARCH_BANK_INPUT_TEXT_FOUND, matches);
-				break;
-			}
-			case "bankSearchFilter":
-				int itemId = intStack[intStackSize - 1];
-				String itemName = stringStack[stringStackSize - 2];
-				String search = stringStack[stringStackSize - 1];
-
-				boolean tagSearch = search.startsWith(TAG_SEARCH);
-				if (tagSearch)
-				{
-					search = search.substring(TAG_SEARCH.length()).trim();
-				}
-
-				if (tagManager.findTag(itemId, search))
-				{
-					// return true
-					intStack[intStackSize - 2] = 1;
-				}
-				else if (!tagSearch)
-				{
-					intStack[intStackSize - 2] = itemName.contains(search) ? 1 : 0;
-				}
-				break;
-			case "getSearchingTagTab":
-				intStack[intStackSize - 1] = tabInterface.isActive() ? 1 : 0;
-				break;
+			search = search.substring(TAG_SEARCH.length()).trim();
+		}
+
+		if (tagManager.findTag(itemId, search))
+		{
+			// return true
+			intStack[intStackSize - 2] = 1;
 		}
+		else if (!tagSearch)
+		{
+			intStack[intStackSize - 2] = itemName.contains(search) ? 1 : 0;
+		}
+	}
+
+	private void onGetSearchingTagTab(ScriptCallbackEvent event)
+	{
+		client.getIntStack()[client.getIntStackSize() - 1] = tabInterface.isActive() ? 1 : 0;
 	}
 
 	@Subscribe
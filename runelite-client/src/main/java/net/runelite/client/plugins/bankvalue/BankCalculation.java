@@ -166,6 +166,10 @@ class BankCalculation
 		// Now do the calculations
 		if (config.showGE() && !itemIds.isEmpty())
 		{
+			final int[] ids = new int[items.length];
+			final int[] quantities = new int[items.length];
+			int count = 0;
+
 			for (Item item : items)
 			{
 				int itemId = item.getId();
@@ -177,8 +181,12 @@ class BankCalculation
 					continue;
 				}
 
-				gePrice += (long) itemManager.getItemPrice(itemId) * quantity;
+				ids[count] = itemId;
+				quantities[count] = quantity;
+				count++;
 			}
+
+			gePrice += itemManager.getItemPrices(Arrays.copyOf(ids, count), Arrays.copyOf(quantities, count));
 		}
 	}
 
@@ -30,8 +30,8 @@ import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.events.ScriptCallbackEvent;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.ScriptCallbackManager;
 import net.runelite.client.config.ConfigManager;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.banktags.tabs.BankSearch;
@@ -50,6 +50,9 @@ public class BankValuePlugin extends Plugin
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private ScriptCallbackManager scriptCallbackManager;
+
 	@Inject
 	private BankCalculation bankCalculation;
 
@@ -65,20 +68,21 @@ public class BankValuePlugin extends Plugin
 		return configManager.getConfig(BankValueConfig.class);
 	}
 
+	@Override
+	protected void startUp()
+	{
+		scriptCallbackManager.register(this, "setBankTitle", this::onSetBankTitle);
+	}
+
 	@Override
 	protected void shutDown()
 	{
+		scriptCallbackManager.unregister(this);
 		clientThread.invokeLater(() -> bankSearch.reset(false));
 	}
 
-	@Subscribe
-	public void onScriptCallbackEvent(ScriptCallbackEvent event)
+	private void onSetBankTitle(ScriptCallbackEvent event)
 	{
-		if (!event.getEventName().equals("setBankTitle"))
-		{
-			return;
-		}
-
 		String strCurrentTab = "";
 		bankCalculation.calculate();
 		long gePrice = bankCalculation.getGePrice();
@@ -208,14 +208,17 @@ public class BarrowsPlugin extends Plugin
 		{
 			ItemContainer barrowsRewardContainer = client.getItemContainer(InventoryID.BARROWS_REWARD);
 			Item[] items = barrowsRewardContainer.getItems();
-			long chestPrice = 0;
+			int[] itemIds = new int[items.length];
+			int[] quantities = new int[items.length];
 
-			for (Item item : items)
+			for (int i = 0; i < items.length; ++i)
 			{
-				long itemStack = (long) itemManager.getItemPrice(item.getId()) * (long) item.getQuantity();
-				chestPrice += itemStack;
+				itemIds[i] = items[i].getId();
+				quantities[i] = items[i].getQuantity();
 			}
 
+			long chestPrice = itemManager.getItemPrices(itemIds, quantities);
+
 			final ChatMessageBuilder message = new ChatMessageBuilder()
 				.append(ChatColorType.HIGHLIGHT)
 				.append("Your chest is worth around ")
@@ -39,15 +39,18 @@ class DevToolsPanel extends PluginPanel
 
 	private final WidgetInspector widgetInspector;
 	private final VarInspector varInspector;
+	private final ScriptProfilerWindow scriptProfilerWindow;
 
 	@Inject
-	private DevToolsPanel(Client client, DevToolsPlugin plugin, WidgetInspector widgetInspector, VarInspector varInspector)
+	private DevToolsPanel(Client client, DevToolsPlugin plugin, WidgetInspector widgetInspector, VarInspector varInspector,
+		ScriptProfilerWindow scriptProfilerWindow)
 	{
 		super();
 		this.client = client;
 		this.plugin = plugin;
 		this.widgetInspector = widgetInspector;
 		this.varInspector = varInspector;
+		this.scriptProfilerWindow = scriptProfilerWindow;
 
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
 
@@ -119,6 +122,19 @@ class DevToolsPanel extends PluginPanel
 			}
 		});
 
+		container.add(plugin.getScriptProfiler());
+		plugin.getScriptProfiler().addActionListener((ev) ->
+		{
+			if (plugin.getScriptProfiler().isActive())
+			{
+				scriptProfilerWindow.close();
+			}
+			else
+			{
+				scriptProfilerWindow.open();
+			}
+		});
+
 		return container;
 	}
 }
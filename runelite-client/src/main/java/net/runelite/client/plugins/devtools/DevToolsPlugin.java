@@ -124,6 +124,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton detachedCamera;
 	private DevToolsButton widgetInspector;
 	private DevToolsButton varInspector;
+	private DevToolsButton scriptProfiler;
 	private NavigationButton navButton;
 
 	@Provides
@@ -164,6 +165,7 @@ public class DevToolsPlugin extends Plugin
 		detachedCamera = new DevToolsButton("Detached Camera");
 		widgetInspector = new DevToolsButton("Widget Inspector");
 		varInspector = new DevToolsButton("Var Inspector");
+		scriptProfiler = new DevToolsButton("Script Profiler");
 
 		overlayManager.add(overlay);
 		overlayManager.add(locationOverlay);
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.Value;
+import net.runelite.api.hooks.ScriptProfiler;
+
+/**
+ * Script execution stats, indexed by script id. Only the client thread writes to the
+ * profile, so the counters are updated with plain lazy sets, and can be read from
+ * any thread without locking.
+ */
+class ScriptProfile implements ScriptProfiler
+{
+	// Slot 0 is for JavaScriptCallbacks, scripts are stored at their id + 1
+	private static final int SLOTS = (1 << 16) + 1;
+
+	/**
+	 * Bucket 0 is for executions under 1us, bucket n covers [2^(n-1), 2^n) us
+	 */
+	private static final int HISTOGRAM_BUCKETS = 24;
+
+	@Value
+	static class Entry
+	{
+		private final int scriptId;
+		private final long count;
+		private final long totalNanos;
+		private final long maxNanos;
+		private final long instructions;
+	}
+
+	private final AtomicLongArray counts = new AtomicLongArray(SLOTS);
+	private final AtomicLongArray totalNanos = new AtomicLongArray(SLOTS);
+	private final AtomicLongArray maxNanos = new AtomicLongArray(SLOTS);
+	private final AtomicLongArray instructions = new AtomicLongArray(SLOTS);
+	private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+	@Override
+	public void scriptExecuted(int scriptId, long nanos, int instructionCount)
+	{
+		final int slot = scriptId + 1;
+		if (slot < 0 || slot >= SLOTS)
+		{
+			return;
+		}
+
+		counts.lazySet(slot, counts.get(slot) + 1);
+		totalNanos.lazySet(slot, totalNanos.get(slot) + nanos);
+		instructions.lazySet(slot, instructions.get(slot) + instructionCount);
+		if (nanos > maxNanos.get(slot))
+		{
+			maxNanos.lazySet(slot, nanos);
+		}
+
+		final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+		final int bucket = Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+		histogram.lazySet(bucket, histogram.get(bucket) + 1);
+	}
+
+	/**
+	 * Gets the stats of every script which has executed
+	 */
+	List<Entry> getEntries()
+	{
+		final List<Entry> entries = new ArrayList<>();
+		for (int slot = 0; slot < SLOTS; ++slot)
+		{
+			final long count = counts.get(slot);
+			if (count > 0)
+			{
+				entries.add(new Entry(slot - 1, count, totalNanos.get(slot), maxNanos.get(slot), instructions.get(slot)));
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Writes the stats, sorted by total time, and the execution time histogram
+	 */
+	void dump(PrintWriter out)
+	{
+		final List<Entry> entries = getEntries();
+		entries.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+
+		out.printf("%8s %10s %12s %10s %10s %14s%n", "script", "count", "total ms", "avg us", "max ms", "instructions");
+		for (Entry entry : entries)
+		{
+			out.printf("%8d %10d %12.3f %10.1f %10.3f %14d%n",
+				entry.getScriptId(),
+				entry.getCount(),
+				entry.getTotalNanos() / 1e6,
+				entry.getTotalNanos() / 1e3 / entry.getCount(),
+				entry.getMaxNanos() / 1e6,
+				entry.getInstructions());
+		}
+
+		out.println();
+		out.printf("%16s %10s%n", "duration", "count");
+		for (int bucket = 0; bucket < HISTOGRAM_BUCKETS; ++bucket)
+		{
+			final long count = histogram.get(bucket);
+			if (count == 0)
+			{
+				continue;
+			}
+
+			final String range = bucket == 0 ? "< 1us" : bucket == HISTOGRAM_BUCKETS - 1
+				? ">= " + (1L << (bucket - 1)) + "us"
+				: (1L << (bucket - 1)) + "-" + (1L << bucket) + "us";
+			out.printf("%16s %10d%n", range, count);
+		}
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import javax.inject.Inject;
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.hooks.ScriptProfiler;
+import net.runelite.client.RuneLite;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.ui.ClientUI;
+
+@Slf4j
+class ScriptProfilerWindow extends JFrame
+{
+	private static final int REFRESH_INTERVAL = 1000;
+
+	private final Client client;
+	private final ClientThread clientThread;
+
+	private final ScriptTableModel tableModel = new ScriptTableModel();
+	private final Timer refreshTimer = new Timer(REFRESH_INTERVAL, e -> refresh());
+
+	private ScriptProfile profile;
+
+	@Inject
+	ScriptProfilerWindow(Client client, ClientThread clientThread, DevToolsPlugin plugin)
+	{
+		this.client = client;
+		this.clientThread = clientThread;
+
+		setTitle("RuneLite Script Profiler");
+		setIconImage(ClientUI.ICON);
+
+		setLayout(new BorderLayout());
+
+		setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+		addWindowListener(new WindowAdapter()
+		{
+			@Override
+			public void windowClosing(WindowEvent e)
+			{
+				close();
+				plugin.getScriptProfiler().setActive(false);
+			}
+		});
+
+		final JTable table = new JTable(tableModel);
+		table.setAutoCreateRowSorter(true);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(600, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JPanel bottomPanel = new JPanel();
+		add(bottomPanel, BorderLayout.SOUTH);
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e -> reset());
+		bottomPanel.add(resetBtn);
+
+		final JButton dumpBtn = new JButton("Dump");
+		dumpBtn.addActionListener(e -> dump());
+		bottomPanel.add(dumpBtn);
+
+		pack();
+	}
+
+	public void open()
+	{
+		reset();
+		refreshTimer.start();
+		setVisible(true);
+		toFront();
+		repaint();
+	}
+
+	public void close()
+	{
+		refreshTimer.stop();
+		setProfiler(null);
+		profile = null;
+		setVisible(false);
+	}
+
+	private void reset()
+	{
+		profile = new ScriptProfile();
+		setProfiler(profile);
+		refresh();
+	}
+
+	private void setProfiler(ScriptProfiler profiler)
+	{
+		clientThread.invokeLater(() -> client.setScriptProfiler(profiler));
+	}
+
+	private void refresh()
+	{
+		tableModel.setEntries(profile == null ? Collections.emptyList() : profile.getEntries());
+	}
+
+	private void dump()
+	{
+		if (profile == null)
+		{
+			return;
+		}
+
+		final File file = new File(RuneLite.RUNELITE_DIR, "script-profile-" + System.currentTimeMillis() + ".txt");
+		try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)))
+		{
+			profile.dump(out);
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write script profile", ex);
+			JOptionPane.showMessageDialog(this, "Unable to write script profile: " + ex.getMessage());
+			return;
+		}
+
+		JOptionPane.showMessageDialog(this, "Script profile written to " + file.getAbsolutePath());
+	}
+
+	private static class ScriptTableModel extends AbstractTableModel
+	{
+		private static final String[] COLUMNS = {"Script", "Count", "Total (ms)", "Avg (us)", "Max (ms)", "Instructions"};
+		private static final Class<?>[] COLUMN_CLASSES = {Integer.class, Long.class, Double.class, Double.class, Double.class, Long.class};
+
+		private List<ScriptProfile.Entry> entries = Collections.emptyList();
+
+		void setEntries(List<ScriptProfile.Entry> entries)
+		{
+			this.entries = entries;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return entries.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			return COLUMN_CLASSES[col];
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			final ScriptProfile.Entry entry = entries.get(row);
+			switch (col)
+			{
+				case 0:
+					return entry.getScriptId();
+				case 1:
+					return entry.getCount();
+				case 2:
+					return entry.getTotalNanos() / 1e6;
+				case 3:
+					return entry.getTotalNanos() / 1e3 / entry.getCount();
+				case 4:
+					return entry.getMaxNanos() / 1e6;
+				case 5:
+					return entry.getInstructions();
+				default:
+					return null;
+			}
+		}
+	}
+}
@@ -55,6 +55,7 @@ import net.runelite.api.events.VarClientStrChanged;
 import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.game.VarbitManager;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.DynamicGridLayout;
@@ -86,6 +87,7 @@ class VarInspector extends JFrame
 	private final Client client;
 	private final DevToolsPlugin plugin;
 	private final EventBus eventBus;
+	private final VarbitManager varbitManager;
 
 	private final JPanel tracker = new JPanel();
 
@@ -99,11 +101,12 @@ class VarInspector extends JFrame
 	private String[] oldStrVarcs = null;
 
 	@Inject
-	VarInspector(Client client, EventBus eventBus, DevToolsPlugin plugin)
+	VarInspector(Client client, EventBus eventBus, DevToolsPlugin plugin, VarbitManager varbitManager)
 	{
 		this.eventBus = eventBus;
 		this.client = client;
 		this.plugin = plugin;
+		this.varbitManager = varbitManager;
 
 		setTitle("RuneLite Var Inspector");
 		setIconImage(ClientUI.ICON);
@@ -215,32 +218,29 @@ class VarInspector extends JFrame
 	public void onVarbitChanged(VarbitChanged ev)
 	{
 		int[] varps = client.getVarps();
+		int index = ev.getIndex();
+
+		if (index != -1)
+		{
+			// Only the varbits stored in the changed varp need to be checked
+			for (int varbitId : varbitManager.getVarbits(index))
+			{
+				checkVarbit(varps, varbitId);
+			}
+
+			checkVarp(varps, index);
+
+			oldVarps[index] = varps[index];
+			oldVarps2[index] = varps[index];
+			return;
+		}
 
 		// Check varbits
 		for (int i = 0; i < numVarbits; i++)
 		{
 			try
 			{
-				int old = client.getVarbitValue(oldVarps, i);
-				int neew = client.getVarbitValue(varps, i);
-				if (old != neew)
-				{
-					// Set the varbit so it doesn't show in the varp changes
-					// However, some varbits share common bits, so we only do it in oldVarps2
-					// Example: 4101 collides with 4104-4129
-					client.setVarbitValue(oldVarps2, i, neew);
-
-					String name = String.format("%d", i);
-					for (Varbits varbit : Varbits.values())
-					{
-						if (varbit.getId() == i)
-						{
-							name = String.format("%s(%d)", varbit.name(), i);
-							break;
-						}
-					}
-					addVarLog(VarType.VARBIT, name, old, neew);
-				}
+				checkVarbit(varps, i);
 			}
 			catch (IndexOutOfBoundsException e)
 			{
@@ -254,25 +254,54 @@ class VarInspector extends JFrame
 		// Check varps
 		for (int i = 0; i < varps.length; i++)
 		{
-			int old = oldVarps2[i];
-			int neew = varps[i];
-			if (old != neew)
+			checkVarp(varps, i);
+		}
+
+		System.arraycopy(client.getVarps(), 0, oldVarps, 0, oldVarps.length);
+		System.arraycopy(client.getVarps(), 0, oldVarps2, 0, oldVarps2.length);
+	}
+
+	private void checkVarbit(int[] varps, int varbitId)
+	{
+		int old = client.getVarbitValue(oldVarps, varbitId);
+		int neew = client.getVarbitValue(varps, varbitId);
+		if (old != neew)
+		{
+			// Set the varbit so it doesn't show in the varp changes
+			// However, some varbits share common bits, so we only do it in oldVarps2
+			// Example: 4101 collides with 4104-4129
+			client.setVarbitValue(oldVarps2, varbitId, neew);
+
+			String name = String.format("%d", varbitId);
+			for (Varbits varbit : Varbits.values())
 			{
-				String name = String.format("%d", i);
-				for (VarPlayer varp : VarPlayer.values())
+				if (varbit.getId() == varbitId)
 				{
-					if (varp.getId() == i)
-					{
-						name = String.format("%s(%d)", varp.name(), i);
-						break;
-					}
+					name = String.format("%s(%d)", varbit.name(), varbitId);
+					break;
 				}
-				addVarLog(VarType.VARP, name, old, neew);
 			}
+			addVarLog(VarType.VARBIT, name, old, neew);
 		}
+	}
 
-		System.arraycopy(client.getVarps(), 0, oldVarps, 0, oldVarps.length);
-		System.arraycopy(client.getVarps(), 0, oldVarps2, 0, oldVarps2.length);
+	private void checkVarp(int[] varps, int varpIndex)
+	{
+		int old = oldVarps2[varpIndex];
+		int neew = varps[varpIndex];
+		if (old != neew)
+		{
+			String name = String.format("%d", varpIndex);
+			for (VarPlayer varp : VarPlayer.values())
+			{
+				if (varp.getId() == varpIndex)
+				{
+					name = String.format("%s(%d)", varp.name(), varpIndex);
+					break;
+				}
+			}
+			addVarLog(VarType.VARP, name, old, neew);
+		}
 	}
 
 	@Subscribe
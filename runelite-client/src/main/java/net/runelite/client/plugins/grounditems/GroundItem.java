@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins.grounditems;
 
+import java.awt.Color;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Value;
@@ -41,10 +42,18 @@ class GroundItem
 	private int height;
 	private int haPrice;
 	private int gePrice;
-	private int offset;
 	private boolean tradeable;
 	private boolean isMine;
 
+	/**
+	 * Display state, kept up to date by {@link GroundItemsPlugin} as the
+	 * item and config change so it isn't recomputed every frame
+	 */
+	private Color highlighted;
+	private Color hidden;
+	private Color color;
+	private String text;
+
 	int getHaPrice()
 	{
 		return haPrice * quantity;
@@ -32,9 +32,7 @@ import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Rectangle;
 import java.util.AbstractMap.SimpleEntry;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -44,24 +42,22 @@ import net.runelite.api.Point;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import static net.runelite.client.plugins.grounditems.config.ItemHighlightMode.MENU;
-import net.runelite.client.plugins.grounditems.config.PriceDisplayMode;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayUtil;
 import net.runelite.client.ui.overlay.components.BackgroundComponent;
 import net.runelite.client.ui.overlay.components.TextComponent;
-import net.runelite.client.util.StackFormatter;
 
 public class GroundItemsOverlay extends Overlay
 {
 	private static final int MAX_DISTANCE = 2500;
+	// Tiles on each side of the player which can be within MAX_DISTANCE
+	private static final int MAX_TILE_DISTANCE = MAX_DISTANCE / Perspective.LOCAL_TILE_SIZE;
+	private static final int TILE_WINDOW_SIZE = (2 * MAX_TILE_DISTANCE + 1) * (2 * MAX_TILE_DISTANCE + 1);
 	// We must offset the text on the z-axis such that
 	// it doesn't obscure the ground items below it.
 	private static final int OFFSET_Z = 20;
-	// The game won't send anything higher than this value to the plugin -
-	// so we replace any item quantity higher with "Lots" instead.
-	private static final int MAX_QUANTITY = 65535;
 	// The 15 pixel gap between each drawn ground item.
 	private static final int STRING_GAP = 15;
 	// Size of the hidden/highlight boxes
@@ -70,10 +66,13 @@ public class GroundItemsOverlay extends Overlay
 	private final Client client;
 	private final GroundItemsPlugin plugin;
 	private final GroundItemsConfig config;
-	private final StringBuilder itemStringBuilder = new StringBuilder();
 	private final BackgroundComponent backgroundComponent = new BackgroundComponent();
 	private final TextComponent textComponent = new TextComponent();
-	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
+
+	// The item under the mouse, which is drawn after every other item
+	private GroundItem topGroundItem;
+	private LocalPoint topGroundPoint;
+	private int topOffset;
 
 	@Inject
 	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config)
@@ -95,7 +94,6 @@ public class GroundItemsOverlay extends Overlay
 			return null;
 		}
 
-		final FontMetrics fm = graphics.getFontMetrics();
 		final Player player = client.getLocalPlayer();
 
 		if (player == null || client.getViewportWidget() == null)
@@ -103,58 +101,26 @@ public class GroundItemsOverlay extends Overlay
 			return null;
 		}
 
-		offsetMap.clear();
 		final LocalPoint localLocation = player.getLocalLocation();
 		final Point mousePos = client.getMouseCanvasPosition();
-		Collection<GroundItem> groundItemList = plugin.getCollectedGroundItems().values();
-		GroundItem topGroundItem = null;
+		topGroundItem = null;
+		topGroundPoint = null;
+		topOffset = 0;
 
 		if (plugin.isHotKeyPressed())
 		{
-			// Make copy of ground items because we are going to modify them here, and the array list supports our
-			// desired behaviour here
-			groundItemList = new ArrayList<>(groundItemList);
+			// The item under the mouse last frame is drawn last so it is on top
 			final java.awt.Point awtMousePos = new java.awt.Point(mousePos.getX(), mousePos.getY());
-			GroundItem groundItem = null;
+			topGroundItem = getItemUnderMouse(plugin.getTextBoxBounds(), awtMousePos);
 
-			for (GroundItem item : groundItemList)
+			if (topGroundItem == null)
 			{
-				item.setOffset(offsetMap.compute(item.getLocation(), (k, v) -> v != null ? v + 1 : 0));
-
-				if (groundItem != null)
-				{
-					continue;
-				}
-
-				if (plugin.getTextBoxBounds() != null
-					&& item.equals(plugin.getTextBoxBounds().getValue())
-					&& plugin.getTextBoxBounds().getKey().contains(awtMousePos))
-				{
-					groundItem = item;
-					continue;
-				}
-
-				if (plugin.getHiddenBoxBounds() != null
-					&& item.equals(plugin.getHiddenBoxBounds().getValue())
-					&& plugin.getHiddenBoxBounds().getKey().contains(awtMousePos))
-				{
-					groundItem = item;
-					continue;
-				}
-
-				if (plugin.getHighlightBoxBounds() != null
-					&& item.equals(plugin.getHighlightBoxBounds().getValue())
-					&& plugin.getHighlightBoxBounds().getKey().contains(awtMousePos))
-				{
-					groundItem = item;
-				}
+				topGroundItem = getItemUnderMouse(plugin.getHiddenBoxBounds(), awtMousePos);
 			}
 
-			if (groundItem != null)
+			if (topGroundItem == null)
 			{
-				groundItemList.remove(groundItem);
-				groundItemList.add(groundItem);
-				topGroundItem = groundItem;
+				topGroundItem = getItemUnderMouse(plugin.getHighlightBoxBounds(), awtMousePos);
 			}
 		}
 
@@ -162,184 +128,206 @@ public class GroundItemsOverlay extends Overlay
 		plugin.setHiddenBoxBounds(null);
 		plugin.setHighlightBoxBounds(null);
 
+		final FontMetrics fm = graphics.getFontMetrics();
 		final boolean onlyShowLoot = config.onlyShowLoot();
+		final Map<WorldPoint, List<GroundItem>> groundItemTiles = plugin.getGroundItemTiles();
 
-		for (GroundItem item : groundItemList)
+		if (groundItemTiles.size() < TILE_WINDOW_SIZE)
 		{
-			final LocalPoint groundPoint = LocalPoint.fromWorld(client, item.getLocation());
-
-			if (groundPoint == null || localLocation.distanceTo(groundPoint) > MAX_DISTANCE
-				|| (onlyShowLoot && !item.isMine()))
+			// Fewer tiles have items than are in draw distance, so visiting them is cheaper than the lookups
+			for (Map.Entry<WorldPoint, List<GroundItem>> entry : groundItemTiles.entrySet())
 			{
-				continue;
+				renderTile(graphics, fm, localLocation, entry.getKey(), entry.getValue(), onlyShowLoot, dontShowOverlay, mousePos);
 			}
+		}
+		else
+		{
+			final WorldPoint playerLocation = player.getWorldLocation();
 
-			final Color highlighted = plugin.getHighlighted(item.getName(), item.getGePrice(), item.getHaPrice());
-			final Color hidden = plugin.getHidden(item.getName(), item.getGePrice(), item.getHaPrice(), item.isTradeable());
-
-			if (highlighted == null && !plugin.isHotKeyPressed())
+			for (int dx = -MAX_TILE_DISTANCE; dx <= MAX_TILE_DISTANCE; ++dx)
 			{
-				// Do not display hidden items
-				if (hidden != null)
+				for (int dy = -MAX_TILE_DISTANCE; dy <= MAX_TILE_DISTANCE; ++dy)
 				{
-					continue;
-				}
+					final WorldPoint tile = new WorldPoint(playerLocation.getX() + dx, playerLocation.getY() + dy, playerLocation.getPlane());
+					final List<GroundItem> tileItems = groundItemTiles.get(tile);
 
-				// Do not display non-highlighted items
-				if (config.showHighlightedOnly())
-				{
-					continue;
+					if (tileItems != null)
+					{
+						renderTile(graphics, fm, localLocation, tile, tileItems, onlyShowLoot, dontShowOverlay, mousePos);
+					}
 				}
 			}
+		}
 
-			final Color color = plugin.getItemColor(highlighted, hidden);
+		if (topGroundPoint != null)
+		{
+			renderItem(graphics, fm, topGroundItem, topGroundPoint, topOffset, onlyShowLoot, dontShowOverlay, mousePos, true);
+		}
 
-			if (config.highlightTiles())
-			{
-				final Polygon poly = Perspective.getCanvasTilePoly(client, groundPoint);
+		return null;
+	}
 
-				if (poly != null)
-				{
-					OverlayUtil.renderPolygon(graphics, poly, color);
-				}
-			}
+	private void renderTile(Graphics2D graphics, FontMetrics fm, LocalPoint localLocation, WorldPoint tile, List<GroundItem> tileItems,
+		boolean onlyShowLoot, boolean dontShowOverlay, Point mousePos)
+	{
+		final LocalPoint groundPoint = LocalPoint.fromWorld(client, tile);
+
+		if (groundPoint == null || localLocation.distanceTo(groundPoint) > MAX_DISTANCE)
+		{
+			return;
+		}
 
-			if (dontShowOverlay)
+		int offset = 0;
+
+		for (int i = 0; i < tileItems.size(); ++i)
+		{
+			final GroundItem item = tileItems.get(i);
+
+			if (item == topGroundItem)
 			{
+				topGroundPoint = groundPoint;
+				topOffset = i;
 				continue;
 			}
 
-			itemStringBuilder.append(item.getName());
-
-			if (item.getQuantity() > 1)
+			// When the hotkey is pressed every item keeps its stack position,
+			// otherwise only the displayed items are stacked
+			if (renderItem(graphics, fm, item, groundPoint, plugin.isHotKeyPressed() ? i : offset,
+				onlyShowLoot, dontShowOverlay, mousePos, false))
 			{
-				if (item.getQuantity() >= MAX_QUANTITY)
-				{
-					itemStringBuilder.append(" (Lots!)");
-				}
-				else
-				{
-					itemStringBuilder.append(" (")
-						.append(StackFormatter.quantityToStackSize(item.getQuantity()))
-						.append(")");
-				}
+				offset++;
 			}
+		}
+	}
 
-			if (config.priceDisplayMode() == PriceDisplayMode.BOTH)
-			{
-				if (item.getGePrice() > 0)
-				{
-					itemStringBuilder.append(" (EX: ")
-						.append(StackFormatter.quantityToStackSize(item.getGePrice()))
-						.append(" gp)");
-				}
+	private static GroundItem getItemUnderMouse(Map.Entry<Rectangle, GroundItem> bounds, java.awt.Point mousePos)
+	{
+		return bounds != null && bounds.getKey().contains(mousePos) ? bounds.getValue() : null;
+	}
 
-				if (item.getHaPrice() > 0)
-				{
-					itemStringBuilder.append(" (HA: ")
-						.append(StackFormatter.quantityToStackSize(item.getHaPrice()))
-						.append(" gp)");
-				}
-			}
-			else if (config.priceDisplayMode() != PriceDisplayMode.OFF)
+	/**
+	 * Renders a ground item
+	 *
+	 * @return true if the item text was drawn, and so took up a stack position
+	 */
+	private boolean renderItem(Graphics2D graphics, FontMetrics fm, GroundItem item, LocalPoint groundPoint, int offset,
+		boolean onlyShowLoot, boolean dontShowOverlay, Point mousePos, boolean topItem)
+	{
+		if (onlyShowLoot && !item.isMine())
+		{
+			return false;
+		}
+
+		final Color highlighted = item.getHighlighted();
+		final Color hidden = item.getHidden();
+
+		if (highlighted == null && !plugin.isHotKeyPressed())
+		{
+			// Do not display hidden items
+			if (hidden != null)
 			{
-				final int price = config.priceDisplayMode() == PriceDisplayMode.GE
-					? item.getGePrice()
-					: item.getHaPrice();
+				return false;
+			}
 
-				if (price > 0)
-				{
-					itemStringBuilder
-						.append(" (")
-						.append(StackFormatter.quantityToStackSize(price))
-						.append(" gp)");
-				}
+			// Do not display non-highlighted items
+			if (config.showHighlightedOnly())
+			{
+				return false;
 			}
+		}
 
-			final String itemString = itemStringBuilder.toString();
-			itemStringBuilder.setLength(0);
+		final Color color = item.getColor();
 
-			final Point textPoint = Perspective.getCanvasTextLocation(client,
-				graphics,
-				groundPoint,
-				itemString,
-				item.getHeight() + OFFSET_Z);
+		if (config.highlightTiles())
+		{
+			final Polygon poly = Perspective.getCanvasTilePoly(client, groundPoint);
 
-			if (textPoint == null)
+			if (poly != null)
 			{
-				continue;
+				OverlayUtil.renderPolygon(graphics, poly, color);
 			}
+		}
 
-			final int offset = plugin.isHotKeyPressed()
-				? item.getOffset()
-				: offsetMap.compute(item.getLocation(), (k, v) -> v != null ? v + 1 : 0);
+		if (dontShowOverlay)
+		{
+			return false;
+		}
 
-			final int textX = textPoint.getX();
-			final int textY = textPoint.getY() - (STRING_GAP * offset);
+		final String itemString = item.getText();
 
-			if (plugin.isHotKeyPressed())
-			{
-				final int stringWidth = fm.stringWidth(itemString);
-				final int stringHeight = fm.getHeight();
-
-				// Item bounds
-				int x = textX - 2;
-				int y = textY - stringHeight - 2;
-				int width = stringWidth + 4;
-				int height = stringHeight + 4;
-				final Rectangle itemBounds = new Rectangle(x, y, width, height);
-
-				// Hidden box
-				x += width + 2;
-				y = textY - (RECTANGLE_SIZE + stringHeight) / 2;
-				width = height = RECTANGLE_SIZE;
-				final Rectangle itemHiddenBox = new Rectangle(x, y, width, height);
-
-				// Highlight box
-				x += width + 2;
-				final Rectangle itemHighlightBox = new Rectangle(x, y, width, height);
-
-				boolean mouseInBox = itemBounds.contains(mousePos.getX(), mousePos.getY());
-				boolean mouseInHiddenBox = itemHiddenBox.contains(mousePos.getX(), mousePos.getY());
-				boolean mouseInHighlightBox = itemHighlightBox.contains(mousePos.getX(), mousePos.getY());
-
-				if (mouseInBox)
-				{
-					plugin.setTextBoxBounds(new SimpleEntry<>(itemBounds, item));
-				}
-				else if (mouseInHiddenBox)
-				{
-					plugin.setHiddenBoxBounds(new SimpleEntry<>(itemHiddenBox, item));
+		final Point textPoint = Perspective.getCanvasTextLocation(client,
+			graphics,
+			groundPoint,
+			itemString,
+			item.getHeight() + OFFSET_Z);
 
-				}
-				else if (mouseInHighlightBox)
-				{
-					plugin.setHighlightBoxBounds(new SimpleEntry<>(itemHighlightBox, item));
-				}
+		if (textPoint == null)
+		{
+			return false;
+		}
 
-				boolean topItem = topGroundItem == item;
+		final int textX = textPoint.getX();
+		final int textY = textPoint.getY() - (STRING_GAP * offset);
 
-				// Draw background if hovering
-				if (topItem && (mouseInBox || mouseInHiddenBox || mouseInHighlightBox))
-				{
-					backgroundComponent.setRectangle(itemBounds);
-					backgroundComponent.render(graphics);
-				}
+		if (plugin.isHotKeyPressed())
+		{
+			final int stringWidth = fm.stringWidth(itemString);
+			final int stringHeight = fm.getHeight();
+
+			// Item bounds
+			int x = textX - 2;
+			int y = textY - stringHeight - 2;
+			int width = stringWidth + 4;
+			int height = stringHeight + 4;
+			final Rectangle itemBounds = new Rectangle(x, y, width, height);
+
+			// Hidden box
+			x += width + 2;
+			y = textY - (RECTANGLE_SIZE + stringHeight) / 2;
+			width = height = RECTANGLE_SIZE;
+			final Rectangle itemHiddenBox = new Rectangle(x, y, width, height);
+
+			// Highlight box
+			x += width + 2;
+			final Rectangle itemHighlightBox = new Rectangle(x, y, width, height);
+
+			boolean mouseInBox = itemBounds.contains(mousePos.getX(), mousePos.getY());
+			boolean mouseInHiddenBox = itemHiddenBox.contains(mousePos.getX(), mousePos.getY());
+			boolean mouseInHighlightBox = itemHighlightBox.contains(mousePos.getX(), mousePos.getY());
+
+			if (mouseInBox)
+			{
+				plugin.setTextBoxBounds(new SimpleEntry<>(itemBounds, item));
+			}
+			else if (mouseInHiddenBox)
+			{
+				plugin.setHiddenBoxBounds(new SimpleEntry<>(itemHiddenBox, item));
 
-				// Draw hidden box
-				drawRectangle(graphics, itemHiddenBox, topItem && mouseInHiddenBox ? Color.RED : color, hidden != null, true);
+			}
+			else if (mouseInHighlightBox)
+			{
+				plugin.setHighlightBoxBounds(new SimpleEntry<>(itemHighlightBox, item));
+			}
 
-				// Draw highlight box
-				drawRectangle(graphics, itemHighlightBox, topItem && mouseInHighlightBox ? Color.GREEN : color, highlighted != null, false);
+			// Draw background if hovering
+			if (topItem && (mouseInBox || mouseInHiddenBox || mouseInHighlightBox))
+			{
+				backgroundComponent.setRectangle(itemBounds);
+				backgroundComponent.render(graphics);
 			}
 
-			textComponent.setText(itemString);
-			textComponent.setColor(color);
-			textComponent.setPosition(new java.awt.Point(textX, textY));
-			textComponent.render(graphics);
+			// Draw hidden box
+			drawRectangle(graphics, itemHiddenBox, topItem && mouseInHiddenBox ? Color.RED : color, hidden != null, true);
+
+			// Draw highlight box
+			drawRectangle(graphics, itemHighlightBox, topItem && mouseInHighlightBox ? Color.GREEN : color, highlighted != null, false);
 		}
 
-		return null;
+		textComponent.setText(itemString);
+		textComponent.setColor(color);
+		textComponent.setPosition(new java.awt.Point(textX, textY));
+		textComponent.render(graphics);
+		return true;
 	}
 
 	private void drawRectangle(Graphics2D graphics, Rectangle rect, Color color, boolean inList, boolean hiddenBox)
@@ -33,6 +33,7 @@ import com.google.inject.Provides;
 import java.awt.Color;
 import java.awt.Rectangle;
 import static java.lang.Boolean.TRUE;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -65,7 +66,9 @@ import net.runelite.api.events.ItemDespawned;
 import net.runelite.api.events.ItemQuantityChanged;
 import net.runelite.api.events.ItemSpawned;
 import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.api.events.SceneObjectsLoaded;
 import net.runelite.client.Notifier;
+import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.NpcLootReceived;
@@ -81,6 +84,7 @@ import net.runelite.client.plugins.grounditems.config.MenuHighlightMode;
 import static net.runelite.client.plugins.grounditems.config.MenuHighlightMode.BOTH;
 import static net.runelite.client.plugins.grounditems.config.MenuHighlightMode.NAME;
 import static net.runelite.client.plugins.grounditems.config.MenuHighlightMode.OPTION;
+import net.runelite.client.plugins.grounditems.config.PriceDisplayMode;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.StackFormatter;
@@ -102,6 +106,9 @@ public class GroundItemsPlugin extends Plugin
 	private static final float HIGH_ALCHEMY_CONSTANT = 0.6f;
 	// ItemID for coins
 	private static final int COINS = ItemID.COINS_995;
+	// The game won't send anything higher than this value to the plugin -
+	// so we replace any item quantity higher with "Lots" instead.
+	private static final int MAX_QUANTITY = 65535;
 
 	@Getter(AccessLevel.PACKAGE)
 	@Setter(AccessLevel.PACKAGE)
@@ -138,6 +145,9 @@ public class GroundItemsPlugin extends Plugin
 	@Inject
 	private Client client;
 
+	@Inject
+	private ClientThread clientThread;
+
 	@Inject
 	private ItemManager itemManager;
 
@@ -155,6 +165,12 @@ public class GroundItemsPlugin extends Plugin
 
 	@Getter
 	private final Map<GroundItem.GroundItemKey, GroundItem> collectedGroundItems = new LinkedHashMap<>();
+	/**
+	 * The collected ground items by tile, in the order they were added
+	 */
+	@Getter(AccessLevel.PACKAGE)
+	private final Map<WorldPoint, List<GroundItem>> groundItemTiles = new LinkedHashMap<>();
+	private final StringBuilder itemStringBuilder = new StringBuilder();
 	private final Map<Integer, Color> priceChecks = new LinkedHashMap<>();
 	private LoadingCache<String, Boolean> highlightedItems;
 	private LoadingCache<String, Boolean> hiddenItems;
@@ -187,6 +203,7 @@ public class GroundItemsPlugin extends Plugin
 		hiddenItemList = null;
 		highlightedItemsList = null;
 		collectedGroundItems.clear();
+		groundItemTiles.clear();
 	}
 
 	@Subscribe
@@ -195,6 +212,13 @@ public class GroundItemsPlugin extends Plugin
 		if (event.getGroup().equals("grounditems"))
 		{
 			reset();
+			clientThread.invoke(() ->
+			{
+				for (GroundItem groundItem : collectedGroundItems.values())
+				{
+					updateDisplayState(groundItem);
+				}
+			});
 		}
 	}
 
@@ -204,22 +228,43 @@ public class GroundItemsPlugin extends Plugin
 		if (event.getGameState() == GameState.LOADING)
 		{
 			collectedGroundItems.clear();
+			groundItemTiles.clear();
 		}
 	}
 
-	@Subscribe
+	// the whole scene is added by onSceneObjectsLoaded
+	@Subscribe(skipSceneLoad = true)
 	public void onItemSpawned(ItemSpawned itemSpawned)
 	{
-		Item item = itemSpawned.getItem();
-		Tile tile = itemSpawned.getTile();
+		addItem(itemSpawned.getTile(), itemSpawned.getItem());
+	}
+
+	@Subscribe
+	public void onSceneObjectsLoaded(SceneObjectsLoaded event)
+	{
+		final Tile[] tiles = event.getItemTiles();
+		final Item[] items = event.getItems();
 
+		for (int i = 0; i < items.length; ++i)
+		{
+			addItem(tiles[i], items[i]);
+		}
+	}
+
+	private void addItem(Tile tile, Item item)
+	{
 		GroundItem groundItem = buildGroundItem(tile, item);
 
 		GroundItem.GroundItemKey groundItemKey = new GroundItem.GroundItemKey(item.getId(), tile.getWorldLocation());
 		GroundItem existing = collectedGroundItems.putIfAbsent(groundItemKey, groundItem);
 		if (existing != null)
 		{
-			existing.setQuantity(existing.getQuantity() + groundItem.getQuantity());
+			setQuantity(existing, existing.getQuantity() + groundItem.getQuantity());
+		}
+		else
+		{
+			updateDisplayState(groundItem);
+			groundItemTiles.computeIfAbsent(groundItem.getLocation(), k -> new ArrayList<>(1)).add(groundItem);
 		}
 
 		boolean shouldNotify = !config.onlyShowLoot() && config.highlightedColor().equals(getHighlighted(
@@ -249,10 +294,20 @@ public class GroundItemsPlugin extends Plugin
 		if (groundItem.getQuantity() <= item.getQuantity())
 		{
 			collectedGroundItems.remove(groundItemKey);
+
+			final List<GroundItem> tileItems = groundItemTiles.get(groundItem.getLocation());
+			if (tileItems != null)
+			{
+				tileItems.remove(groundItem);
+				if (tileItems.isEmpty())
+				{
+					groundItemTiles.remove(groundItem.getLocation());
+				}
+			}
 		}
 		else
 		{
-			groundItem.setQuantity(groundItem.getQuantity() - item.getQuantity());
+			setQuantity(groundItem, groundItem.getQuantity() - item.getQuantity());
 		}
 	}
 
@@ -269,7 +324,7 @@ public class GroundItemsPlugin extends Plugin
 		GroundItem groundItem = collectedGroundItems.get(groundItemKey);
 		if (groundItem != null)
 		{
-			groundItem.setQuantity(groundItem.getQuantity() + diff);
+			setQuantity(groundItem, groundItem.getQuantity() + diff);
 		}
 	}
 
@@ -345,6 +400,75 @@ public class GroundItemsPlugin extends Plugin
 		return groundItem;
 	}
 
+	private void setQuantity(GroundItem groundItem, int quantity)
+	{
+		groundItem.setQuantity(quantity);
+		// prices scale with quantity, which can change the highlight and text
+		updateDisplayState(groundItem);
+	}
+
+	/**
+	 * Computes the colors and text the overlay displays for the item
+	 */
+	private void updateDisplayState(GroundItem groundItem)
+	{
+		final Color highlighted = getHighlighted(groundItem.getName(), groundItem.getGePrice(), groundItem.getHaPrice());
+		final Color hidden = getHidden(groundItem.getName(), groundItem.getGePrice(), groundItem.getHaPrice(), groundItem.isTradeable());
+		groundItem.setHighlighted(highlighted);
+		groundItem.setHidden(hidden);
+		groundItem.setColor(getItemColor(highlighted, hidden));
+
+		itemStringBuilder.append(groundItem.getName());
+
+		if (groundItem.getQuantity() > 1)
+		{
+			if (groundItem.getQuantity() >= MAX_QUANTITY)
+			{
+				itemStringBuilder.append(" (Lots!)");
+			}
+			else
+			{
+				itemStringBuilder.append(" (")
+					.append(StackFormatter.quantityToStackSize(groundItem.getQuantity()))
+					.append(")");
+			}
+		}
+
+		if (config.priceDisplayMode() == PriceDisplayMode.BOTH)
+		{
+			if (groundItem.getGePrice() > 0)
+			{
+				itemStringBuilder.append(" (EX: ")
+					.append(StackFormatter.quantityToStackSize(groundItem.getGePrice()))
+					.append(" gp)");
+			}
+
+			if (groundItem.getHaPrice() > 0)
+			{
+				itemStringBuilder.append(" (HA: ")
+					.append(StackFormatter.quantityToStackSize(groundItem.getHaPrice()))
+					.append(" gp)");
+			}
+		}
+		else if (config.priceDisplayMode() != PriceDisplayMode.OFF)
+		{
+			final int price = config.priceDisplayMode() == PriceDisplayMode.GE
+				? groundItem.getGePrice()
+				: groundItem.getHaPrice();
+
+			if (price > 0)
+			{
+				itemStringBuilder
+					.append(" (")
+					.append(StackFormatter.quantityToStackSize(price))
+					.append(" gp)");
+			}
+		}
+
+		groundItem.setText(itemStringBuilder.toString());
+		itemStringBuilder.setLength(0);
+	}
+
 	private void reset()
 	{
 		// gets the hidden items from the text box in the config
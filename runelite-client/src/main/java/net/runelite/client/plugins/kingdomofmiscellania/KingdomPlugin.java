@@ -34,9 +34,10 @@ import static net.runelite.api.ItemID.TEAK_CHEST;
 import net.runelite.api.VarPlayer;
 import net.runelite.api.Varbits;
 import net.runelite.api.events.GameStateChanged;
-import net.runelite.api.events.VarbitChanged;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.VarChangeListener;
+import net.runelite.client.game.VarbitManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
@@ -61,23 +62,29 @@ public class KingdomPlugin extends Plugin
 	@Inject
 	private ItemManager itemManager;
 
+	@Inject
+	private VarbitManager varbitManager;
+
 	@Getter
 	private int favor = 0, coffer = 0;
 
 	private KingdomCounter counter;
 
+	private final VarChangeListener varListener = (oldValue, newValue) -> processInfobox();
+
 	@Override
-	protected void shutDown() throws Exception
+	protected void startUp() throws Exception
 	{
-		removeKingdomInfobox();
+		varbitManager.register(Varbits.KINGDOM_FAVOR, varListener);
+		varbitManager.register(Varbits.KINGDOM_COFFER, varListener);
+		varbitManager.register(VarPlayer.THRONE_OF_MISCELLANIA, varListener);
 	}
 
-	@Subscribe
-	public void onVarbitChanged(VarbitChanged event)
+	@Override
+	protected void shutDown() throws Exception
 	{
-		favor = client.getVar(Varbits.KINGDOM_FAVOR);
-		coffer = client.getVar(Varbits.KINGDOM_COFFER);
-		processInfobox();
+		varbitManager.unregister(varListener);
+		removeKingdomInfobox();
 	}
 
 	@Subscribe
@@ -91,6 +98,9 @@ public class KingdomPlugin extends Plugin
 
 	private void processInfobox()
 	{
+		favor = client.getVar(Varbits.KINGDOM_FAVOR);
+		coffer = client.getVar(Varbits.KINGDOM_COFFER);
+
 		if (client.getGameState() == GameState.LOGGED_IN && hasCompletedQuest() && isInKingdom())
 		{
 			addKingdomInfobox();
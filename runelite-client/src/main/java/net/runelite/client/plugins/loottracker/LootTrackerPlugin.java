@@ -27,9 +27,11 @@ package net.runelite.client.plugins.loottracker;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -72,6 +74,7 @@ import net.runelite.client.game.ItemStack;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.task.Schedule;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.util.ImageUtil;
@@ -93,6 +96,8 @@ public class LootTrackerPlugin extends Plugin
 	// Activity/Event loot handling
 	private static final Pattern CLUE_SCROLL_PATTERN = Pattern.compile("You have completed [0-9]+ ([a-z]+) Treasure Trails.");
 	private static final int THEATRE_OF_BLOOD_REGION = 12867;
+	// Largest bulk submission accepted by the loot tracker service
+	private static final int MAX_BULK_RECORDS = 512;
 
 	private static final Splitter COMMA_SPLITTER = Splitter
 		.on(",")
@@ -134,6 +139,9 @@ public class LootTrackerPlugin extends Plugin
 	@Getter(AccessLevel.PACKAGE)
 	private LootTrackerClient lootTrackerClient;
 
+	// loot waiting to be submitted in bulk
+	private final List<LootRecord> queuedLoot = new ArrayList<>();
+
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
 	{
 		final List<ItemStack> list = new ArrayList<>();
@@ -186,6 +194,7 @@ public class LootTrackerPlugin extends Plugin
 	@Subscribe
 	public void onSessionClose(SessionClose sessionClose)
 	{
+		submitLoot();
 		lootTrackerClient = null;
 	}
 
@@ -267,6 +276,7 @@ public class LootTrackerPlugin extends Plugin
 	@Override
 	protected void shutDown()
 	{
+		submitLoot();
 		clientToolbar.removeNavigation(navButton);
 		lootTrackerClient = null;
 	}
@@ -284,7 +294,7 @@ public class LootTrackerPlugin extends Plugin
 		if (lootTrackerClient != null && config.saveLoot())
 		{
 			LootRecord lootRecord = new LootRecord(name, LootRecordType.NPC, toGameItems(items));
-			lootTrackerClient.submit(lootRecord);
+			queueLoot(lootRecord);
 		}
 	}
 
@@ -301,7 +311,7 @@ public class LootTrackerPlugin extends Plugin
 		if (lootTrackerClient != null && config.saveLoot())
 		{
 			LootRecord lootRecord = new LootRecord(name, LootRecordType.PLAYER, toGameItems(items));
-			lootTrackerClient.submit(lootRecord);
+			queueLoot(lootRecord);
 		}
 	}
 
@@ -360,7 +370,44 @@ public class LootTrackerPlugin extends Plugin
 		if (lootTrackerClient != null && config.saveLoot())
 		{
 			LootRecord lootRecord = new LootRecord(eventType, LootRecordType.EVENT, toGameItems(items));
-			lootTrackerClient.submit(lootRecord);
+			queueLoot(lootRecord);
+		}
+	}
+
+	private void queueLoot(LootRecord lootRecord)
+	{
+		synchronized (queuedLoot)
+		{
+			queuedLoot.add(lootRecord);
+		}
+	}
+
+	@Schedule(
+		period = 5,
+		unit = ChronoUnit.MINUTES,
+		asynchronous = true
+	)
+	public void submitLoot()
+	{
+		List<LootRecord> records;
+		synchronized (queuedLoot)
+		{
+			if (queuedLoot.isEmpty())
+			{
+				return;
+			}
+
+			records = new ArrayList<>(queuedLoot);
+			queuedLoot.clear();
+		}
+
+		LootTrackerClient trackerClient = lootTrackerClient;
+		if (trackerClient != null)
+		{
+			for (List<LootRecord> chunk : Lists.partition(records, MAX_BULK_RECORDS))
+			{
+				trackerClient.submit(chunk);
+			}
 		}
 	}
 
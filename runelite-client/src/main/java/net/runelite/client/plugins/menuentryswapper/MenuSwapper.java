@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import java.util.Arrays;
+import net.runelite.api.Client;
+import net.runelite.client.util.Text;
+
+/**
+ * Applies {@link SwapRuleTable} rules to the open menu. The normalized
+ * option and target of each menu entry are cached by menu index, and are
+ * only recomputed when the client's string at that index changes.
+ */
+class MenuSwapper
+{
+	private final Client client;
+
+	private String[] rawOptions = new String[16];
+	private String[] options = new String[16];
+	private String[] rawTargets = new String[16];
+	private String[] targets = new String[16];
+	private int count;
+
+	MenuSwapper(Client client)
+	{
+		this.client = client;
+	}
+
+	/**
+	 * Applies the given rules to the menu entry which was just added.
+	 *
+	 * @param optionRules rules for the option of the added entry
+	 * @param option normalized option of the added entry
+	 * @param target normalized target of the added entry
+	 * @return true if the option was handled by a rule
+	 */
+	boolean apply(SwapRuleTable.OptionRules optionRules, String option, String target)
+	{
+		boolean handled = optionRules.isAll();
+		boolean loaded = false;
+
+		for (SwapRuleTable.Rule rule : optionRules.getRules())
+		{
+			if (!rule.matches(target))
+			{
+				continue;
+			}
+
+			if (!loaded)
+			{
+				load();
+				loaded = true;
+			}
+
+			for (SwapRuleTable.Swap swap : rule.getSwaps())
+			{
+				swap(swap.getOption(), option, target, swap.isStrict());
+			}
+
+			if (!optionRules.isAll())
+			{
+				return true;
+			}
+		}
+
+		return handled;
+	}
+
+	/**
+	 * Refreshes the normalized strings of the open menu in a single pass.
+	 */
+	void load()
+	{
+		count = client.getMenuEntryCount();
+		if (count > options.length)
+		{
+			final int size = Integer.highestOneBit(count) << 1;
+			rawOptions = Arrays.copyOf(rawOptions, size);
+			options = Arrays.copyOf(options, size);
+			rawTargets = Arrays.copyOf(rawTargets, size);
+			targets = Arrays.copyOf(targets, size);
+		}
+
+		for (int i = 0; i < count; ++i)
+		{
+			final String option = client.getMenuEntryOption(i);
+			if (option != rawOptions[i])
+			{
+				rawOptions[i] = option;
+				options[i] = normalize(option);
+			}
+
+			final String target = client.getMenuEntryTarget(i);
+			if (target != rawTargets[i])
+			{
+				rawTargets[i] = target;
+				targets[i] = normalize(target);
+			}
+		}
+	}
+
+	/**
+	 * Swaps the entries matching optionA and optionB. {@link #load()} must
+	 * have been called since the menu last changed.
+	 */
+	void swap(String optionA, String optionB, String target, boolean strict)
+	{
+		final int idxA = searchIndex(optionA, target, strict);
+		if (idxA < 0)
+		{
+			return;
+		}
+
+		final int idxB = searchIndex(optionB, target, strict);
+		if (idxB < 0 || idxA == idxB)
+		{
+			return;
+		}
+
+		client.swapMenuEntries(idxA, idxB);
+
+		swap(rawOptions, idxA, idxB);
+		swap(options, idxA, idxB);
+		swap(rawTargets, idxA, idxB);
+		swap(targets, idxA, idxB);
+	}
+
+	private int searchIndex(String option, String target, boolean strict)
+	{
+		for (int i = count - 1; i >= 0; i--)
+		{
+			if (!targets[i].equals(target))
+			{
+				continue;
+			}
+
+			if (strict ? options[i].equals(option) : options[i].contains(option))
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private static void swap(String[] array, int i, int j)
+	{
+		final String tmp = array[i];
+		array[i] = array[j];
+		array[j] = tmp;
+	}
+
+	static String normalize(String str)
+	{
+		return str == null ? "" : Text.removeTags(str).toLowerCase();
+	}
+}
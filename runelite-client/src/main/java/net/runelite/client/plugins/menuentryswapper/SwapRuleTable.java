@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * The enabled swaps of {@link MenuEntrySwapperConfig} compiled into a table
+ * keyed by the normalized option of the added menu entry.
+ */
+class SwapRuleTable
+{
+	enum TargetMatch
+	{
+		ANY,
+		EQUALS,
+		CONTAINS
+	}
+
+	@Value
+	static class Swap
+	{
+		private final String option;
+		private final boolean strict;
+	}
+
+	@Value
+	static class Rule
+	{
+		private final TargetMatch match;
+		private final String target;
+		private final Swap[] swaps;
+
+		boolean matches(String target)
+		{
+			switch (match)
+			{
+				case EQUALS:
+					return target.equals(this.target);
+				case CONTAINS:
+					return target.contains(this.target);
+				default:
+					return true;
+			}
+		}
+	}
+
+	/**
+	 * The rules for a single option, in config order.
+	 */
+	@Value
+	static class OptionRules
+	{
+		/**
+		 * If set, every matching rule is applied and the option is always
+		 * considered handled. Otherwise only the first matching rule is
+		 * applied, and the option is only handled if a rule matched.
+		 */
+		private final boolean all;
+		private final Rule[] rules;
+	}
+
+	private final Map<String, OptionRules> rules;
+	private final Map<String, OptionRules> itemRules;
+
+	@Getter
+	private final boolean shiftClickCustomization;
+
+	private SwapRuleTable(Map<String, OptionRules> rules, Map<String, OptionRules> itemRules, boolean shiftClickCustomization)
+	{
+		this.rules = rules;
+		this.itemRules = itemRules;
+		this.shiftClickCustomization = shiftClickCustomization;
+	}
+
+	/**
+	 * Gets the rules which are checked before shift-click customization.
+	 *
+	 * @param option normalized option of the added menu entry
+	 * @return the rules, or null if there are none
+	 */
+	OptionRules getRules(String option)
+	{
+		return rules.get(option);
+	}
+
+	/**
+	 * Gets the item rules which are checked after shift-click customization.
+	 *
+	 * @param option normalized option of the added menu entry
+	 * @return the rules, or null if there are none
+	 */
+	OptionRules getItemRules(String option)
+	{
+		return itemRules.get(option);
+	}
+
+	static SwapRuleTable compile(MenuEntrySwapperConfig config)
+	{
+		final Builder talkTo = new Builder(true);
+		final Map<String, Builder> rules = new LinkedHashMap<>();
+		final Map<String, Builder> itemRules = new LinkedHashMap<>();
+
+		if (config.swapPickpocket())
+		{
+			talkTo.add(TargetMatch.CONTAINS, "h.a.m.", "pickpocket");
+		}
+
+		if (config.swapAbyssTeleport())
+		{
+			talkTo.add(TargetMatch.CONTAINS, "mage of zamorak", "teleport");
+		}
+
+		if (config.swapBank())
+		{
+			talkTo.add(TargetMatch.ANY, null, "bank");
+		}
+
+		if (config.swapExchange())
+		{
+			talkTo.add(TargetMatch.ANY, null, "exchange");
+		}
+
+		if (config.swapDarkMage())
+		{
+			talkTo.add(TargetMatch.ANY, null, "repairs");
+		}
+
+		// make sure assignment swap is higher priority than trade swap for slayer masters
+		if (config.swapAssignment())
+		{
+			talkTo.add(TargetMatch.ANY, null, "assignment");
+		}
+
+		if (config.swapTrade())
+		{
+			talkTo.add(TargetMatch.ANY, null, "trade", "trade-with");
+		}
+
+		if (config.claimSlime())
+		{
+			talkTo.add(TargetMatch.EQUALS, "robin", "claim-slime");
+		}
+
+		if (config.swapTravel())
+		{
+			talkTo.add(TargetMatch.ANY, null, "travel", "pay-fare", "charter", "take-boat", "fly", "jatizso",
+				"neitiznot", "rellekka", "follow", "transport");
+		}
+
+		if (config.swapPay())
+		{
+			talkTo.add(TargetMatch.ANY, null, new Swap("pay", true), new Swap("pay (", false));
+		}
+
+		if (config.swapDecant())
+		{
+			talkTo.add(TargetMatch.ANY, null, "decant");
+		}
+
+		if (config.swapQuick())
+		{
+			talkTo.add(TargetMatch.ANY, null, "quick-travel");
+		}
+
+		// talk-to is always handled, even without any enabled swaps
+		rules.put("talk-to", talkTo);
+
+		if (config.swapTravel())
+		{
+			rule(rules, "pass").add(TargetMatch.EQUALS, "energy barrier", "pay-toll(2-ecto)");
+			rule(rules, "open").add(TargetMatch.EQUALS, "gate", "pay-toll(10gp)");
+			rule(rules, "inspect").add(TargetMatch.EQUALS, "trapdoor", "travel");
+		}
+
+		if (config.swapHarpoon())
+		{
+			rule(rules, "cage").add(TargetMatch.ANY, null, "harpoon");
+			rule(rules, "big net").add(TargetMatch.ANY, null, "harpoon");
+			rule(rules, "net").add(TargetMatch.ANY, null, "harpoon");
+		}
+
+		switch (config.swapHomePortal())
+		{
+			case HOME:
+				rule(rules, "enter").add(TargetMatch.ANY, null, "home");
+				break;
+			case BUILD_MODE:
+				rule(rules, "enter").add(TargetMatch.ANY, null, "build mode");
+				break;
+			case FRIENDS_HOUSE:
+				rule(rules, "enter").add(TargetMatch.ANY, null, "friend's house");
+				break;
+		}
+
+		switch (config.swapFairyRing())
+		{
+			case LAST_DESTINATION:
+			case CONFIGURE:
+				final Swap fairyRing = new Swap(config.swapFairyRing() == FairyRingMode.LAST_DESTINATION
+					? "last-destination" : "configure", false);
+				for (String option : new String[]{"zanaris", "configure", "tree"})
+				{
+					rule(rules, option).add(TargetMatch.ANY, null, fairyRing);
+				}
+				break;
+			case ZANARIS:
+				rule(rules, "tree").add(TargetMatch.ANY, null, new Swap("zanaris", false));
+				break;
+		}
+
+		if (config.swapBoxTrap())
+		{
+			rule(rules, "check").add(TargetMatch.ANY, null, "reset");
+			rule(rules, "dismantle").add(TargetMatch.ANY, null, "reset");
+			rule(rules, "take").add(TargetMatch.ANY, null, "lay");
+		}
+
+		if (config.swapChase())
+		{
+			rule(rules, "pick-up").add(TargetMatch.ANY, null, "chase");
+		}
+
+		if (config.swapBirdhouseEmpty())
+		{
+			rule(rules, "interact").add(TargetMatch.CONTAINS, "birdhouse", "empty");
+		}
+
+		if (config.swapQuick())
+		{
+			rule(rules, "ring").add(TargetMatch.ANY, null, "quick-start");
+			rule(rules, "pass").add(TargetMatch.ANY, null, "quick-pass", "quick pass");
+		}
+
+		if (config.swapAdmire())
+		{
+			rule(rules, "admire").add(TargetMatch.ANY, null, "teleport", "spellbook", "perks");
+		}
+
+		if (config.swapPrivate())
+		{
+			rule(rules, "shared").add(TargetMatch.ANY, null, "private");
+		}
+
+		// Put all item-related swapping after shift-click
+		if (config.swapTeleportItem())
+		{
+			rule(itemRules, "wear").add(TargetMatch.ANY, null, "rub", "teleport");
+			rule(itemRules, "wield").add(TargetMatch.ANY, null, "teleport");
+		}
+
+		if (config.swapBones())
+		{
+			rule(itemRules, "bury").add(TargetMatch.ANY, null, "use");
+		}
+
+		return new SwapRuleTable(build(rules), build(itemRules), config.shiftClickCustomization());
+	}
+
+	private static Builder rule(Map<String, Builder> rules, String option)
+	{
+		return rules.computeIfAbsent(option, k -> new Builder(false));
+	}
+
+	private static Map<String, OptionRules> build(Map<String, Builder> builders)
+	{
+		final Map<String, OptionRules> rules = new HashMap<>(builders.size() * 2);
+		for (Map.Entry<String, Builder> entry : builders.entrySet())
+		{
+			final Builder builder = entry.getValue();
+			rules.put(entry.getKey(), new OptionRules(builder.all, builder.rules.toArray(new Rule[0])));
+		}
+		return rules;
+	}
+
+	private static class Builder
+	{
+		private final boolean all;
+		private final List<Rule> rules = new ArrayList<>();
+
+		Builder(boolean all)
+		{
+			this.all = all;
+		}
+
+		void add(TargetMatch match, String target, String... options)
+		{
+			final Swap[] swaps = new Swap[options.length];
+			for (int i = 0; i < options.length; ++i)
+			{
+				swaps[i] = new Swap(options[i], true);
+			}
+			rules.add(new Rule(match, target, swaps));
+		}
+
+		void add(TargetMatch match, String target, Swap... swaps)
+		{
+			rules.add(new Rule(match, target, swaps));
+		}
+	}
+}
@@ -58,6 +58,7 @@ import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.MenuEntryAdded;
 import net.runelite.api.events.MenuOptionClicked;
+import net.runelite.api.events.SceneObjectsLoaded;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.input.KeyListener;
@@ -155,10 +156,30 @@ public class ObjectIndicatorsPlugin extends Plugin implements KeyListener
 		}
 	}
 
-	@Subscribe
+	// the whole scene is checked by onSceneObjectsLoaded
+	@Subscribe(skipSceneLoad = true)
 	public void onGameObjectSpawned(GameObjectSpawned event)
 	{
-		final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, event.getGameObject().getLocalLocation());
+		checkObject(event.getGameObject());
+	}
+
+	@Subscribe
+	public void onSceneObjectsLoaded(SceneObjectsLoaded event)
+	{
+		if (points.isEmpty())
+		{
+			return;
+		}
+
+		for (GameObject gameObject : event.getGameObjects())
+		{
+			checkObject(gameObject);
+		}
+	}
+
+	private void checkObject(GameObject gameObject)
+	{
+		final WorldPoint worldPoint = WorldPoint.fromLocalInstance(client, gameObject.getLocalLocation());
 		final Set<ObjectPoint> objectPoints = points.get(worldPoint.getRegionID());
 
 		if (objectPoints == null)
@@ -171,9 +192,9 @@ public class ObjectIndicatorsPlugin extends Plugin implements KeyListener
 			if ((worldPoint.getX() & (REGION_SIZE - 1)) == objectPoint.getRegionX()
 				&& (worldPoint.getY() & (REGION_SIZE - 1)) == objectPoint.getRegionY())
 			{
-				if (objectPoint.getName().equals(client.getObjectDefinition(event.getGameObject().getId()).getName()))
+				if (objectPoint.getName().equals(client.getObjectDefinition(gameObject.getId()).getName()))
 				{
-					objects.add(event.getGameObject());
+					objects.add(gameObject);
 					break;
 				}
 			}
@@ -35,8 +35,8 @@ import net.runelite.api.Client;
 import net.runelite.api.MessageNode;
 import net.runelite.api.Varbits;
 import net.runelite.api.events.ScriptCallbackEvent;
+import net.runelite.client.callback.ScriptCallbackManager;
 import net.runelite.client.config.ChatColorConfig;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.util.ColorUtil;
@@ -55,14 +55,23 @@ public class TimestampPlugin extends Plugin
 	@Inject
 	private ChatColorConfig chatColorConfig;
 
-	@Subscribe
-	public void onScriptCallbackEvent(ScriptCallbackEvent event)
+	@Inject
+	private ScriptCallbackManager scriptCallbackManager;
+
+	@Override
+	protected void startUp() throws Exception
 	{
-		if (!event.getEventName().equals("addTimestamp"))
-		{
-			return;
-		}
+		scriptCallbackManager.register(this, "addTimestamp", this::onAddTimestamp);
+	}
 
+	@Override
+	protected void shutDown() throws Exception
+	{
+		scriptCallbackManager.unregister(this);
+	}
+
+	private void onAddTimestamp(ScriptCallbackEvent event)
+	{
 		int[] intStack = client.getIntStack();
 		int intStackSize = client.getIntStackSize();
 
@@ -31,6 +31,7 @@ import net.runelite.api.Experience;
 import net.runelite.api.Skill;
 import net.runelite.api.events.ScriptCallbackEvent;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.ScriptCallbackManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.PluginChanged;
 import net.runelite.client.plugins.Plugin;
@@ -52,9 +53,21 @@ public class VirtualLevelsPlugin extends Plugin
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private ScriptCallbackManager scriptCallbackManager;
+
+	@Override
+	protected void startUp()
+	{
+		scriptCallbackManager.register(this, "skillTabBaseLevel", this::onSkillTabBaseLevel);
+		scriptCallbackManager.register(this, "skillTabMaxLevel", this::onSkillTabMaxLevel);
+		scriptCallbackManager.register(this, "skillTabTotalLevel", this::onSkillTabTotalLevel);
+	}
+
 	@Override
 	protected void shutDown()
 	{
+		scriptCallbackManager.unregister(this);
 		clientThread.invoke(this::simulateSkillChange);
 	}
 
@@ -68,46 +81,40 @@ public class VirtualLevelsPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	public void onScriptCallbackEvent(ScriptCallbackEvent e)
+	private void onSkillTabBaseLevel(ScriptCallbackEvent e)
 	{
-		final String eventName = e.getEventName();
-
 		final int[] intStack = client.getIntStack();
 		final int intStackSize = client.getIntStackSize();
-		final String[] stringStack = client.getStringStack();
-		final int stringStackSize = client.getStringStackSize();
 
-		switch (eventName)
+		final int skillId = intStack[intStackSize - 2];
+		final Skill skill = Skill.values()[skillId];
+		final int exp = client.getSkillExperience(skill);
+
+		// alter the local variable containing the level to show
+		intStack[intStackSize - 1] = Experience.getLevelForXp(exp);
+	}
+
+	private void onSkillTabMaxLevel(ScriptCallbackEvent e)
+	{
+		// alter max level constant
+		client.getIntStack()[client.getIntStackSize() - 1] = Experience.MAX_VIRT_LEVEL;
+	}
+
+	private void onSkillTabTotalLevel(ScriptCallbackEvent e)
+	{
+		int level = 0;
+
+		for (Skill s : Skill.values())
 		{
-			case "skillTabBaseLevel":
-				final int skillId = intStack[intStackSize - 2];
-				final Skill skill = Skill.values()[skillId];
-				final int exp = client.getSkillExperience(skill);
-
-				// alter the local variable containing the level to show
-				intStack[intStackSize - 1] = Experience.getLevelForXp(exp);
-				break;
-			case "skillTabMaxLevel":
-				// alter max level constant
-				intStack[intStackSize - 1] = Experience.MAX_VIRT_LEVEL;
-				break;
-			case "skillTabTotalLevel":
-				int level = 0;
-
-				for (Skill s : Skill.values())
-				{
-					if (s == Skill.OVERALL)
-					{
-						continue;
-					}
-
-					level += Experience.getLevelForXp(client.getSkillExperience(s));
-				}
-
-				stringStack[stringStackSize - 1] = TOTAL_LEVEL_TEXT_PREFIX + level;
-				break;
+			if (s == Skill.OVERALL)
+			{
+				continue;
+			}
+
+			level += Experience.getLevelForXp(client.getSkillExperience(s));
 		}
+
+		client.getStringStack()[client.getStringStackSize() - 1] = TOTAL_LEVEL_TEXT_PREFIX + level;
 	}
 
 	private void simulateSkillChange()
@@ -41,8 +41,8 @@ import net.runelite.api.events.ScriptCallbackEvent;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.callback.ScriptCallbackManager;
 import net.runelite.client.config.ConfigManager;
-import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -70,6 +70,9 @@ public class WASDCameraPlugin extends Plugin
 	@Inject
 	private KeyManager keyManager;
 
+	@Inject
+	private ScriptCallbackManager scriptCallbackManager;
+
 	@Inject
 	private WASDCameraListener inputListener;
 
@@ -82,6 +85,8 @@ public class WASDCameraPlugin extends Plugin
 	{
 		typing = false;
 		keyManager.registerKeyListener(inputListener);
+		scriptCallbackManager.register(this, SCRIPT_EVENT_SET_CHATBOX_INPUT, this::onSetChatboxInput);
+		scriptCallbackManager.register(this, SCRIPT_EVENT_BLOCK_CHAT_INPUT, this::onBlockChatInput);
 
 		clientThread.invoke(() ->
 		{
@@ -103,6 +108,7 @@ public class WASDCameraPlugin extends Plugin
 			}
 		});
 
+		scriptCallbackManager.unregister(this);
 		keyManager.unregisterKeyListener(inputListener);
 	}
 
@@ -131,29 +137,25 @@ public class WASDCameraPlugin extends Plugin
 		return true;
 	}
 
-	@Subscribe
-	public void onScriptCallbackEvent(ScriptCallbackEvent scriptCallbackEvent)
+	private void onSetChatboxInput(ScriptCallbackEvent scriptCallbackEvent)
 	{
-		switch (scriptCallbackEvent.getEventName())
+		Widget chatboxInput = client.getWidget(WidgetInfo.CHATBOX_INPUT);
+		if (chatboxInput != null)
 		{
-			case SCRIPT_EVENT_SET_CHATBOX_INPUT:
-				Widget chatboxInput = client.getWidget(WidgetInfo.CHATBOX_INPUT);
-				if (chatboxInput != null)
-				{
-					if (chatboxFocused() && !typing)
-					{
-						chatboxInput.setText(getPlayerNameWithIcon() + ": " + PRESS_ENTER_TO_CHAT);
-					}
-				}
-				break;
-			case SCRIPT_EVENT_BLOCK_CHAT_INPUT:
-				if (!typing)
-				{
-					int[] intStack = client.getIntStack();
-					int intStackSize = client.getIntStackSize();
-					intStack[intStackSize - 1] = 1;
-				}
-				break;
+			if (chatboxFocused() && !typing)
+			{
+				chatboxInput.setText(getPlayerNameWithIcon() + ": " + PRESS_ENTER_TO_CHAT);
+			}
+		}
+	}
+
+	private void onBlockChatInput(ScriptCallbackEvent scriptCallbackEvent)
+	{
+		if (!typing)
+		{
+			int[] intStack = client.getIntStack();
+			int intStackSize = client.getIntStackSize();
+			intStack[intStackSize - 1] = 1;
 		}
 	}
 
@@ -33,6 +33,7 @@ import net.runelite.api.Client;
 import net.runelite.api.events.ConfigChanged;
 import net.runelite.api.events.FocusChanged;
 import net.runelite.api.events.ScriptCallbackEvent;
+import net.runelite.client.callback.ScriptCallbackManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.input.KeyListener;
@@ -55,6 +56,10 @@ public class ZoomPlugin extends Plugin implements KeyListener
 	 */
 	private static final int INNER_ZOOM_LIMIT = 1004;
 
+	private static final String[] ZOOM_CALLBACKS = {
+		"scrollWheelZoom", "innerZoomLimit", "outerZoomLimit", "zoomLinToExp", "zoomExpToLin"
+	};
+
 	private boolean controlDown;
 	
 	@Inject
@@ -66,14 +71,16 @@ public class ZoomPlugin extends Plugin implements KeyListener
 	@Inject
 	private KeyManager keyManager;
 
+	@Inject
+	private ScriptCallbackManager scriptCallbackManager;
+
 	@Provides
 	ZoomConfig getConfig(ConfigManager configManager)
 	{
 		return configManager.getConfig(ZoomConfig.class);
 	}
 
-	@Subscribe
-	public void onScriptCallbackEvent(ScriptCallbackEvent event)
+	private void onZoomCallback(ScriptCallbackEvent event)
 	{
 		if (client.getIndexScripts().isOverlayOutdated())
 		{
@@ -142,6 +149,10 @@ public class ZoomPlugin extends Plugin implements KeyListener
 	@Override
 	protected void startUp()
 	{
+		for (String callback : ZOOM_CALLBACKS)
+		{
+			scriptCallbackManager.register(this, callback, this::onZoomCallback);
+		}
 		client.setCameraPitchRelaxerEnabled(zoomConfig.relaxCameraPitch());
 		keyManager.registerKeyListener(this);
 	}
@@ -149,6 +160,7 @@ public class ZoomPlugin extends Plugin implements KeyListener
 	@Override
 	protected void shutDown()
 	{
+		scriptCallbackManager.unregister(this);
 		client.setCameraPitchRelaxerEnabled(false);
 		keyManager.unregisterKeyListener(this);
 		controlDown = false;
@@ -25,20 +25,34 @@
 package net.runelite.client.task;
 
 import java.lang.reflect.Method;
-import java.time.Instant;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ScheduledMethod
 {
 	private final Schedule schedule;
 	private final Method method;
 	private final Object object;
-	private Instant last = Instant.now();
+	private final long periodNanos;
+
+	// Set by the scheduler
+	Runnable invoker;
+	long deadline;
+	final AtomicBoolean running = new AtomicBoolean();
+	volatile boolean cancelled;
+
+	// Run stats, updated without synchronization by whichever thread runs the method
+	private long runs;
+	private long totalNanos;
+	private long maxNanos;
+	private long skipped;
 
 	public ScheduledMethod(Schedule schedule, Method method, Object object)
 	{
 		this.schedule = schedule;
 		this.method = method;
 		this.object = object;
+		this.periodNanos = Duration.of(schedule.period(), schedule.unit()).toNanos();
 	}
 
 	@Override
@@ -62,13 +76,46 @@ public class ScheduledMethod
 		return object;
 	}
 
-	public Instant getLast()
+	public long getPeriodNanos()
+	{
+		return periodNanos;
+	}
+
+	/**
+	 * Number of times the method has ran
+	 */
+	public long getRuns()
+	{
+		return runs;
+	}
+
+	public long getTotalNanos()
+	{
+		return totalNanos;
+	}
+
+	public long getMaxNanos()
+	{
+		return maxNanos;
+	}
+
+	/**
+	 * Number of runs which were skipped because an asynchronous run was still in progress
+	 */
+	public long getSkipped()
+	{
+		return skipped;
+	}
+
+	void record(long nanos)
 	{
-		return last;
+		++runs;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
 	}
 
-	public void setLast(Instant last)
+	void skip()
 	{
-		this.last = last;
+		++skipped;
 	}
 }
@@ -24,34 +24,87 @@
  */
 package net.runelite.client.task;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.time.Duration;
-import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.ReflectUtil;
 
+/**
+ * Runs {@link Schedule} methods. Methods are kept in a hashed timing wheel which is advanced
+ * from the client main loop, so synchronous methods run on the first frame after they are due
+ * and each frame only visits the buckets whose time has passed.
+ */
 @Singleton
 @Slf4j
 public class Scheduler
 {
+	private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+	private static final int WHEEL_SIZE = 512; // must be a power of 2
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
 	private final List<ScheduledMethod> scheduledMethods = new CopyOnWriteArrayList<>();
 
+	/**
+	 * Methods added since the last tick, moved into the wheel from the client thread
+	 */
+	private final ConcurrentLinkedQueue<ScheduledMethod> pending = new ConcurrentLinkedQueue<>();
+
+	// The following are only accessed from the client thread
+	private final List<ScheduledMethod>[] wheel;
+	private final List<ScheduledMethod> due = new ArrayList<>();
+	private final long epoch;
+	private long currentTick;
+
+	private final Ticker ticker;
+
 	@Inject
 	ScheduledExecutorService executor;
 
+	public Scheduler()
+	{
+		this(Ticker.systemTicker());
+	}
+
+	@VisibleForTesting
+	@SuppressWarnings("unchecked")
+	Scheduler(Ticker ticker)
+	{
+		this.ticker = ticker;
+		this.epoch = ticker.read();
+		wheel = new List[WHEEL_SIZE];
+		for (int i = 0; i < WHEEL_SIZE; ++i)
+		{
+			wheel[i] = new ArrayList<>();
+		}
+	}
+
 	public void addScheduledMethod(ScheduledMethod method)
 	{
+		method.invoker = createInvoker(method);
 		scheduledMethods.add(method);
+		pending.add(method);
 	}
 
 	public void removeScheduledMethod(ScheduledMethod method)
 	{
+		// the wheel drops cancelled methods when their bucket is next visited
+		method.cancelled = true;
 		scheduledMethods.remove(method);
 	}
 
@@ -60,44 +113,129 @@ public class Scheduler
 		return Collections.unmodifiableList(scheduledMethods);
 	}
 
+	/**
+	 * Runs the methods which are due. Called each client cycle, from the client thread.
+	 */
 	public void tick()
 	{
-		Instant now = Instant.now();
+		final long now = (ticker.read() - epoch) / TICK_NANOS;
 
-		for (ScheduledMethod scheduledMethod : scheduledMethods)
+		ScheduledMethod method;
+		while ((method = pending.poll()) != null)
 		{
-			Instant last = scheduledMethod.getLast();
-
-			Duration difference = Duration.between(last, now);
+			if (!method.cancelled)
+			{
+				insert(method, now + periodTicks(method));
+			}
+		}
 
-			Schedule schedule = scheduledMethod.getSchedule();
-			Duration timeSinceRun = Duration.of(schedule.period(), schedule.unit());
+		// Visit each bucket at most once, even if more than a full rotation has passed
+		final long end = Math.min(now, currentTick + WHEEL_SIZE - 1);
+		for (long tick = currentTick; tick <= end; ++tick)
+		{
+			collectDue(wheel[(int) (tick & WHEEL_MASK)], now);
+		}
+		currentTick = now + 1;
 
-			if (difference.compareTo(timeSinceRun) > 0)
-			{
-				log.trace("Scheduled task triggered: {}", scheduledMethod);
+		if (due.isEmpty())
+		{
+			return;
+		}
 
-				scheduledMethod.setLast(now);
+		for (ScheduledMethod scheduledMethod : due)
+		{
+			log.trace("Scheduled task triggered: {}", scheduledMethod);
 
-				if (schedule.asynchronous())
+			if (scheduledMethod.getSchedule().asynchronous())
+			{
+				if (scheduledMethod.running.compareAndSet(false, true))
 				{
-					executor.submit(() -> run(scheduledMethod));
+					executor.execute(() ->
+					{
+						try
+						{
+							run(scheduledMethod);
+						}
+						finally
+						{
+							scheduledMethod.running.set(false);
+						}
+					});
 				}
 				else
 				{
-					run(scheduledMethod);
+					log.debug("Skipping scheduled task {}, previous run has not finished", scheduledMethod);
+					scheduledMethod.skip();
 				}
 			}
+			else
+			{
+				run(scheduledMethod);
+			}
+
+			// Periods missed while the client was stalled are coalesced into this run
+			final long period = periodTicks(scheduledMethod);
+			long next = scheduledMethod.deadline + period;
+			if (next <= now)
+			{
+				next = now + period;
+			}
+			insert(scheduledMethod, next);
+		}
+
+		due.clear();
+	}
+
+	private void collectDue(List<ScheduledMethod> bucket, long now)
+	{
+		int keep = 0;
+		for (int i = 0; i < bucket.size(); ++i)
+		{
+			final ScheduledMethod method = bucket.get(i);
+			if (method.cancelled)
+			{
+				continue;
+			}
+
+			if (method.deadline <= now)
+			{
+				due.add(method);
+			}
+			else
+			{
+				// due in a later rotation of the wheel
+				bucket.set(keep++, method);
+			}
 		}
+
+		bucket.subList(keep, bucket.size()).clear();
+	}
+
+	private void insert(ScheduledMethod method, long deadline)
+	{
+		method.deadline = deadline;
+		wheel[(int) (deadline & WHEEL_MASK)].add(method);
+	}
+
+	private static long periodTicks(ScheduledMethod method)
+	{
+		return Math.max(1, (method.getPeriodNanos() + TICK_NANOS - 1) / TICK_NANOS);
 	}
 
 	private void run(ScheduledMethod scheduledMethod)
 	{
-		Method method = scheduledMethod.getMethod();
+		final long start = ticker.read();
 
 		try
 		{
-			method.invoke(scheduledMethod.getObject());
+			if (scheduledMethod.invoker != null)
+			{
+				scheduledMethod.invoker.run();
+			}
+			else
+			{
+				scheduledMethod.getMethod().invoke(scheduledMethod.getObject());
+			}
 		}
 		catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex)
 		{
@@ -107,5 +245,33 @@ public class Scheduler
 		{
 			log.warn("error during scheduled task", ex);
 		}
+
+		scheduledMethod.record(ticker.read() - start);
+	}
+
+	private static Runnable createInvoker(ScheduledMethod scheduledMethod)
+	{
+		final Method method = scheduledMethod.getMethod();
+		final Class<?> clazz = method.getDeclaringClass();
+
+		try
+		{
+			final MethodHandles.Lookup caller = ReflectUtil.privateLookupIn(clazz);
+			final MethodHandle target = caller.unreflect(method);
+			final CallSite site = LambdaMetafactory.metafactory(
+				caller,
+				"run",
+				MethodType.methodType(Runnable.class, clazz),
+				MethodType.methodType(void.class),
+				target,
+				MethodType.methodType(void.class));
+
+			return (Runnable) site.getTarget().invoke(scheduledMethod.getObject());
+		}
+		catch (Throwable e)
+		{
+			log.warn("Unable to create lambda for method {}", method, e);
+			return null;
+		}
 	}
 }
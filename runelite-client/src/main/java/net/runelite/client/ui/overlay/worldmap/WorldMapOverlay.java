@@ -30,7 +30,10 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.geom.Area;
 import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Client;
@@ -55,9 +58,17 @@ public class WorldMapOverlay extends Overlay
 	private static final int TOOLTIP_PADDING_HEIGHT = 1;
 	private static final int TOOLTIP_PADDING_WIDTH = 2;
 
+	/**
+	 * Distance in pixels from its world point that an image may be drawn
+	 * at, used to find the points which may be visible on the map
+	 */
+	static final int IMAGE_MARGIN = 64;
+
 	private final WorldMapPointManager worldMapPointManager;
 	private final Client client;
 
+	private List<WorldMapPoint> visiblePoints = Collections.emptyList();
+
 	@Inject
 	private WorldMapOverlay(
 		Client client,
@@ -76,9 +87,7 @@ public class WorldMapOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		final List<WorldMapPoint> points = worldMapPointManager.getWorldMapPoints();
-
-		if (points.isEmpty())
+		if (worldMapPointManager.getWorldMapPoints().isEmpty())
 		{
 			return null;
 		}
@@ -90,6 +99,12 @@ public class WorldMapOverlay extends Overlay
 		}
 
 		final Rectangle worldMapRectangle = widget.getBounds();
+		final Rectangle drawArea = new Rectangle(worldMapRectangle);
+		drawArea.grow(IMAGE_MARGIN, IMAGE_MARGIN);
+		final List<WorldMapPoint> points = worldMapPointManager.getWorldMapPoints(
+			getWorldMapArea(client.getRenderOverview(), worldMapRectangle, drawArea));
+		clearClickboxes(points);
+
 		final Area mapViewArea = getWorldMapClipArea(worldMapRectangle);
 		final Rectangle canvasBounds = client.getCanvas().getBounds();
 		// in fixed, the bounds are offset by the size of the black borders outside the canvas
@@ -179,6 +194,57 @@ public class WorldMapOverlay extends Overlay
 		return null;
 	}
 
+	/**
+	 * Clears the clickboxes of the points which were visible last frame but
+	 * are no longer, as they will not be drawn again
+	 */
+	private void clearClickboxes(List<WorldMapPoint> points)
+	{
+		if (!visiblePoints.isEmpty())
+		{
+			final Set<WorldMapPoint> visible = Collections.newSetFromMap(new IdentityHashMap<>(points.size()));
+			visible.addAll(points);
+
+			for (WorldMapPoint worldPoint : visiblePoints)
+			{
+				if (!visible.contains(worldPoint))
+				{
+					worldPoint.setClickbox(null);
+				}
+			}
+		}
+
+		visiblePoints = points;
+	}
+
+	/**
+	 * Gets the area of the world shown within an area of the world map
+	 *
+	 * @param ro           the world map render overview
+	 * @param worldMapRect bounds of the world map view
+	 * @param area         area of the world map view, in screen coordinates
+	 * @return             Rectangle of the tiles shown within the area, with a tile to spare
+	 */
+	static Rectangle getWorldMapArea(RenderOverview ro, Rectangle worldMapRect, Rectangle area)
+	{
+		final float pixelsPerTile = ro.getWorldMapZoom();
+		final int widthInTiles = (int) Math.ceil(worldMapRect.getWidth() / pixelsPerTile);
+		final int heightInTiles = (int) Math.ceil(worldMapRect.getHeight() / pixelsPerTile);
+		final Point worldMapPosition = ro.getWorldMapPosition();
+
+		final int xTileMin = worldMapPosition.getX() - widthInTiles / 2;
+		final int minX = xTileMin + (int) Math.floor((area.x - worldMapRect.x) / pixelsPerTile) - 1;
+		final int maxX = xTileMin + (int) Math.ceil((area.x + area.width - worldMapRect.x) / pixelsPerTile) + 1;
+
+		// the y axis is flipped between the world and the screen
+		final int bottom = worldMapRect.y + worldMapRect.height;
+		final int yTileMax = worldMapPosition.getY() - heightInTiles / 2;
+		final int minY = yTileMax + (int) Math.floor((bottom - (area.y + area.height)) / pixelsPerTile) - 2;
+		final int maxY = yTileMax + (int) Math.ceil((bottom - area.y) / pixelsPerTile) + 1;
+
+		return new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1);
+	}
+
 	/**
 	 * Get the screen coordinates for a WorldPoint on the world map
 	 * @param worldPoint WorldPoint to get screen coordinates of
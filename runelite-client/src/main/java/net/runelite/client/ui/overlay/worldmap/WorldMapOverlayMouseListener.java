@@ -55,13 +55,18 @@ public class WorldMapOverlayMouseListener extends MouseAdapter
 	@Override
 	public MouseEvent mousePressed(MouseEvent e)
 	{
-		final List<WorldMapPoint> worldMapPoints = worldMapPointManager.getWorldMapPoints();
-
-		if (SwingUtilities.isLeftMouseButton(e) && !worldMapPoints.isEmpty())
+		if (SwingUtilities.isLeftMouseButton(e) && !worldMapPointManager.getWorldMapPoints().isEmpty())
 		{
+			final Widget view = client.getWidget(WidgetInfo.WORLD_MAP_VIEW);
+
+			if (view == null)
+			{
+				return e;
+			}
+
 			Point mousePos = client.getMouseCanvasPosition();
 
-			for (WorldMapPoint worldMapPoint : worldMapPoints)
+			for (WorldMapPoint worldMapPoint : getWorldMapPoints(mousePos, view.getBounds()))
 			{
 				Rectangle clickbox = worldMapPoint.getClickbox();
 				if (clickbox != null && clickbox.contains(mousePos.getX(), mousePos.getY()))
@@ -83,9 +88,7 @@ public class WorldMapOverlayMouseListener extends MouseAdapter
 	@Override
 	public MouseEvent mouseMoved(MouseEvent mouseEvent)
 	{
-		final List<WorldMapPoint> worldMapPoints = worldMapPointManager.getWorldMapPoints();
-
-		if (worldMapPoints.isEmpty())
+		if (worldMapPointManager.getWorldMapPoints().isEmpty())
 		{
 			return mouseEvent;
 		}
@@ -134,7 +137,7 @@ public class WorldMapOverlayMouseListener extends MouseAdapter
 			}
 		}
 
-		for (WorldMapPoint worldMapPoint : worldMapPointManager.getWorldMapPoints())
+		for (WorldMapPoint worldMapPoint : getWorldMapPoints(mousePos, worldMapDisplay))
 		{
 			if (worldMapPoint.getClickbox() != null
 				&& worldMapPoint.getClickbox().contains(mousePos.getX(), mousePos.getY())
@@ -152,4 +155,18 @@ public class WorldMapOverlayMouseListener extends MouseAdapter
 		}
 		return mouseEvent;
 	}
+
+	/**
+	 * Gets the points which may have a clickbox under the mouse
+	 */
+	private List<WorldMapPoint> getWorldMapPoints(Point mousePos, Rectangle worldMapRect)
+	{
+		final Rectangle area = new Rectangle(
+			mousePos.getX() - WorldMapOverlay.IMAGE_MARGIN,
+			mousePos.getY() - WorldMapOverlay.IMAGE_MARGIN,
+			WorldMapOverlay.IMAGE_MARGIN * 2,
+			WorldMapOverlay.IMAGE_MARGIN * 2);
+		return worldMapPointManager.getWorldMapPoints(
+			WorldMapOverlay.getWorldMapArea(client.getRenderOverview(), worldMapRect, area));
+	}
 }
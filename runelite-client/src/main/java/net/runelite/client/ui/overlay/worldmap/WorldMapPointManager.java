@@ -24,31 +24,185 @@
  */
 package net.runelite.client.ui.overlay.worldmap;
 
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import javax.inject.Singleton;
 import lombok.AccessLevel;
 import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
 
+/**
+ * Manages the points drawn on the world map.
+ * <p>
+ * Points are indexed by their {@link WorldPoint} when added, so a point
+ * must be removed and added again for a change of its world point to be
+ * picked up.
+ */
 @Singleton
 public class WorldMapPointManager
 {
+	/**
+	 * Size of a spatial index cell, in tiles
+	 */
+	private static final int CELL_SHIFT = 6;
+
 	@Getter(AccessLevel.PACKAGE)
 	private final List<WorldMapPoint> worldMapPoints = new CopyOnWriteArrayList<>();
 
+	private Index index;
+
 	public void add(WorldMapPoint worldMapPoint)
 	{
 		worldMapPoints.add(worldMapPoint);
+		invalidate();
 	}
 
 	public void remove(WorldMapPoint worldMapPoint)
 	{
 		worldMapPoints.remove(worldMapPoint);
+		invalidate();
 	}
 
 	public void removeIf(Predicate<WorldMapPoint> filter)
 	{
 		worldMapPoints.removeIf(filter);
+		invalidate();
+	}
+
+	/**
+	 * Gets the points within the given area of the world, in the order
+	 * they were added. Points which snap to the edge of the map are always
+	 * included.
+	 *
+	 * @param area area of the world, in tiles
+	 * @return the points within the area
+	 */
+	List<WorldMapPoint> getWorldMapPoints(Rectangle area)
+	{
+		return getIndex().query(area);
+	}
+
+	private synchronized void invalidate()
+	{
+		index = null;
+	}
+
+	private synchronized Index getIndex()
+	{
+		if (index == null)
+		{
+			index = new Index(worldMapPoints.toArray(new WorldMapPoint[0]));
+		}
+		return index;
+	}
+
+	private static int cellKey(int cellX, int cellY)
+	{
+		return cellX << 16 | cellY & 0xFFFF;
+	}
+
+	/**
+	 * An immutable grid of the points at the time it was built. Cells hold
+	 * indexes into the points array in ascending order, so a query can
+	 * restore the order the points were added in.
+	 */
+	private static class Index
+	{
+		private final WorldMapPoint[] points;
+		private final Map<Integer, int[]> cells = new HashMap<>();
+		private final int[] edgePoints;
+
+		Index(WorldMapPoint[] points)
+		{
+			this.points = points;
+
+			final Map<Integer, List<Integer>> cells = new HashMap<>();
+			final List<Integer> edgePoints = new ArrayList<>();
+
+			for (int i = 0; i < points.length; ++i)
+			{
+				final WorldMapPoint point = points[i];
+				final WorldPoint worldPoint = point.getWorldPoint();
+
+				if (point.isSnapToEdge())
+				{
+					edgePoints.add(i);
+				}
+				else if (worldPoint != null)
+				{
+					final int key = cellKey(worldPoint.getX() >> CELL_SHIFT, worldPoint.getY() >> CELL_SHIFT);
+					cells.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+				}
+			}
+
+			for (Map.Entry<Integer, List<Integer>> entry : cells.entrySet())
+			{
+				this.cells.put(entry.getKey(), toArray(entry.getValue()));
+			}
+			this.edgePoints = toArray(edgePoints);
+		}
+
+		List<WorldMapPoint> query(Rectangle area)
+		{
+			final int minCellX = area.x >> CELL_SHIFT;
+			final int minCellY = area.y >> CELL_SHIFT;
+			final int maxCellX = (area.x + area.width) >> CELL_SHIFT;
+			final int maxCellY = (area.y + area.height) >> CELL_SHIFT;
+
+			int[] found = Arrays.copyOf(edgePoints, Math.max(16, edgePoints.length * 2));
+			int count = edgePoints.length;
+
+			for (int cellX = minCellX; cellX <= maxCellX; ++cellX)
+			{
+				for (int cellY = minCellY; cellY <= maxCellY; ++cellY)
+				{
+					final int[] cell = cells.get(cellKey(cellX, cellY));
+					if (cell == null)
+					{
+						continue;
+					}
+
+					for (int i : cell)
+					{
+						final WorldPoint worldPoint = points[i].getWorldPoint();
+						if (worldPoint == null || !area.contains(worldPoint.getX(), worldPoint.getY()))
+						{
+							continue;
+						}
+
+						if (count == found.length)
+						{
+							found = Arrays.copyOf(found, count * 2);
+						}
+						found[count++] = i;
+					}
+				}
+			}
+
+			Arrays.sort(found, 0, count);
+
+			final List<WorldMapPoint> result = new ArrayList<>(count);
+			for (int i = 0; i < count; ++i)
+			{
+				result.add(points[found[i]]);
+			}
+			return result;
+		}
+
+		private static int[] toArray(List<Integer> list)
+		{
+			final int[] array = new int[list.size()];
+			for (int i = 0; i < array.length; ++i)
+			{
+				array[i] = list.get(i);
+			}
+			return array;
+		}
 	}
 }
@@ -54,6 +54,12 @@ public class DeferredEventBus extends EventBus
 		eventBus.unregister(object);
 	}
 
+	@Override
+	public boolean hasSubscribers(Class<?> eventClass)
+	{
+		return eventBus.hasSubscribers(eventClass);
+	}
+
 	@Override
 	public void post(Object object)
 	{
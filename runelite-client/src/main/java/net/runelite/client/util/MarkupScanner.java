@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+/**
+ * A scanner which splits Jagex markup, such as {@code <col=ff0000>},
+ * {@code <img=2>} and {@code <br>}, into text and tag tokens without
+ * allocating.
+ * <p>
+ * A tag runs from a {@code <} up to and including the next {@code >}. A
+ * {@code <} which is not followed by a {@code >} is part of the text.
+ */
+public class MarkupScanner
+{
+	public enum Token
+	{
+		TEXT,
+		TAG,
+		END
+	}
+
+	private CharSequence text;
+	private int length;
+	private int pos;
+	private int start;
+	private int end;
+
+	public MarkupScanner()
+	{
+	}
+
+	public MarkupScanner(CharSequence text)
+	{
+		reset(text);
+	}
+
+	/**
+	 * Resets this scanner to the beginning of the given text.
+	 *
+	 * @param text the text to scan
+	 * @return this scanner
+	 */
+	public MarkupScanner reset(CharSequence text)
+	{
+		this.text = text;
+		this.length = text.length();
+		this.pos = 0;
+		this.start = 0;
+		this.end = 0;
+		return this;
+	}
+
+	/**
+	 * Advances to the next token.
+	 *
+	 * @return the type of the token, or {@link Token#END} when the text is exhausted
+	 */
+	public Token next()
+	{
+		if (pos >= length)
+		{
+			start = end = length;
+			return Token.END;
+		}
+
+		start = pos;
+
+		if (text.charAt(pos) == '<')
+		{
+			int tagEnd = tagEnd(text, pos);
+			if (tagEnd != -1)
+			{
+				end = pos = tagEnd;
+				return Token.TAG;
+			}
+
+			// no more tags can follow an unclosed <
+			end = pos = length;
+			return Token.TEXT;
+		}
+
+		int open = indexOf('<', pos + 1);
+		if (open != -1 && indexOf('>', open + 1) == -1)
+		{
+			open = -1;
+		}
+
+		end = pos = open == -1 ? length : open;
+		return Token.TEXT;
+	}
+
+	/**
+	 * @return the index of the first character of the current token
+	 */
+	public int getStart()
+	{
+		return start;
+	}
+
+	/**
+	 * @return the index after the last character of the current token
+	 */
+	public int getEnd()
+	{
+		return end;
+	}
+
+	/**
+	 * Finds the end of the tag starting at the given index.
+	 *
+	 * @param text the text
+	 * @param index the index of the tag
+	 * @return the index after the closing {@code >}, or -1 if no tag starts at the index
+	 */
+	static int tagEnd(CharSequence text, int index)
+	{
+		if (text.charAt(index) != '<')
+		{
+			return -1;
+		}
+
+		for (int i = index + 1; i < text.length(); ++i)
+		{
+			if (text.charAt(i) == '>')
+			{
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	private int indexOf(char c, int from)
+	{
+		for (int i = from; i < length; ++i)
+		{
+			if (text.charAt(i) == c)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+}
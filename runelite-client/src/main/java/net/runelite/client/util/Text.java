@@ -25,15 +25,12 @@
  */
 package net.runelite.client.util;
 
-import com.google.common.base.CharMatcher;
-import java.util.regex.Pattern;
-
 /**
  * A set of utilities to use when dealing with text.
  */
 public class Text
 {
-	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
+	private static final char NBSP = '\u00A0';
 
 	/**
 	 * Removes all tags from the given string.
@@ -43,7 +40,46 @@ public class Text
 	 */
 	public static String removeTags(String str)
 	{
-		return TAG_REGEXP.matcher(str).replaceAll("");
+		int open = str.indexOf('<');
+		if (open == -1 || str.indexOf('>', open + 1) == -1)
+		{
+			return str;
+		}
+
+		return removeTags(str, new StringBuilder(str.length())).toString();
+	}
+
+	/**
+	 * Removes all tags from the given text, appending the remaining text to
+	 * the given buffer.
+	 *
+	 * @param str The text to remove tags from.
+	 * @param out The buffer to append to.
+	 * @return The given buffer.
+	 */
+	public static StringBuilder removeTags(CharSequence str, StringBuilder out)
+	{
+		final int length = str.length();
+		int i = 0;
+		while (i < length)
+		{
+			final int tagEnd = MarkupScanner.tagEnd(str, i);
+			if (tagEnd != -1)
+			{
+				i = tagEnd;
+			}
+			else if (str.charAt(i) == '<')
+			{
+				// no more tags can follow an unclosed <
+				out.append(str, i, length);
+				break;
+			}
+			else
+			{
+				out.append(str.charAt(i++));
+			}
+		}
+		return out;
 	}
 
 	/**
@@ -54,7 +90,22 @@ public class Text
 	 */
 	public static String standardize(String str)
 	{
-		return removeTags(str).replace('\u00A0', ' ').trim().toLowerCase();
+		String stripped = removeTags(str);
+		if (stripped.indexOf(NBSP) == -1)
+		{
+			return stripped.trim().toLowerCase();
+		}
+
+		StringBuilder sb = new StringBuilder(stripped);
+		for (int i = 0; i < sb.length(); ++i)
+		{
+			if (sb.charAt(i) == NBSP)
+			{
+				sb.setCharAt(i, ' ');
+			}
+		}
+
+		return trim(sb, 0, sb.length()).toLowerCase();
 	}
 
 	/**
@@ -66,7 +117,36 @@ public class Text
 	 */
 	public static String toJagexName(String str)
 	{
-		return CharMatcher.ascii().retainFrom(str.replace('\u00A0', ' ')).replaceAll("[_-]+", " ").trim();
+		StringBuilder sb = new StringBuilder(str.length());
+		boolean separator = false;
+
+		for (int i = 0; i < str.length(); ++i)
+		{
+			char c = str.charAt(i);
+			if (c == NBSP)
+			{
+				c = ' ';
+			}
+			else if (c > 0x7F)
+			{
+				continue;
+			}
+
+			if (c == '_' || c == '-')
+			{
+				if (!separator)
+				{
+					sb.append(' ');
+					separator = true;
+				}
+				continue;
+			}
+
+			sb.append(c);
+			separator = false;
+		}
+
+		return trim(sb, 0, sb.length());
 	}
 
 	/**
@@ -78,10 +158,34 @@ public class Text
 	 */
 	public static String sanitizeMultilineText(String str)
 	{
-		return removeTags(str
-			.replaceAll("-<br>", "-")
-			.replaceAll("<br>", " ")
-			.replaceAll("[ ]+", " "));
+		StringBuilder sb = new StringBuilder(str.length());
+
+		for (int i = 0; i < str.length(); ++i)
+		{
+			char c = str.charAt(i);
+			if (c == '-' && str.startsWith("<br>", i + 1))
+			{
+				// -<br> joins the hyphenated word
+				sb.append('-');
+				i += 4;
+				continue;
+			}
+
+			if (c == '<' && str.startsWith("<br>", i))
+			{
+				c = ' ';
+				i += 3;
+			}
+
+			if (c == ' ' && sb.length() > 0 && sb.charAt(sb.length() - 1) == ' ')
+			{
+				continue;
+			}
+
+			sb.append(c);
+		}
+
+		return removeTags(sb, new StringBuilder(sb.length())).toString();
 	}
 
 	/**
@@ -114,4 +218,22 @@ public class Text
 
 		return out.toString();
 	}
+
+	/**
+	 * Equivalent to {@link String#trim()} over a range of the given text.
+	 */
+	private static String trim(CharSequence str, int start, int end)
+	{
+		while (start < end && str.charAt(start) <= ' ')
+		{
+			start++;
+		}
+
+		while (start < end && str.charAt(end - 1) <= ' ')
+		{
+			end--;
+		}
+
+		return str.subSequence(start, end).toString();
+	}
 }
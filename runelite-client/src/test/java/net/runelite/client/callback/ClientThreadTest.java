@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientThreadTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Inject
+	private ClientThread clientThread;
+
+	private final List<String> ran = new ArrayList<>();
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testPriority()
+	{
+		clientThread.invokeLater(ClientThread.Priority.LOW, () -> ran.add("low"));
+		clientThread.invokeLater(() -> ran.add("normal"));
+		clientThread.invokeLater(ClientThread.Priority.HIGH, () -> ran.add("high"));
+
+		when(client.isClientThread()).thenReturn(true);
+		clientThread.invoke();
+
+		assertEquals(Arrays.asList("high", "normal", "low"), ran);
+	}
+
+	@Test
+	public void testRetry()
+	{
+		int[] attempts = new int[1];
+		clientThread.invokeLater(() -> ++attempts[0] == 3);
+
+		when(client.isClientThread()).thenReturn(true);
+		for (int i = 0; i < 5; ++i)
+		{
+			clientThread.invoke();
+		}
+
+		// retried once per frame until it returns true
+		assertEquals(3, attempts[0]);
+	}
+
+	@Test
+	public void testInvokeOnClientThread()
+	{
+		when(client.isClientThread()).thenReturn(true);
+
+		int[] runs = new int[1];
+		clientThread.invoke(() -> ++runs[0]);
+		assertEquals(1, runs[0]);
+
+		clientThread.invoke();
+		assertEquals(1, runs[0]);
+	}
+
+	@Test
+	public void testBudget()
+	{
+		clientThread.setFrameBudget(0);
+		for (int i = 0; i < 3; ++i)
+		{
+			final String name = "task" + i;
+			clientThread.invokeLater(() -> ran.add(name));
+			clientThread.invokeLater(ClientThread.Priority.HIGH, () -> ran.add("high"));
+		}
+
+		when(client.isClientThread()).thenReturn(true);
+		clientThread.invoke();
+
+		// all high priority tasks are ran, and one task from the normal lane
+		assertEquals(Arrays.asList("high", "high", "high", "task0"), ran);
+
+		clientThread.invoke();
+		clientThread.invoke();
+		assertEquals(Arrays.asList("high", "high", "high", "task0", "task1", "task2"), ran);
+	}
+
+	@Test
+	public void testInvokeAtTick()
+	{
+		when(client.isClientThread()).thenReturn(true);
+		when(client.getTickCount()).thenReturn(10);
+		clientThread.invokeAtTick(2, ClientThread.Priority.NORMAL, () -> ran.add("tick"));
+
+		clientThread.invoke();
+		when(client.getTickCount()).thenReturn(11);
+		clientThread.invoke();
+		assertTrue(ran.isEmpty());
+
+		when(client.getTickCount()).thenReturn(12);
+		clientThread.invoke();
+		assertEquals(Arrays.asList("tick"), ran);
+	}
+}
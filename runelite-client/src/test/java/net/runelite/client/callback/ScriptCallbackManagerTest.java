@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.events.ScriptCallbackEvent;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Test;
+
+public class ScriptCallbackManagerTest
+{
+	private final ScriptCallbackManager scriptCallbackManager = new ScriptCallbackManager();
+	private final List<String> handled = new ArrayList<>();
+
+	@Test
+	public void testGetId()
+	{
+		int a = scriptCallbackManager.getId("a");
+		int b = scriptCallbackManager.getId("b");
+
+		assertNotEquals(a, b);
+		assertEquals(a, scriptCallbackManager.getId("a"));
+	}
+
+	@Test
+	public void testDispatch()
+	{
+		Object subscriber = new Object();
+		scriptCallbackManager.register(subscriber, "a", e -> handled.add("a1"));
+		scriptCallbackManager.register(this, "a", e -> handled.add("a2"));
+		scriptCallbackManager.register(this, "b", e -> handled.add("b"));
+
+		dispatch("a");
+		dispatch("b");
+		dispatch("c");
+		assertEquals(Arrays.asList("a1", "a2", "b"), handled);
+
+		handled.clear();
+		scriptCallbackManager.unregister(this);
+
+		dispatch("a");
+		dispatch("b");
+		assertEquals(Arrays.asList("a1"), handled);
+	}
+
+	@Test
+	public void testHandlerException()
+	{
+		scriptCallbackManager.register(this, "a", e ->
+		{
+			throw new IllegalStateException();
+		});
+		scriptCallbackManager.register(this, "a", e -> handled.add("a"));
+
+		dispatch("a");
+		assertEquals(Arrays.asList("a"), handled);
+	}
+
+	private void dispatch(String name)
+	{
+		ScriptCallbackEvent event = new ScriptCallbackEvent();
+		event.setEventName(name);
+		scriptCallbackManager.dispatch(scriptCallbackManager.getId(name), event);
+	}
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private static class TestEvent
+	{
+	}
+
+	private static class OtherEvent
+	{
+	}
+
+	private static class TestSubscriber
+	{
+		private int count;
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			++count;
+		}
+	}
+
+	private static class OrderedSubscriber
+	{
+		private final List<String> order;
+		private final String name;
+
+		OrderedSubscriber(List<String> order, String name)
+		{
+			this.order = order;
+			this.name = name;
+		}
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			order.add(name);
+		}
+	}
+
+	private static class PrioritySubscriber
+	{
+		private final List<String> order;
+
+		PrioritySubscriber(List<String> order)
+		{
+			this.order = order;
+		}
+
+		@Subscribe(priority = 1)
+		public void onTestEvent(TestEvent event)
+		{
+			order.add("priority");
+		}
+	}
+
+	private static class AsyncSubscriber
+	{
+		private final CountDownLatch latch;
+		private final List<Thread> threads = new ArrayList<>();
+
+		AsyncSubscriber(CountDownLatch latch)
+		{
+			this.latch = latch;
+		}
+
+		@Subscribe(async = true)
+		public void onTestEvent(TestEvent event)
+		{
+			threads.add(Thread.currentThread());
+			latch.countDown();
+		}
+	}
+
+	private static class SequenceEvent
+	{
+		private final int sequence;
+
+		SequenceEvent(int sequence)
+		{
+			this.sequence = sequence;
+		}
+	}
+
+	private static class SequenceSubscriber
+	{
+		private final List<Integer> sequences = new ArrayList<>();
+
+		@Subscribe(async = true)
+		public void onSequenceEvent(SequenceEvent event)
+		{
+			sequences.add(event.sequence);
+		}
+	}
+
+	private static class SceneLoadSubscriber
+	{
+		private int count;
+
+		@Subscribe(skipSceneLoad = true)
+		public void onTestEvent(TestEvent event)
+		{
+			++count;
+		}
+	}
+
+	@Test
+	public void testHasSubscribers()
+	{
+		EventBus eventBus = new EventBus();
+		TestSubscriber subscriber = new TestSubscriber();
+
+		assertFalse(eventBus.hasSubscribers(TestEvent.class));
+
+		eventBus.register(subscriber);
+		assertTrue(eventBus.hasSubscribers(TestEvent.class));
+		assertFalse(eventBus.hasSubscribers(OtherEvent.class));
+
+		eventBus.unregister(subscriber);
+		assertFalse(eventBus.hasSubscribers(TestEvent.class));
+	}
+
+	@Test
+	public void testPost()
+	{
+		EventBus eventBus = new EventBus();
+		TestSubscriber subscriber = new TestSubscriber();
+
+		eventBus.register(subscriber);
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(1, subscriber.count);
+
+		eventBus.unregister(subscriber);
+		eventBus.post(new TestEvent());
+		assertEquals(1, subscriber.count);
+	}
+
+	@Test
+	public void testPriority()
+	{
+		EventBus eventBus = new EventBus();
+		List<String> order = new ArrayList<>();
+		OrderedSubscriber first = new OrderedSubscriber(order, "first");
+
+		eventBus.register(first);
+		eventBus.register(new OrderedSubscriber(order, "second"));
+		eventBus.register(new PrioritySubscriber(order));
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("priority", "first", "second"), order);
+
+		order.clear();
+		eventBus.unregister(first);
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("priority", "second"), order);
+	}
+
+	@Test
+	public void testSubscriberStats()
+	{
+		EventBus eventBus = new EventBus();
+		TestSubscriber subscriber = new TestSubscriber();
+
+		eventBus.register(subscriber);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+
+		EventBus.SubscriberStats stats = eventBus.getSubscriberStats().get(TestSubscriber.class.getName() + ".onTestEvent");
+		assertEquals(2, stats.getCount());
+		assertTrue(stats.getMaxNanos() <= stats.getTotalNanos());
+	}
+
+	@Test
+	public void testAsync() throws InterruptedException
+	{
+		EventBus eventBus = new EventBus();
+		CountDownLatch latch = new CountDownLatch(3);
+		AsyncSubscriber subscriber = new AsyncSubscriber(latch);
+
+		eventBus.register(subscriber);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(3, subscriber.threads.size());
+		assertNotSame(Thread.currentThread(), subscriber.threads.get(0));
+	}
+
+	@Test
+	public void testAsyncOverflow()
+	{
+		// nothing is ran until the test drains the tasks, so the queue fills up
+		List<Runnable> tasks = new ArrayList<>();
+		EventBus eventBus = new EventBus(e -> fail(), tasks::add);
+		SequenceSubscriber subscriber = new SequenceSubscriber();
+
+		eventBus.register(subscriber);
+		for (int i = 0; i < 266; ++i)
+		{
+			eventBus.post(new SequenceEvent(i));
+		}
+
+		EventBus.SubscriberStats stats = eventBus.getSubscriberStats().get(SequenceSubscriber.class.getName() + ".onSequenceEvent");
+		assertEquals(10, stats.getDropped());
+		assertEquals(1, tasks.size());
+		assertTrue(subscriber.sequences.isEmpty());
+
+		tasks.remove(0).run();
+		assertEquals(256, subscriber.sequences.size());
+		assertEquals(255, (int) subscriber.sequences.get(255));
+		assertTrue(tasks.isEmpty());
+
+		// once drained the queue accepts events again
+		eventBus.post(new SequenceEvent(266));
+		assertEquals(1, tasks.size());
+		assertEquals(10, stats.getDropped());
+	}
+
+	@Test
+	public void testAsyncOrdering()
+	{
+		List<Runnable> tasks = new ArrayList<>();
+		EventBus eventBus = new EventBus(e -> fail(), tasks::add);
+		SequenceSubscriber subscriber = new SequenceSubscriber();
+		List<Integer> expected = new ArrayList<>();
+
+		eventBus.register(subscriber);
+		for (int i = 0; i < 100; ++i)
+		{
+			eventBus.post(new SequenceEvent(i));
+			expected.add(i);
+		}
+
+		// a single drain task at a time means the subscriber is never invoked concurrently
+		assertEquals(1, tasks.size());
+		tasks.remove(0).run();
+		assertEquals(expected, subscriber.sequences);
+		assertTrue(tasks.isEmpty());
+	}
+
+	@Test
+	public void testAsyncUnregister()
+	{
+		List<Runnable> tasks = new ArrayList<>();
+		EventBus eventBus = new EventBus(e -> fail(), tasks::add);
+		SequenceSubscriber subscriber = new SequenceSubscriber();
+
+		eventBus.register(subscriber);
+		for (int i = 0; i < 5; ++i)
+		{
+			eventBus.post(new SequenceEvent(i));
+		}
+
+		eventBus.unregister(subscriber);
+		eventBus.post(new SequenceEvent(5));
+
+		assertEquals(1, tasks.size());
+		tasks.remove(0).run();
+		assertTrue(subscriber.sequences.isEmpty());
+	}
+
+	@Test
+	public void testSkipSceneLoad()
+	{
+		EventBus eventBus = new EventBus();
+		SceneLoadSubscriber sceneLoadSubscriber = new SceneLoadSubscriber();
+		TestSubscriber subscriber = new TestSubscriber();
+
+		eventBus.register(sceneLoadSubscriber);
+		assertTrue(eventBus.hasSubscribers(TestEvent.class));
+		assertFalse(eventBus.hasSceneLoadSubscribers(TestEvent.class));
+
+		eventBus.postSceneLoad(new TestEvent());
+		assertEquals(0, sceneLoadSubscriber.count);
+		eventBus.post(new TestEvent());
+		assertEquals(1, sceneLoadSubscriber.count);
+
+		eventBus.register(subscriber);
+		assertTrue(eventBus.hasSceneLoadSubscribers(TestEvent.class));
+
+		eventBus.postSceneLoad(new TestEvent());
+		assertEquals(1, sceneLoadSubscriber.count);
+		assertEquals(1, subscriber.count);
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemIconStoreTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ItemIconStore store;
+
+	@Before
+	public void before() throws IOException
+	{
+		store = new ItemIconStore(folder.newFolder("item-icons"));
+	}
+
+	@Test
+	public void testRoundTrip()
+	{
+		BufferedImage icon = icon(36, 32);
+		store.store(0x1234, 4151, 1, false, icon);
+
+		BufferedImage loaded = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		assertTrue(store.load(0x1234, 4151, 1, false, loaded));
+		for (int y = 0; y < 32; ++y)
+		{
+			for (int x = 0; x < 36; ++x)
+			{
+				assertEquals(icon.getRGB(x, y), loaded.getRGB(x, y));
+			}
+		}
+
+		// the quantity, stackable state and cache version are all part of the key
+		assertFalse(store.load(0x1234, 4151, 2, false, loaded));
+		assertFalse(store.load(0x1234, 4151, 1, true, loaded));
+		assertFalse(store.load(0x4321, 4151, 1, false, loaded));
+	}
+
+	@Test
+	public void testSizeMismatch()
+	{
+		store.store(0x1234, 995, 1000, true, icon(36, 32));
+
+		assertFalse(store.load(0x1234, 995, 1000, true, new BufferedImage(32, 32, BufferedImage.TYPE_INT_ARGB)));
+		assertTrue(store.load(0x1234, 995, 1000, true, new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB)));
+	}
+
+	@Test
+	public void testPrune()
+	{
+		store.store(0x1234, 4151, 1, false, icon(36, 32));
+		store.store(0x4321, 4151, 1, false, icon(36, 32));
+		store.store(0x4321, 995, 1000, true, icon(36, 32));
+
+		store.prune(0x1234);
+
+		BufferedImage loaded = new BufferedImage(36, 32, BufferedImage.TYPE_INT_ARGB);
+		assertTrue(store.load(0x1234, 4151, 1, false, loaded));
+		assertFalse(store.load(0x4321, 4151, 1, false, loaded));
+		assertFalse(store.load(0x4321, 995, 1000, true, loaded));
+
+		File[] versions = new File(folder.getRoot(), "item-icons").listFiles();
+		assertEquals(1, versions.length);
+		assertEquals("1234", versions[0].getName());
+	}
+
+	private static BufferedImage icon(int width, int height)
+	{
+		BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < height; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				img.setRGB(x, y, (x * 7) << 24 | (y * 5) << 16 | x * y);
+			}
+		}
+		return img;
+	}
+}
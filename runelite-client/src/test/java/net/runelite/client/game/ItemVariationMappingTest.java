@@ -346,4 +346,16 @@ public class ItemVariationMappingTest
 			assertEquals(value, (Integer) ItemVariationMapping.map(key));
 		});
 	}
+
+	@Test
+	public void testCompiledTable()
+	{
+		// variations map to the first item of their group in item_variations.json
+		assertEquals(ABYSSAL_WHIP, ItemVariationMapping.map(VOLCANIC_ABYSSAL_WHIP));
+		assertEquals(ABYSSAL_WHIP, ItemVariationMapping.map(ABYSSAL_WHIP));
+		// items without variations, and ids outside of the table, are unchanged
+		assertEquals(FEATHER, ItemVariationMapping.map(FEATHER));
+		assertEquals(-1, ItemVariationMapping.map(-1));
+		assertEquals(Integer.MAX_VALUE, ItemVariationMapping.map(Integer.MAX_VALUE));
+	}
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.inject.Guice;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NPCManagerTest
+{
+	private NPCManager npcManager;
+
+	@Before
+	public void before()
+	{
+		npcManager = Guice.createInjector().getInstance(NPCManager.class);
+	}
+
+	@Test
+	public void testHealth()
+	{
+		// entries of npc_health.json, read back from the compiled npc_health.bin
+		assertEquals(5, (int) npcManager.getHealth("Goblin", 2));
+		assertEquals(12, (int) npcManager.getHealth("Goblin", 5));
+		assertEquals(8, (int) npcManager.getHealth("Cow", 2));
+		assertEquals(90, (int) npcManager.getHealth("Aberrant spectre", 96));
+	}
+
+	@Test
+	public void testUnknown()
+	{
+		assertNull(npcManager.getHealth("Goblin", 3));
+		assertNull(npcManager.getHealth("goblin", 2));
+		assertNull(npcManager.getHealth("Zezima", 126));
+		assertNull(npcManager.getHealth(null, 2));
+	}
+}
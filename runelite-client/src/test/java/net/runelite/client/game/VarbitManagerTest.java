@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.function.BooleanSupplier;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.VarPlayer;
+import net.runelite.api.Varbits;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.callback.ClientThread;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class VarbitManagerTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private ClientThread clientThread;
+
+	@Inject
+	private VarbitManager varbitManager;
+
+	private final int[] varps = new int[2000];
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		when(client.isClientThread()).thenReturn(true);
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		when(client.getVarps()).thenReturn(varps);
+		doAnswer(a ->
+		{
+			((BooleanSupplier) a.getArguments()[0]).getAsBoolean();
+			return null;
+		}).when(clientThread).invokeLater(any(BooleanSupplier.class));
+	}
+
+	@Test
+	public void testRegisterBeforeCacheLoad()
+	{
+		final int varp = 1000;
+		when(client.getGameState()).thenReturn(GameState.STARTING);
+		when(client.getVarbitVarpIndex(Varbits.KINGDOM_FAVOR.getId())).thenReturn(varp);
+		when(client.getVarbitValue(varps, Varbits.KINGDOM_FAVOR.getId())).thenAnswer(a -> varps[varp] & 0xff);
+
+		ArgumentCaptor<BooleanSupplier> captor = ArgumentCaptor.forClass(BooleanSupplier.class);
+		doNothing().when(clientThread).invokeLater(captor.capture());
+
+		VarChangeListener listener = mock(VarChangeListener.class);
+		varbitManager.register(Varbits.KINGDOM_FAVOR, listener);
+
+		// the varbit definitions can't be read until the cache is loaded
+		BooleanSupplier task = captor.getValue();
+		assertFalse(task.getAsBoolean());
+		verify(client, never()).getVarbitVarpIndex(anyInt());
+
+		when(client.getGameState()).thenReturn(GameState.LOGIN_SCREEN);
+		assertTrue(task.getAsBoolean());
+
+		varps[varp] = 0x17f;
+		varbitManager.onVarbitChanged(changed(varp));
+		verify(listener).varChanged(0, 127);
+	}
+
+	@Test
+	public void testVarPlayer()
+	{
+		VarChangeListener listener = mock(VarChangeListener.class);
+		varbitManager.register(VarPlayer.SPECIAL_ATTACK_PERCENT, listener);
+
+		varps[VarPlayer.SPECIAL_ATTACK_PERCENT.getId()] = 500;
+		varbitManager.onVarbitChanged(changed(VarPlayer.SPECIAL_ATTACK_PERCENT.getId() + 1));
+		verify(listener, never()).varChanged(anyInt(), anyInt());
+
+		varbitManager.onVarbitChanged(changed(VarPlayer.SPECIAL_ATTACK_PERCENT.getId()));
+		verify(listener).varChanged(0, 500);
+
+		// unchanged values aren't dispatched again
+		varbitManager.onVarbitChanged(new VarbitChanged());
+		verify(listener).varChanged(anyInt(), anyInt());
+	}
+
+	@Test
+	public void testVarbit()
+	{
+		final int varp = 1000;
+		when(client.getVarbitVarpIndex(Varbits.KINGDOM_FAVOR.getId())).thenReturn(varp);
+		when(client.getVarbitValue(varps, Varbits.KINGDOM_FAVOR.getId())).thenAnswer(a -> varps[varp] & 0xff);
+
+		VarChangeListener listener = mock(VarChangeListener.class);
+		varbitManager.register(Varbits.KINGDOM_FAVOR, listener);
+
+		varps[varp] = 0x100;
+		varbitManager.onVarbitChanged(changed(varp));
+		verify(listener, never()).varChanged(anyInt(), anyInt());
+
+		varps[varp] = 0x17f;
+		varbitManager.onVarbitChanged(changed(varp));
+		verify(listener).varChanged(0, 127);
+
+		varbitManager.unregister(listener);
+		varps[varp] = 0;
+		varbitManager.onVarbitChanged(changed(varp));
+		verify(listener).varChanged(anyInt(), anyInt());
+	}
+
+	@Test
+	public void testVarbitIndex()
+	{
+		when(client.getVarbitVarpIndex(anyInt())).thenAnswer(a ->
+		{
+			int varbitId = (int) a.getArguments()[0];
+			if (varbitId >= 4)
+			{
+				throw new IndexOutOfBoundsException();
+			}
+			return varbitId / 2;
+		});
+
+		assertArrayEquals(new int[]{0, 1}, varbitManager.getVarbits(0));
+		assertArrayEquals(new int[]{2, 3}, varbitManager.getVarbits(1));
+		assertArrayEquals(new int[0], varbitManager.getVarbits(2));
+	}
+
+	private static VarbitChanged changed(int index)
+	{
+		VarbitChanged event = new VarbitChanged();
+		event.setIndex(index);
+		return event;
+	}
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import net.runelite.api.Client;
+import net.runelite.client.util.Text;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class MenuSwapperTest
+{
+	/**
+	 * Menus recorded in game, bottom entry first, as they are when the last
+	 * entry is added.
+	 */
+	private static final String[][][] MENUS = {
+		{
+			{"Cancel", ""},
+			{"Walk here", ""},
+			{"Examine", "<col=ffff00>Banker"},
+			{"Collect", "<col=ffff00>Banker"},
+			{"Bank", "<col=ffff00>Banker"},
+			{"Talk-to", "<col=ffff00>Banker"},
+		},
+		{
+			{"Cancel", ""},
+			{"Walk here", ""},
+			{"Examine", "<col=ffff00>Captain Tobias"},
+			{"Pay-fare", "<col=ffff00>Captain Tobias"},
+			{"Talk-to", "<col=ffff00>Captain Tobias"},
+		},
+		{
+			{"Cancel", ""},
+			{"Walk here", ""},
+			{"Examine", "<col=ffff00>Fishing spot"},
+			{"Harpoon", "<col=ffff00>Fishing spot"},
+			{"Cage", "<col=ffff00>Fishing spot"},
+		},
+		{
+			{"Cancel", ""},
+			{"Walk here", ""},
+			{"Examine", "<col=ffff>Fairy ring"},
+			{"Last-destination (DKS)", "<col=ffff>Fairy ring"},
+			{"Configure", "<col=ffff>Fairy ring"},
+			{"Zanaris", "<col=ffff>Fairy ring"},
+		},
+		{
+			{"Cancel", ""},
+			{"Walk here", ""},
+			{"Examine", "<col=ffff>Portal"},
+			{"Friend's house", "<col=ffff>Portal"},
+			{"Build mode", "<col=ffff>Portal"},
+			{"Home", "<col=ffff>Portal"},
+			{"Enter", "<col=ffff>Portal"},
+		},
+		{
+			{"Cancel", ""},
+			{"Walk here", ""},
+			{"Examine", "<col=ff9040>Amulet of glory(4)"},
+			{"Drop", "<col=ff9040>Amulet of glory(4)"},
+			{"Use", "<col=ff9040>Amulet of glory(4)"},
+			{"Rub", "<col=ff9040>Amulet of glory(4)"},
+			{"Wear", "<col=ff9040>Amulet of glory(4)"},
+		},
+	};
+
+	private MenuEntrySwapperConfig config;
+
+	private String[] options;
+	private String[] targets;
+	private int count;
+
+	private Client client;
+
+	@Before
+	public void before()
+	{
+		config = mock(MenuEntrySwapperConfig.class);
+		when(config.swapBank()).thenReturn(true);
+		when(config.swapTravel()).thenReturn(true);
+		when(config.swapHarpoon()).thenReturn(true);
+		when(config.swapTeleportItem()).thenReturn(true);
+		when(config.swapHomePortal()).thenReturn(HouseMode.BUILD_MODE);
+		when(config.swapFairyRing()).thenReturn(FairyRingMode.LAST_DESTINATION);
+
+		client = mock(Client.class, withSettings().stubOnly());
+		when(client.getMenuEntryCount()).thenAnswer(a -> count);
+		when(client.getMenuEntryOption(anyInt())).thenAnswer(a -> options[(int) a.getArguments()[0]]);
+		when(client.getMenuEntryTarget(anyInt())).thenAnswer(a -> targets[(int) a.getArguments()[0]]);
+		doAnswer(a ->
+		{
+			int i = (int) a.getArguments()[0];
+			int j = (int) a.getArguments()[1];
+			swap(options, i, j);
+			swap(targets, i, j);
+			return null;
+		}).when(client).swapMenuEntries(anyInt(), anyInt());
+	}
+
+	@Test
+	public void testCompile()
+	{
+		SwapRuleTable table = SwapRuleTable.compile(config);
+
+		assertNotNull(table.getRules("talk-to"));
+		assertTrue(table.getRules("talk-to").isAll());
+		assertNotNull(table.getRules("cage"));
+		assertNull(table.getRules("check"));
+		assertNull(table.getRules("wear"));
+		assertNotNull(table.getItemRules("wear"));
+	}
+
+	@Test
+	public void testSwap()
+	{
+		SwapRuleTable table = SwapRuleTable.compile(config);
+		MenuSwapper menuSwapper = new MenuSwapper(client);
+
+		for (String[][] menu : MENUS)
+		{
+			load(menu);
+			applyNew(table, menuSwapper);
+			String[] expectedOptions = options.clone();
+
+			load(menu);
+			applyOld();
+
+			assertArrayEquals(expectedOptions, options);
+		}
+
+		load(MENUS[0]);
+		applyNew(table, menuSwapper);
+		assertArrayEquals(new String[]{"Cancel", "Walk here", "Examine", "Collect", "Talk-to", "Bank"}, options);
+
+		load(MENUS[4]);
+		applyNew(table, menuSwapper);
+		assertArrayEquals(new String[]{"Cancel", "Walk here", "Examine", "Friend's house", "Enter", "Home", "Build mode"}, options);
+	}
+
+	private void load(String[][] menu)
+	{
+		count = menu.length;
+		options = new String[count];
+		targets = new String[count];
+		for (int i = 0; i < count; ++i)
+		{
+			options[i] = menu[i][0];
+			targets[i] = menu[i][1];
+		}
+	}
+
+	private void applyNew(SwapRuleTable table, MenuSwapper menuSwapper)
+	{
+		String option = MenuSwapper.normalize(options[count - 1]);
+		String target = MenuSwapper.normalize(targets[count - 1]);
+
+		SwapRuleTable.OptionRules rules = table.getRules(option);
+		if (rules != null && menuSwapper.apply(rules, option, target))
+		{
+			return;
+		}
+
+		rules = table.getItemRules(option);
+		if (rules != null)
+		{
+			menuSwapper.apply(rules, option, target);
+		}
+	}
+
+	/**
+	 * The if-chain of MenuEntrySwapperPlugin prior to the rule table, which
+	 * normalizes every menu entry twice per swap.
+	 */
+	private void applyOld()
+	{
+		final String option = Text.removeTags(options[count - 1]).toLowerCase();
+		final String target = Text.removeTags(targets[count - 1]).toLowerCase();
+
+		if (option.equals("talk-to"))
+		{
+			if (config.swapPickpocket() && target.contains("h.a.m."))
+			{
+				swapOld("pickpocket", option, target, true);
+			}
+
+			if (config.swapAbyssTeleport() && target.contains("mage of zamorak"))
+			{
+				swapOld("teleport", option, target, true);
+			}
+
+			if (config.swapBank())
+			{
+				swapOld("bank", option, target, true);
+			}
+
+			if (config.swapExchange())
+			{
+				swapOld("exchange", option, target, true);
+			}
+
+			if (config.swapDarkMage())
+			{
+				swapOld("repairs", option, target, true);
+			}
+
+			if (config.swapAssignment())
+			{
+				swapOld("assignment", option, target, true);
+			}
+
+			if (config.swapTrade())
+			{
+				swapOld("trade", option, target, true);
+				swapOld("trade-with", option, target, true);
+			}
+
+			if (config.claimSlime() && target.equals("robin"))
+			{
+				swapOld("claim-slime", option, target, true);
+			}
+
+			if (config.swapTravel())
+			{
+				swapOld("travel", option, target, true);
+				swapOld("pay-fare", option, target, true);
+				swapOld("charter", option, target, true);
+				swapOld("take-boat", option, target, true);
+				swapOld("fly", option, target, true);
+				swapOld("jatizso", option, target, true);
+				swapOld("neitiznot", option, target, true);
+				swapOld("rellekka", option, target, true);
+				swapOld("follow", option, target, true);
+				swapOld("transport", option, target, true);
+			}
+
+			if (config.swapPay())
+			{
+				swapOld("pay", option, target, true);
+				swapOld("pay (", option, target, false);
+			}
+
+			if (config.swapDecant())
+			{
+				swapOld("decant", option, target, true);
+			}
+
+			if (config.swapQuick())
+			{
+				swapOld("quick-travel", option, target, true);
+			}
+		}
+		else if (config.swapTravel() && option.equals("pass") && target.equals("energy barrier"))
+		{
+			swapOld("pay-toll(2-ecto)", option, target, true);
+		}
+		else if (config.swapTravel() && option.equals("open") && target.equals("gate"))
+		{
+			swapOld("pay-toll(10gp)", option, target, true);
+		}
+		else if (config.swapTravel() && option.equals("inspect") && target.equals("trapdoor"))
+		{
+			swapOld("travel", option, target, true);
+		}
+		else if (config.swapHarpoon() && option.equals("cage"))
+		{
+			swapOld("harpoon", option, target, true);
+		}
+		else if (config.swapHarpoon() && (option.equals("big net") || option.equals("net")))
+		{
+			swapOld("harpoon", option, target, true);
+		}
+		else if (config.swapHomePortal() != HouseMode.ENTER && option.equals("enter"))
+		{
+			switch (config.swapHomePortal())
+			{
+				case HOME:
+					swapOld("home", option, target, true);
+					break;
+				case BUILD_MODE:
+					swapOld("build mode", option, target, true);
+					break;
+				case FRIENDS_HOUSE:
+					swapOld("friend's house", option, target, true);
+					break;
+			}
+		}
+		else if (config.swapFairyRing() != FairyRingMode.OFF && config.swapFairyRing() != FairyRingMode.ZANARIS
+			&& (option.equals("zanaris") || option.equals("configure") || option.equals("tree")))
+		{
+			if (config.swapFairyRing() == FairyRingMode.LAST_DESTINATION)
+			{
+				swapOld("last-destination", option, target, false);
+			}
+			else if (config.swapFairyRing() == FairyRingMode.CONFIGURE)
+			{
+				swapOld("configure", option, target, false);
+			}
+		}
+		else if (config.swapFairyRing() == FairyRingMode.ZANARIS && option.equals("tree"))
+		{
+			swapOld("zanaris", option, target, false);
+		}
+		else if (config.swapBoxTrap() && (option.equals("check") || option.equals("dismantle")))
+		{
+			swapOld("reset", option, target, true);
+		}
+		else if (config.swapBoxTrap() && option.equals("take"))
+		{
+			swapOld("lay", option, target, true);
+		}
+		else if (config.swapChase() && option.equals("pick-up"))
+		{
+			swapOld("chase", option, target, true);
+		}
+		else if (config.swapBirdhouseEmpty() && option.equals("interact") && target.contains("birdhouse"))
+		{
+			swapOld("empty", option, target, true);
+		}
+		else if (config.swapQuick() && option.equals("ring"))
+		{
+			swapOld("quick-start", option, target, true);
+		}
+		else if (config.swapQuick() && option.equals("pass"))
+		{
+			swapOld("quick-pass", option, target, true);
+			swapOld("quick pass", option, target, true);
+		}
+		else if (config.swapAdmire() && option.equals("admire"))
+		{
+			swapOld("teleport", option, target, true);
+			swapOld("spellbook", option, target, true);
+			swapOld("perks", option, target, true);
+		}
+		else if (config.swapPrivate() && option.equals("shared"))
+		{
+			swapOld("private", option, target, true);
+		}
+		// shift-click customization is skipped, the recorded menus are opened without shift held
+		else if (config.swapTeleportItem() && option.equals("wear"))
+		{
+			swapOld("rub", option, target, true);
+			swapOld("teleport", option, target, true);
+		}
+		else if (option.equals("wield"))
+		{
+			if (config.swapTeleportItem())
+			{
+				swapOld("teleport", option, target, true);
+			}
+		}
+		else if (config.swapBones() && option.equals("bury"))
+		{
+			swapOld("use", option, target, true);
+		}
+	}
+
+	private void swapOld(String optionA, String optionB, String target, boolean strict)
+	{
+		int idxA = searchIndexOld(optionA, target, strict);
+		int idxB = searchIndexOld(optionB, target, strict);
+
+		if (idxA >= 0 && idxB >= 0)
+		{
+			client.swapMenuEntries(idxA, idxB);
+		}
+	}
+
+	private int searchIndexOld(String option, String target, boolean strict)
+	{
+		for (int i = client.getMenuEntryCount() - 1; i >= 0; i--)
+		{
+			String entryOption = Text.removeTags(client.getMenuEntryOption(i)).toLowerCase();
+			String entryTarget = Text.removeTags(client.getMenuEntryTarget(i)).toLowerCase();
+
+			if (strict ? entryOption.equals(option) : entryOption.contains(option.toLowerCase()))
+			{
+				if (entryTarget.equals(target))
+				{
+					return i;
+				}
+			}
+		}
+
+		return -1;
+	}
+
+	private static void swap(String[] array, int i, int j)
+	{
+		String tmp = array[i];
+		array[i] = array[j];
+		array[j] = tmp;
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import com.google.common.base.Ticker;
+import java.lang.reflect.Method;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class SchedulerTest
+{
+	public static class TestPlugin
+	{
+		private int count;
+		private int slow;
+		private int async;
+
+		@Schedule(period = 20, unit = ChronoUnit.MILLIS)
+		public void tick()
+		{
+			++count;
+		}
+
+		@Schedule(period = 20, unit = ChronoUnit.SECONDS)
+		public void slow()
+		{
+			++slow;
+		}
+
+		@Schedule(period = 100, unit = ChronoUnit.MILLIS, asynchronous = true)
+		public void async()
+		{
+			++async;
+		}
+	}
+
+	private long nanos;
+	private final List<Runnable> tasks = new ArrayList<>();
+	private Scheduler scheduler;
+	private TestPlugin plugin;
+
+	@Before
+	public void before()
+	{
+		scheduler = new Scheduler(new Ticker()
+		{
+			@Override
+			public long read()
+			{
+				return nanos;
+			}
+		});
+
+		ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+		doAnswer(a ->
+		{
+			tasks.add((Runnable) a.getArguments()[0]);
+			return null;
+		}).when(executor).execute(any(Runnable.class));
+		scheduler.executor = executor;
+
+		plugin = new TestPlugin();
+	}
+
+	@Test
+	public void testTick() throws Exception
+	{
+		ScheduledMethod scheduledMethod = schedule("tick");
+
+		for (int i = 0; i < 20; ++i)
+		{
+			advance(20);
+		}
+
+		assertEquals(19, plugin.count);
+		assertEquals(plugin.count, scheduledMethod.getRuns());
+
+		scheduler.removeScheduledMethod(scheduledMethod);
+		for (int i = 0; i < 10; ++i)
+		{
+			advance(20);
+		}
+
+		assertEquals(19, plugin.count);
+	}
+
+	@Test
+	public void testCoalesce() throws Exception
+	{
+		ScheduledMethod scheduledMethod = schedule("tick");
+		advance(0);
+
+		// a stall of 50 periods runs the method once
+		advance(1000);
+		assertEquals(1, plugin.count);
+
+		// and the next run is a full period later
+		advance(0);
+		assertEquals(1, plugin.count);
+		advance(20);
+		assertEquals(2, plugin.count);
+		assertEquals(2, scheduledMethod.getRuns());
+	}
+
+	@Test
+	public void testWrapAround() throws Exception
+	{
+		// 20 seconds is 1000 buckets, so the method goes round the wheel once before it is due
+		schedule("slow");
+		advance(0);
+
+		for (int i = 0; i < 999; ++i)
+		{
+			advance(20);
+		}
+		assertEquals(0, plugin.slow);
+
+		advance(20);
+		assertEquals(1, plugin.slow);
+
+		// a stall of more than one rotation still finds the method
+		advance(30_000);
+		assertEquals(2, plugin.slow);
+	}
+
+	@Test
+	public void testSkipOverlap() throws Exception
+	{
+		ScheduledMethod scheduledMethod = schedule("async");
+		advance(0);
+
+		advance(100);
+		assertEquals(1, tasks.size());
+
+		// the previous run hasn't finished yet
+		advance(100);
+		assertEquals(1, tasks.size());
+		assertEquals(1, scheduledMethod.getSkipped());
+
+		tasks.remove(0).run();
+		assertEquals(1, plugin.async);
+
+		advance(100);
+		assertEquals(1, tasks.size());
+		tasks.remove(0).run();
+		assertEquals(2, plugin.async);
+		assertEquals(2, scheduledMethod.getRuns());
+		assertEquals(1, scheduledMethod.getSkipped());
+	}
+
+	private ScheduledMethod schedule(String name) throws NoSuchMethodException
+	{
+		Method method = TestPlugin.class.getMethod(name);
+		ScheduledMethod scheduledMethod = new ScheduledMethod(method.getAnnotation(Schedule.class), method, plugin);
+		scheduler.addScheduledMethod(scheduledMethod);
+		return scheduledMethod;
+	}
+
+	private void advance(long millis)
+	{
+		nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+		scheduler.tick();
+	}
+}
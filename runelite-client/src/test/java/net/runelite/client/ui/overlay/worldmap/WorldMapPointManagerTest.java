@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.worldmap;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.Collections;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class WorldMapPointManagerTest
+{
+	@Test
+	public void testQuery()
+	{
+		WorldMapPointManager manager = new WorldMapPointManager();
+
+		WorldMapPoint lumbridge = new WorldMapPoint(new WorldPoint(3222, 3218, 0), null);
+		WorldMapPoint varrock = new WorldMapPoint(new WorldPoint(3213, 3424, 0), null);
+		WorldMapPoint edge = new WorldMapPoint(new WorldPoint(2000, 2000, 0), null);
+		edge.setSnapToEdge(true);
+		WorldMapPoint draynor = new WorldMapPoint(new WorldPoint(3093, 3244, 0), null);
+
+		manager.add(lumbridge);
+		manager.add(varrock);
+		manager.add(edge);
+		manager.add(draynor);
+
+		assertEquals(Arrays.asList(lumbridge, edge, draynor),
+			manager.getWorldMapPoints(new Rectangle(3000, 3150, 300, 150)));
+		assertEquals(Arrays.asList(varrock, edge),
+			manager.getWorldMapPoints(new Rectangle(3200, 3400, 50, 50)));
+		assertEquals(Collections.singletonList(edge),
+			manager.getWorldMapPoints(new Rectangle(0, 0, 10, 10)));
+
+		manager.remove(lumbridge);
+		manager.removeIf(p -> p == edge);
+
+		assertEquals(Collections.singletonList(draynor),
+			manager.getWorldMapPoints(new Rectangle(3000, 3150, 300, 150)));
+	}
+}
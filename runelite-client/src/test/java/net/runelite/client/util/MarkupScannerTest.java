@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class MarkupScannerTest
+{
+	@Test
+	public void testTokens()
+	{
+		MarkupScanner scanner = new MarkupScanner("<col=ff0000>Zezima<img=2><br>a < b");
+
+		assertEquals(MarkupScanner.Token.TAG, scanner.next());
+		assertEquals(0, scanner.getStart());
+		assertEquals(12, scanner.getEnd());
+
+		assertEquals(MarkupScanner.Token.TEXT, scanner.next());
+		assertEquals(12, scanner.getStart());
+		assertEquals(18, scanner.getEnd());
+
+		assertEquals(MarkupScanner.Token.TAG, scanner.next());
+		assertEquals(18, scanner.getStart());
+		assertEquals(25, scanner.getEnd());
+
+		assertEquals(MarkupScanner.Token.TAG, scanner.next());
+		assertEquals(25, scanner.getStart());
+		assertEquals(29, scanner.getEnd());
+
+		// an unclosed < is text
+		assertEquals(MarkupScanner.Token.TEXT, scanner.next());
+		assertEquals(29, scanner.getStart());
+		assertEquals(34, scanner.getEnd());
+
+		assertEquals(MarkupScanner.Token.END, scanner.next());
+	}
+
+	@Test
+	public void testTagEnd()
+	{
+		assertEquals(6, MarkupScanner.tagEnd("</col>", 0));
+		assertEquals(5, MarkupScanner.tagEnd("<a<b>", 0));
+		assertEquals(-1, MarkupScanner.tagEnd("a < b", 2));
+		assertEquals(-1, MarkupScanner.tagEnd("<br>", 1));
+	}
+}
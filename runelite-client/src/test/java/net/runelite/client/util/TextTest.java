@@ -24,11 +24,16 @@
  */
 package net.runelite.client.util;
 
+import com.google.common.base.CharMatcher;
+import java.util.Random;
+import java.util.regex.Pattern;
 import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class TextTest
 {
+	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
+
 	@Test
 	public void removeTags()
 	{
@@ -42,4 +47,63 @@ public class TextTest
 		assertEquals("Remove no tags", Text.removeTags("Remove no tags"));
 	}
 
+	@Test
+	public void standardize()
+	{
+		assertEquals("zezima", Text.standardize("<img=2>Zezima\u00A0"));
+		assertEquals("lynx titan", Text.standardize(" Lynx\u00A0Titan "));
+		assertEquals("already standard", Text.standardize("already standard"));
+	}
+
+	@Test
+	public void toJagexName()
+	{
+		assertEquals("Lynx Titan", Text.toJagexName("Lynx\u00A0Titan"));
+		assertEquals("Lynx Titan", Text.toJagexName("_Lynx_-_Titan-"));
+		assertEquals("Lynx Titan", Text.toJagexName("Lynx_\u00E9_Titan"));
+		assertEquals("Zezima", Text.toJagexName("Zezima"));
+	}
+
+	@Test
+	public void sanitizeMultilineText()
+	{
+		assertEquals("Abyssal whip", Text.sanitizeMultilineText("<col=ff9040>Abyssal<br>whip"));
+		assertEquals("Well-known text", Text.sanitizeMultilineText("Well-<br>known <br> text"));
+		assertEquals("a b", Text.sanitizeMultilineText("a  <br><br>  b"));
+	}
+
+	@Test
+	public void matchesRegex()
+	{
+		final char[] alphabet = {'<', '>', '-', '_', ' ', '\u00A0', '\u00E9', '\t', 'b', 'r', 'c', 'o', 'l', '=', 'A'};
+		final Random random = new Random(42);
+
+		for (int n = 0; n < 10_000; ++n)
+		{
+			StringBuilder sb = new StringBuilder();
+			int length = random.nextInt(24);
+			for (int i = 0; i < length; ++i)
+			{
+				if (random.nextInt(8) == 0)
+				{
+					sb.append("<br>");
+				}
+				else
+				{
+					sb.append(alphabet[random.nextInt(alphabet.length)]);
+				}
+			}
+
+			String str = sb.toString();
+			String removeTags = TAG_REGEXP.matcher(str).replaceAll("");
+			assertEquals(str, removeTags, Text.removeTags(str));
+			assertEquals(str, removeTags.replace('\u00A0', ' ').trim().toLowerCase(), Text.standardize(str));
+			assertEquals(str, CharMatcher.ascii().retainFrom(str.replace('\u00A0', ' ')).replaceAll("[_-]+", " ").trim(),
+				Text.toJagexName(str));
+			assertEquals(str, TAG_REGEXP.matcher(str
+				.replaceAll("-<br>", "-")
+				.replaceAll("<br>", " ")
+				.replaceAll("[ ]+", " ")).replaceAll(""), Text.sanitizeMultilineText(str));
+		}
+	}
 }
@@ -29,17 +29,22 @@ import java.util.EnumSet;
 import java.util.List;
 import javax.annotation.Nullable;
 import javax.inject.Named;
+import net.runelite.api.Actor;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.ClanMember;
+import net.runelite.api.DecorativeObject;
 import net.runelite.api.Friend;
+import net.runelite.api.GameObject;
 import net.runelite.api.GameState;
 import net.runelite.api.GrandExchangeOffer;
 import net.runelite.api.GraphicsObject;
+import net.runelite.api.GroundObject;
 import net.runelite.api.HashTable;
 import net.runelite.api.HintArrowType;
 import net.runelite.api.Ignore;
 import net.runelite.api.IndexDataBase;
 import net.runelite.api.IndexedSprite;
+import net.runelite.api.Item;
 import net.runelite.api.InventoryID;
 import net.runelite.api.MenuAction;
 import static net.runelite.api.MenuAction.PLAYER_EIGTH_OPTION;
@@ -64,6 +69,7 @@ import net.runelite.api.SpritePixels;
 import net.runelite.api.Tile;
 import net.runelite.api.VarPlayer;
 import net.runelite.api.Varbits;
+import net.runelite.api.WallObject;
 import net.runelite.api.WidgetNode;
 import net.runelite.api.WorldType;
 import net.runelite.api.coords.LocalPoint;
@@ -84,6 +90,7 @@ import net.runelite.api.events.PlayerDespawned;
 import net.runelite.api.events.PlayerMenuOptionsChanged;
 import net.runelite.api.events.PlayerSpawned;
 import net.runelite.api.events.ResizeableChanged;
+import net.runelite.api.events.SceneObjectsLoaded;
 import net.runelite.api.events.UsernameChanged;
 import net.runelite.api.events.VarbitChanged;
 import net.runelite.api.events.WidgetLoaded;
@@ -163,6 +170,9 @@ public abstract class RSClientMixin implements RSClient
 	@Inject
 	private static RSItem lastItemDespawn;
 
+	@Inject
+	private static GameState oldGameState;
+
 	@Inject
 	private boolean gpu;
 
@@ -587,6 +597,132 @@ public abstract class RSClientMixin implements RSClient
 		oldMenuEntryCount = count;
 	}
 
+	@Inject
+	@Override
+	public int getMenuEntryCount()
+	{
+		return getMenuOptionCount();
+	}
+
+	@Inject
+	@Override
+	public String getMenuEntryOption(int idx)
+	{
+		return getMenuOptions()[idx];
+	}
+
+	@Inject
+	@Override
+	public void setMenuEntryOption(int idx, String option)
+	{
+		getMenuOptions()[idx] = option;
+	}
+
+	@Inject
+	@Override
+	public String getMenuEntryTarget(int idx)
+	{
+		return getMenuTargets()[idx];
+	}
+
+	@Inject
+	@Override
+	public void setMenuEntryTarget(int idx, String target)
+	{
+		getMenuTargets()[idx] = target;
+	}
+
+	@Inject
+	@Override
+	public int getMenuEntryIdentifier(int idx)
+	{
+		return getMenuIdentifiers()[idx];
+	}
+
+	@Inject
+	@Override
+	public int getMenuEntryType(int idx)
+	{
+		return getMenuTypes()[idx];
+	}
+
+	@Inject
+	@Override
+	public int getMenuEntryParam0(int idx)
+	{
+		return getMenuActionParams0()[idx];
+	}
+
+	@Inject
+	@Override
+	public int getMenuEntryParam1(int idx)
+	{
+		return getMenuActionParams1()[idx];
+	}
+
+	@Inject
+	@Override
+	public void swapMenuEntries(int i, int j)
+	{
+		if (i == j)
+		{
+			return;
+		}
+
+		String[] menuOptions = getMenuOptions();
+		String[] menuTargets = getMenuTargets();
+		int[] menuIdentifiers = getMenuIdentifiers();
+		int[] menuTypes = getMenuTypes();
+		int[] params0 = getMenuActionParams0();
+		int[] params1 = getMenuActionParams1();
+
+		String option = menuOptions[i];
+		menuOptions[i] = menuOptions[j];
+		menuOptions[j] = option;
+
+		String target = menuTargets[i];
+		menuTargets[i] = menuTargets[j];
+		menuTargets[j] = target;
+
+		int identifier = menuIdentifiers[i];
+		menuIdentifiers[i] = menuIdentifiers[j];
+		menuIdentifiers[j] = identifier;
+
+		int type = menuTypes[i];
+		menuTypes[i] = menuTypes[j];
+		menuTypes[j] = type;
+
+		int param0 = params0[i];
+		params0[i] = params0[j];
+		params0[j] = param0;
+
+		int param1 = params1[i];
+		params1[i] = params1[j];
+		params1[j] = param1;
+	}
+
+	@Inject
+	@Override
+	public void removeMenuEntry(int idx)
+	{
+		int count = getMenuOptionCount();
+		if (idx < 0 || idx >= count)
+		{
+			return;
+		}
+
+		int length = count - idx - 1;
+		System.arraycopy(getMenuOptions(), idx + 1, getMenuOptions(), idx, length);
+		System.arraycopy(getMenuTargets(), idx + 1, getMenuTargets(), idx, length);
+		System.arraycopy(getMenuIdentifiers(), idx + 1, getMenuIdentifiers(), idx, length);
+		System.arraycopy(getMenuTypes(), idx + 1, getMenuTypes(), idx, length);
+		System.arraycopy(getMenuActionParams0(), idx + 1, getMenuActionParams0(), idx, length);
+		System.arraycopy(getMenuActionParams1(), idx + 1, getMenuActionParams1(), idx, length);
+
+		setMenuOptionCount(count - 1);
+		oldMenuEntryCount = count - 1;
+	}
+
 	@FieldHook("menuOptionCount")
 	@Inject
 	public static void onMenuOptionsChanged(int idx)
@@ -915,9 +1051,110 @@ public abstract class RSClientMixin implements RSClient
 	@Inject
 	public static void gameStateChanged(int idx)
 	{
+		GameState gameState = client.getGameState();
+		GameState previous = oldGameState;
+		oldGameState = gameState;
+
 		GameStateChanged gameStateChange = new GameStateChanged();
-		gameStateChange.setGameState(client.getGameState());
+		gameStateChange.setGameState(gameState);
 		client.getCallbacks().post(gameStateChange);
+
+		if (previous == GameState.LOADING && gameState == GameState.LOGGED_IN
+			&& client.getCallbacks().hasSubscribers(SceneObjectsLoaded.class))
+		{
+			postSceneObjectsLoaded();
+		}
+	}
+
+	@Inject
+	private static void postSceneObjectsLoaded()
+	{
+		List<Tile> gameObjectTiles = new ArrayList<Tile>();
+		List<GameObject> gameObjects = new ArrayList<GameObject>();
+		List<Tile> wallObjectTiles = new ArrayList<Tile>();
+		List<WallObject> wallObjects = new ArrayList<WallObject>();
+		List<Tile> decorativeObjectTiles = new ArrayList<Tile>();
+		List<DecorativeObject> decorativeObjects = new ArrayList<DecorativeObject>();
+		List<Tile> groundObjectTiles = new ArrayList<Tile>();
+		List<GroundObject> groundObjects = new ArrayList<GroundObject>();
+		List<Tile> itemTiles = new ArrayList<Tile>();
+		List<Item> items = new ArrayList<Item>();
+
+		for (Tile[][] plane : client.getScene().getTiles())
+		{
+			for (Tile[] row : plane)
+			{
+				for (Tile tile : row)
+				{
+					if (tile == null)
+					{
+						continue;
+					}
+
+					Point location = tile.getSceneLocation();
+					for (GameObject gameObject : tile.getGameObjects())
+					{
+						// Characters are also in the scene as game objects, skip those like the spawn events do
+						if (gameObject == null || gameObject.getRenderable() instanceof Actor)
+						{
+							continue;
+						}
+
+						// Objects larger than one tile are on each tile they cover, only report them once
+						Point min = gameObject.getSceneMinLocation();
+						if (min.getX() != location.getX() || min.getY() != location.getY())
+						{
+							continue;
+						}
+
+						gameObjectTiles.add(tile);
+						gameObjects.add(gameObject);
+					}
+
+					if (tile.getWallObject() != null)
+					{
+						wallObjectTiles.add(tile);
+						wallObjects.add(tile.getWallObject());
+					}
+
+					if (tile.getDecorativeObject() != null)
+					{
+						decorativeObjectTiles.add(tile);
+						decorativeObjects.add(tile.getDecorativeObject());
+					}
+
+					if (tile.getGroundObject() != null)
+					{
+						groundObjectTiles.add(tile);
+						groundObjects.add(tile.getGroundObject());
+					}
+
+					List<Item> groundItems = tile.getGroundItems();
+					if (groundItems != null)
+					{
+						for (Item item : groundItems)
+						{
+							itemTiles.add(tile);
+							items.add(item);
+						}
+					}
+				}
+			}
+		}
+
+		SceneObjectsLoaded sceneObjectsLoaded = new SceneObjectsLoaded(
+			gameObjectTiles.toArray(new Tile[gameObjectTiles.size()]),
+			gameObjects.toArray(new GameObject[gameObjects.size()]),
+			wallObjectTiles.toArray(new Tile[wallObjectTiles.size()]),
+			wallObjects.toArray(new WallObject[wallObjects.size()]),
+			decorativeObjectTiles.toArray(new Tile[decorativeObjectTiles.size()]),
+			decorativeObjects.toArray(new DecorativeObject[decorativeObjects.size()]),
+			groundObjectTiles.toArray(new Tile[groundObjectTiles.size()]),
+			groundObjects.toArray(new GroundObject[groundObjects.size()]),
+			itemTiles.toArray(new Tile[itemTiles.size()]),
+			items.toArray(new Item[items.size()])
+		);
+		client.getCallbacks().post(sceneObjectsLoaded);
 	}
 
 
@@ -991,6 +1228,7 @@ public abstract class RSClientMixin implements RSClient
 	public static void settingsChanged(int idx)
 	{
 		VarbitChanged varbitChanged = new VarbitChanged();
+		varbitChanged.setIndex(idx);
 		client.getCallbacks().post(varbitChanged);
 	}
 
@@ -123,25 +123,34 @@ public abstract class RSTileMixin implements RSTile
 
 		if (current == null && previous != null)
 		{
-			WallObjectDespawned wallObjectDespawned = new WallObjectDespawned();
-			wallObjectDespawned.setTile(this);
-			wallObjectDespawned.setWallObject(previous);
-			client.getCallbacks().post(wallObjectDespawned);
+			if (client.getCallbacks().hasSubscribers(WallObjectDespawned.class))
+			{
+				WallObjectDespawned wallObjectDespawned = new WallObjectDespawned();
+				wallObjectDespawned.setTile(this);
+				wallObjectDespawned.setWallObject(previous);
+				client.getCallbacks().post(wallObjectDespawned);
+			}
 		}
 		else if (current != null && previous == null)
 		{
-			WallObjectSpawned wallObjectSpawned = new WallObjectSpawned();
-			wallObjectSpawned.setTile(this);
-			wallObjectSpawned.setWallObject(current);
-			client.getCallbacks().post(wallObjectSpawned);
+			if (client.getCallbacks().hasSubscribers(WallObjectSpawned.class))
+			{
+				WallObjectSpawned wallObjectSpawned = new WallObjectSpawned();
+				wallObjectSpawned.setTile(this);
+				wallObjectSpawned.setWallObject(current);
+				client.getCallbacks().post(wallObjectSpawned);
+			}
 		}
 		else if (current != null && previous != null)
 		{
-			WallObjectChanged wallObjectChanged = new WallObjectChanged();
-			wallObjectChanged.setTile(this);
-			wallObjectChanged.setPrevious(previous);
-			wallObjectChanged.setWallObject(current);
-			client.getCallbacks().post(wallObjectChanged);
+			if (client.getCallbacks().hasSubscribers(WallObjectChanged.class))
+			{
+				WallObjectChanged wallObjectChanged = new WallObjectChanged();
+				wallObjectChanged.setTile(this);
+				wallObjectChanged.setPrevious(previous);
+				wallObjectChanged.setWallObject(current);
+				client.getCallbacks().post(wallObjectChanged);
+			}
 		}
 	}
 
@@ -156,25 +165,34 @@ public abstract class RSTileMixin implements RSTile
 
 		if (current == null && previous != null)
 		{
-			DecorativeObjectDespawned decorativeObjectDespawned = new DecorativeObjectDespawned();
-			decorativeObjectDespawned.setTile(this);
-			decorativeObjectDespawned.setDecorativeObject(previous);
-			client.getCallbacks().post(decorativeObjectDespawned);
+			if (client.getCallbacks().hasSubscribers(DecorativeObjectDespawned.class))
+			{
+				DecorativeObjectDespawned decorativeObjectDespawned = new DecorativeObjectDespawned();
+				decorativeObjectDespawned.setTile(this);
+				decorativeObjectDespawned.setDecorativeObject(previous);
+				client.getCallbacks().post(decorativeObjectDespawned);
+			}
 		}
 		else if (current != null && previous == null)
 		{
-			DecorativeObjectSpawned decorativeObjectSpawned = new DecorativeObjectSpawned();
-			decorativeObjectSpawned.setTile(this);
-			decorativeObjectSpawned.setDecorativeObject(current);
-			client.getCallbacks().post(decorativeObjectSpawned);
+			if (client.getCallbacks().hasSubscribers(DecorativeObjectSpawned.class))
+			{
+				DecorativeObjectSpawned decorativeObjectSpawned = new DecorativeObjectSpawned();
+				decorativeObjectSpawned.setTile(this);
+				decorativeObjectSpawned.setDecorativeObject(current);
+				client.getCallbacks().post(decorativeObjectSpawned);
+			}
 		}
 		else if (current != null && previous != null)
 		{
-			DecorativeObjectChanged decorativeObjectChanged = new DecorativeObjectChanged();
-			decorativeObjectChanged.setTile(this);
-			decorativeObjectChanged.setPrevious(previous);
-			decorativeObjectChanged.setDecorativeObject(current);
-			client.getCallbacks().post(decorativeObjectChanged);
+			if (client.getCallbacks().hasSubscribers(DecorativeObjectChanged.class))
+			{
+				DecorativeObjectChanged decorativeObjectChanged = new DecorativeObjectChanged();
+				decorativeObjectChanged.setTile(this);
+				decorativeObjectChanged.setPrevious(previous);
+				decorativeObjectChanged.setDecorativeObject(current);
+				client.getCallbacks().post(decorativeObjectChanged);
+			}
 		}
 	}
 
@@ -189,25 +207,34 @@ public abstract class RSTileMixin implements RSTile
 
 		if (current == null && previous != null)
 		{
-			GroundObjectDespawned groundObjectDespawned = new GroundObjectDespawned();
-			groundObjectDespawned.setTile(this);
-			groundObjectDespawned.setGroundObject(previous);
-			client.getCallbacks().post(groundObjectDespawned);
+			if (client.getCallbacks().hasSubscribers(GroundObjectDespawned.class))
+			{
+				GroundObjectDespawned groundObjectDespawned = new GroundObjectDespawned();
+				groundObjectDespawned.setTile(this);
+				groundObjectDespawned.setGroundObject(previous);
+				client.getCallbacks().post(groundObjectDespawned);
+			}
 		}
 		else if (current != null && previous == null)
 		{
-			GroundObjectSpawned groundObjectSpawned = new GroundObjectSpawned();
-			groundObjectSpawned.setTile(this);
-			groundObjectSpawned.setGroundObject(current);
-			client.getCallbacks().post(groundObjectSpawned);
+			if (client.getCallbacks().hasSubscribers(GroundObjectSpawned.class))
+			{
+				GroundObjectSpawned groundObjectSpawned = new GroundObjectSpawned();
+				groundObjectSpawned.setTile(this);
+				groundObjectSpawned.setGroundObject(current);
+				client.getCallbacks().post(groundObjectSpawned);
+			}
 		}
 		else if (current != null && previous != null)
 		{
-			GroundObjectChanged groundObjectChanged = new GroundObjectChanged();
-			groundObjectChanged.setTile(this);
-			groundObjectChanged.setPrevious(previous);
-			groundObjectChanged.setGroundObject(current);
-			client.getCallbacks().post(groundObjectChanged);
+			if (client.getCallbacks().hasSubscribers(GroundObjectChanged.class))
+			{
+				GroundObjectChanged groundObjectChanged = new GroundObjectChanged();
+				groundObjectChanged.setTile(this);
+				groundObjectChanged.setPrevious(previous);
+				groundObjectChanged.setGroundObject(current);
+				client.getCallbacks().post(groundObjectChanged);
+			}
 		}
 	}
 
@@ -251,25 +278,34 @@ public abstract class RSTileMixin implements RSTile
 		{
 			if (current == null && previous != null)
 			{
-				GameObjectDespawned gameObjectDespawned = new GameObjectDespawned();
-				gameObjectDespawned.setTile(this);
-				gameObjectDespawned.setGameObject(previous);
-				client.getCallbacks().post(gameObjectDespawned);
+				if (client.getCallbacks().hasSubscribers(GameObjectDespawned.class))
+				{
+					GameObjectDespawned gameObjectDespawned = new GameObjectDespawned();
+					gameObjectDespawned.setTile(this);
+					gameObjectDespawned.setGameObject(previous);
+					client.getCallbacks().post(gameObjectDespawned);
+				}
 			}
 			else if (current != null && previous == null)
 			{
-				GameObjectSpawned gameObjectSpawned = new GameObjectSpawned();
-				gameObjectSpawned.setTile(this);
-				gameObjectSpawned.setGameObject(current);
-				client.getCallbacks().post(gameObjectSpawned);
+				if (client.getCallbacks().hasSubscribers(GameObjectSpawned.class))
+				{
+					GameObjectSpawned gameObjectSpawned = new GameObjectSpawned();
+					gameObjectSpawned.setTile(this);
+					gameObjectSpawned.setGameObject(current);
+					client.getCallbacks().post(gameObjectSpawned);
+				}
 			}
 			else if (current != null && previous != null)
 			{
-				GameObjectChanged gameObjectsChanged = new GameObjectChanged();
-				gameObjectsChanged.setTile(this);
-				gameObjectsChanged.setPrevious(previous);
-				gameObjectsChanged.setGameObject(current);
-				client.getCallbacks().post(gameObjectsChanged);
+				if (client.getCallbacks().hasSubscribers(GameObjectChanged.class))
+				{
+					GameObjectChanged gameObjectsChanged = new GameObjectChanged();
+					gameObjectsChanged.setTile(this);
+					gameObjectsChanged.setPrevious(previous);
+					gameObjectsChanged.setGameObject(current);
+					client.getCallbacks().post(gameObjectsChanged);
+				}
 			}
 		}
 	}
@@ -295,8 +331,11 @@ public abstract class RSTileMixin implements RSTile
 				for (RSNode cur = head.getNext(); cur != head; cur = cur.getNext())
 				{
 					RSItem item = (RSItem) cur;
-					ItemDespawned itemDespawned = new ItemDespawned(this, item);
-					client.getCallbacks().post(itemDespawned);
+					if (client.getCallbacks().hasSubscribers(ItemDespawned.class))
+					{
+						ItemDespawned itemDespawned = new ItemDespawned(this, item);
+						client.getCallbacks().post(itemDespawned);
+					}
 				}
 			}
 			lastGroundItems[z][x][y] = newQueue;
@@ -311,7 +350,7 @@ public abstract class RSTileMixin implements RSTile
 		RSItemLayer itemLayer = (RSItemLayer) getItemLayer();
 		if (itemLayer == null)
 		{
-			if (lastUnlink != null)
+			if (lastUnlink != null && client.getCallbacks().hasSubscribers(ItemDespawned.class))
 			{
 				ItemDespawned itemDespawned = new ItemDespawned(this, lastUnlink);
 				client.getCallbacks().post(itemDespawned);
@@ -323,7 +362,7 @@ public abstract class RSTileMixin implements RSTile
 
 		if (itemDeque == null)
 		{
-			if (lastUnlink != null)
+			if (lastUnlink != null && client.getCallbacks().hasSubscribers(ItemDespawned.class))
 			{
 				ItemDespawned itemDespawned = new ItemDespawned(this, lastUnlink);
 				client.getCallbacks().post(itemDespawned);
@@ -356,7 +395,8 @@ public abstract class RSTileMixin implements RSTile
 			}
 		}
 
-		if (lastUnlink != null && lastUnlink != previous && lastUnlink != next)
+		if (lastUnlink != null && lastUnlink != previous && lastUnlink != next
+			&& client.getCallbacks().hasSubscribers(ItemDespawned.class))
 		{
 			ItemDespawned itemDespawned = new ItemDespawned(this, lastUnlink);
 			client.getCallbacks().post(itemDespawned);
@@ -367,14 +407,19 @@ public abstract class RSTileMixin implements RSTile
 			return; // already seen this spawn, or no new item
 		}
 
+		boolean postSpawns = client.getCallbacks().hasSubscribers(ItemSpawned.class);
+
 		do
 		{
 			RSItem item = (RSItem) current;
 			item.setX(x);
 			item.setY(y);
 
-			ItemSpawned itemSpawned = new ItemSpawned(this, item);
-			client.getCallbacks().post(itemSpawned);
+			if (postSpawns)
+			{
+				ItemSpawned itemSpawned = new ItemSpawned(this, item);
+				client.getCallbacks().post(itemSpawned);
+			}
 
 			current = forward ? current.getNext() : current.getPrevious();
 
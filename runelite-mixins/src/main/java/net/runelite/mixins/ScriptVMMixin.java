@@ -28,6 +28,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.runelite.api.Client;
 import net.runelite.api.events.ScriptCallbackEvent;
+import net.runelite.api.hooks.ScriptProfiler;
 import net.runelite.api.mixins.Copy;
 import net.runelite.api.mixins.Inject;
 import net.runelite.api.mixins.Mixin;
@@ -54,10 +55,22 @@ public abstract class ScriptVMMixin implements RSClient
 	@Inject
 	private static int currentScriptPC;
 
+	@Inject
+	private static final Pattern DEBUG_FORMAT = Pattern.compile("%(.)");
+
+	@Inject
+	private static ScriptProfiler scriptProfiler;
+
+	// Number of instructions executed, used by the script profiler
+	@Inject
+	private static int scriptInstructions;
+
 	// Call is injected into runScript by the ScriptVM raw injector
 	@Inject
 	static boolean vmExecuteOpcode(int opcode)
 	{
+		++scriptInstructions;
+
 		if (opcode == RUNELITE_EXECUTE)
 		{
 			assert currentScript.getInstructions()[currentScriptPC] == RUNELITE_EXECUTE;
@@ -72,7 +85,7 @@ public abstract class ScriptVMMixin implements RSClient
 
 				String fmt = client.getStringStack()[--stringStackSize];
 				StringBuffer out = new StringBuffer();
-				Matcher m = Pattern.compile("%(.)").matcher(fmt);
+				Matcher m = DEBUG_FORMAT.matcher(fmt);
 				for (; m.find(); )
 				{
 					m.appendReplacement(out, "");
@@ -101,12 +114,39 @@ public abstract class ScriptVMMixin implements RSClient
 			ScriptCallbackEvent event = new ScriptCallbackEvent();
 			event.setScript(currentScript);
 			event.setEventName(stringOp);
-			client.getCallbacks().post(event);
+			client.getCallbacks().scriptCallback(getCallbackId(currentScript, currentScriptPC, stringOp), event);
 			return true;
 		}
 		return false;
 	}
 
+	/**
+	 * Gets the id of the callback at pc, resolving the name the first time the instruction runs
+	 */
+	@Inject
+	static int getCallbackId(RSScript script, int pc, String name)
+	{
+		String[] names = script.getCallbackNames();
+		int[] ids = script.getCallbackIds();
+		if (names == null)
+		{
+			int length = script.getInstructions().length;
+			names = new String[length];
+			ids = new int[length];
+			script.setCallbacks(names, ids);
+		}
+
+		// The name is almost always a constant pushed by the previous instruction,
+		// so this is the same string each time the instruction runs
+		if (names[pc] != name && !name.equals(names[pc]))
+		{
+			ids[pc] = client.getCallbacks().getScriptCallbackId(name);
+			names[pc] = name;
+		}
+
+		return ids[pc];
+	}
+
 	@Copy("runScript")
 	static void rs$runScript(RSScriptEvent event, int maxExecutionTime)
 	{
@@ -115,6 +155,30 @@ public abstract class ScriptVMMixin implements RSClient
 
 	@Replace("runScript")
 	static void rl$runScript(RSScriptEvent event, int maxExecutionTime)
+	{
+		ScriptProfiler profiler = scriptProfiler;
+		if (profiler == null)
+		{
+			executeScript(event, maxExecutionTime);
+			return;
+		}
+
+		Object[] arguments = event.getArguments();
+		int scriptId = arguments != null && arguments.length > 0 && arguments[0] instanceof Integer ? (Integer) arguments[0] : -1;
+		int instructions = scriptInstructions;
+		long start = System.nanoTime();
+		try
+		{
+			executeScript(event, maxExecutionTime);
+		}
+		finally
+		{
+			profiler.scriptExecuted(scriptId, System.nanoTime() - start, scriptInstructions - instructions);
+		}
+	}
+
+	@Inject
+	static void executeScript(RSScriptEvent event, int maxExecutionTime)
 	{
 		Object[] arguments = event.getArguments();
 		if (arguments != null && arguments.length > 0 && arguments[0] instanceof JavaScriptCallback)
@@ -140,6 +204,13 @@ public abstract class ScriptVMMixin implements RSClient
 		}
 	}
 
+	@Inject
+	@Override
+	public void setScriptProfiler(ScriptProfiler profiler)
+	{
+		scriptProfiler = profiler;
+	}
+
 	@Inject
 	@Override
 	public void runScript(int id, Object... args)
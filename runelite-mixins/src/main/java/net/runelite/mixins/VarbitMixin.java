@@ -95,6 +95,29 @@ public abstract class VarbitMixin implements RSClient
 		return (value >> lsb) & mask;
 	}
 
+	@Inject
+	@Override
+	public int getVarbitVarpIndex(int varbitId)
+	{
+		assert client.isClientThread();
+
+		RSVarbit v = varbitCache.getIfPresent(varbitId);
+		if (v == null)
+		{
+			client.getVarbit(varbitId); // load varbit into cache
+			RSNodeCache varbits = client.getVarbitCache();
+			v = (RSVarbit) varbits.get(varbitId); // get from cache
+			varbitCache.put(varbitId, v);
+		}
+
+		if (v.getIndex() == 0 && v.getLeastSignificantBit() == 0 && v.getMostSignificantBit() == 0)
+		{
+			throw new IndexOutOfBoundsException("Varbit " + varbitId + " does not exist");
+		}
+
+		return v.getIndex();
+	}
+
 	@Inject
 	@Override
 	public void setVarbitValue(int[] varps, int varbitId, int value)
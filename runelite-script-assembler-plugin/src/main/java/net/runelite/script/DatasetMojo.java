@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.script;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Compiles the client's bundled json datasets into sorted binary tables,
+ * so the client can load them without parsing json or boxing.
+ */
+@Mojo(
+	name = "compile-datasets",
+	defaultPhase = LifecyclePhase.GENERATE_RESOURCES
+)
+public class DatasetMojo extends AbstractMojo
+{
+	private static final Gson GSON = new Gson();
+
+	@Parameter(required = true)
+	private File itemVariations;
+
+	@Parameter(required = true)
+	private File npcHealth;
+
+	@Parameter(required = true)
+	private File outputDirectory;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		outputDirectory.mkdirs();
+
+		try
+		{
+			compileItemVariations();
+			compileNpcHealth();
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error compiling datasets", ex);
+		}
+	}
+
+	/**
+	 * Writes the variation to base item mappings as two int arrays, sorted by variation id
+	 */
+	private void compileItemVariations() throws IOException
+	{
+		final Type type = new TypeToken<Map<String, List<Integer>>>()
+		{
+		}.getType();
+		final Map<String, List<Integer>> variations = read(itemVariations, type);
+
+		final TreeMap<Integer, Integer> mappings = new TreeMap<>();
+		for (List<Integer> value : variations.values())
+		{
+			final Iterator<Integer> iterator = value.iterator();
+			final int base = iterator.next();
+
+			while (iterator.hasNext())
+			{
+				mappings.put(iterator.next(), base);
+			}
+		}
+
+		try (DataOutputStream out = open("item_variations.bin"))
+		{
+			out.writeInt(mappings.size());
+			for (int variation : mappings.keySet())
+			{
+				out.writeInt(variation);
+			}
+			for (int base : mappings.values())
+			{
+				out.writeInt(base);
+			}
+		}
+
+		getLog().info("Compiled " + mappings.size() + " item variations");
+	}
+
+	/**
+	 * Writes the npc health table as a sorted array of name and combat level hashes
+	 * followed by the health of each. Names aren't stored, so the build fails if two
+	 * entries hash the same.
+	 */
+	private void compileNpcHealth() throws IOException, MojoFailureException
+	{
+		final Type type = new TypeToken<Map<String, Integer>>()
+		{
+		}.getType();
+		final Map<String, Integer> health = read(npcHealth, type);
+
+		final TreeMap<Long, Integer> table = new TreeMap<>();
+		for (Map.Entry<String, Integer> entry : health.entrySet())
+		{
+			final String key = entry.getKey();
+			final int idx = key.lastIndexOf('_');
+			if (idx == -1)
+			{
+				throw new MojoFailureException("npc health key " + key + " has no combat level");
+			}
+
+			final long hash = npcHash(key.substring(0, idx), Integer.parseInt(key.substring(idx + 1)));
+			if (table.put(hash, entry.getValue()) != null)
+			{
+				throw new MojoFailureException("npc health key " + key + " collides with another key");
+			}
+		}
+
+		try (DataOutputStream out = open("npc_health.bin"))
+		{
+			out.writeInt(table.size());
+			for (long hash : table.keySet())
+			{
+				out.writeLong(hash);
+			}
+			for (int hp : table.values())
+			{
+				out.writeInt(hp);
+			}
+		}
+
+		getLog().info("Compiled " + table.size() + " npc health entries");
+	}
+
+	/**
+	 * 64 bit FNV-1a of the name's chars followed by the combat level. This must match
+	 * the hash in the client's NPCManager.
+	 */
+	private static long npcHash(String name, int combatLevel)
+	{
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < name.length(); ++i)
+		{
+			hash ^= name.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= combatLevel;
+		hash *= 0x100000001b3L;
+		return hash;
+	}
+
+	private <T> T read(File file, Type type) throws IOException
+	{
+		try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))
+		{
+			return GSON.fromJson(reader, type);
+		}
+	}
+
+	private DataOutputStream open(String name) throws IOException
+	{
+		return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(new File(outputDirectory, name))));
+	}
+}
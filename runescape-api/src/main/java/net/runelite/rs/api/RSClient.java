@@ -428,6 +428,14 @@ public interface RSClient extends RSGameEngine, Client
 	@Override
 	RSIndexDataBase getIndexScripts();
 
+	@Import("indexConfigs")
+	@Override
+	RSIndexDataBase getIndexConfig();
+
+	@Import("indexModels")
+	@Override
+	RSIndexDataBase getIndexModels();
+
 	@Import("widgetFlags")
 	@Override
 	RSHashTable getWidgetFlags();
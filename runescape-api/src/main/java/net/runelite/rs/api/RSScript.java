@@ -36,4 +36,10 @@ public interface RSScript extends Script, RSCacheableNode
 	@Import("instructions")
 	@Override
 	int[] getInstructions();
+
+	String[] getCallbackNames();
+
+	int[] getCallbackIds();
+
+	void setCallbacks(String[] names, int[] ids);
 }